@@ -0,0 +1,104 @@
+package com.ahamo.dummy.demo2.content;
+
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.service.BulkEntityWriter;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import com.ahamo.dummy.demo2.content.service.FaqService;
+import com.ahamo.dummy.demo2.content.service.NewsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 組み込みH2に投入したデータに対する getNews / getFaqs のサービス呼び出しを計測する。
+ * {@code snapshot=false} はDB経路、{@code true} はメモリ上のスナップショット経路。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContentReadBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    @Param({"20000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private NewsService newsService;
+    private FaqService faqService;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ContentServiceApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.ahamo.dummy.demo2=WARN",
+                "content.snapshot.enabled=" + snapshot)
+            .run();
+
+        BulkEntityWriter writer = context.getBean(BulkEntityWriter.class);
+        SampleContent content = new SampleContent(42);
+        List<Object> chunk = new ArrayList<>();
+        for (int i = 1; i <= rows; i++) {
+            News news = content.news(i);
+            news.setId(null);
+            Faq faq = content.faq(i);
+            faq.setId(null);
+            chunk.add(news);
+            chunk.add(faq);
+            if (chunk.size() >= 1000) {
+                writer.persistAll(chunk);
+                chunk.clear();
+            }
+        }
+        writer.persistAll(chunk);
+
+        if (snapshot) {
+            context.getBean(ContentSnapshotService.class).refresh();
+        }
+        newsService = context.getBean(NewsService.class);
+        faqService = context.getBean(FaqService.class);
+        pages = Math.max(1, rows / PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<NewsResponse> getNews() {
+        return newsService.getNews(ThreadLocalRandom.current().nextInt(pages) + 1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<FaqResponse> getFaqs() {
+        return faqService.getFaqs(ThreadLocalRandom.current().nextInt(pages) + 1, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ahamo.dummy.demo2.content.controller;
+
+import com.ahamo.dummy.demo2.content.SampleContent;
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一覧APIが返す {@code Map.of} 形式のレスポンスを、Spring Boot と同じ設定の ObjectMapper で直列化する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListEnvelopeSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int limit;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> faqEnvelope;
+    private Map<String, Object> newsEnvelope;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        SampleContent content = new SampleContent(42);
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+        List<FaqResponse> faqs = new ArrayList<>(limit);
+        List<NewsResponse> news = new ArrayList<>(limit);
+        for (int i = 1; i <= limit; i++) {
+            Faq faq = content.faq(i);
+            faqs.add(FaqResponse.builder()
+                .id(faq.getId().toString())
+                .question(faq.getQuestion())
+                .answer(faq.getAnswer())
+                .category(faq.getCategory().getDisplayName())
+                .createdAt(faq.getCreatedAt())
+                .updatedAt(faq.getUpdatedAt())
+                .isActive(faq.getIsActive())
+                .build());
+            News item = content.news(i);
+            news.add(new NewsResponse(
+                item.getId().toString(),
+                item.getTitle(),
+                item.getContent(),
+                item.getLink(),
+                item.getPublishedDate().format(dateFormatter),
+                item.getPublishedDate(),
+                item.getCreatedAt(),
+                item.getUpdatedAt(),
+                item.getIsPublished()));
+        }
+
+        faqEnvelope = Map.of(
+            "faqs", faqs,
+            "total", 1000L,
+            "page", 1,
+            "limit", limit,
+            "category", "all"
+        );
+        newsEnvelope = Map.of(
+            "news", news,
+            "total", 1000L,
+            "page", 1,
+            "limit", limit
+        );
+    }
+
+    @Benchmark
+    public byte[] faqListEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(faqEnvelope);
+    }
+
+    @Benchmark
+    public byte[] newsListEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(newsEnvelope);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.SampleContent;
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConvertToResponseBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private FaqService faqService;
+    private NewsService newsService;
+    private Faq faq;
+    private News news;
+
+    @Setup
+    public void setUp() {
+        faqService = new FaqService(null, null, null, null, null);
+        newsService = new NewsService(null, null, null, null);
+        SampleContent content = new SampleContent(42);
+        faq = content.faq(1);
+        news = content.news(1);
+    }
+
+    @Benchmark
+    public FaqResponse faqConvertToResponse() {
+        return faqService.convertToResponse(faq);
+    }
+
+    @Benchmark
+    public NewsResponse newsConvertToResponse() {
+        return newsService.convertToResponse(news);
+    }
+
+    /**
+     * newsConvertToResponse のうち日付整形が占める割合を見るための基準値。
+     */
+    @Benchmark
+    public String newsPublishedDateFormat() {
+        return news.getPublishedDate().format(DATE_FORMATTER);
+    }
+}
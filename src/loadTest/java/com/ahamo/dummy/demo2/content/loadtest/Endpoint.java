@@ -0,0 +1,31 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 負荷試験で叩くエンドポイント。{@code key} は {@code loadTest.mix} とレポートで使う名前。
+ */
+public enum Endpoint {
+    CAMPAIGNS("campaigns"),
+    NEWS("news"),
+    FAQ("faq"),
+    FAQ_BY_ID("faqById"),
+    CONTACT("contact");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Endpoint of(String key) {
+        return Arrays.stream(values())
+            .filter(endpoint -> endpoint.key.equalsIgnoreCase(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("不明なエンドポイントです: " + key));
+    }
+}
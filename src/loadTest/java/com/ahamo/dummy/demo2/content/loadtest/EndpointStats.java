@@ -0,0 +1,69 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * エンドポイント単位のレイテンシ（マイクロ秒）とエラー内訳。HTTPクライアントのスレッドから並行に記録される。
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void recordSuccess(long latencyMicros) {
+        recorder.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        successes.increment();
+    }
+
+    /**
+     * 失敗したリクエストもレイテンシに含める（タイムアウトやエラー応答の遅さを隠さないため）。
+     */
+    void recordError(String reason, long latencyMicros) {
+        recorder.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 送信しなかったリクエスト（同時実行数の上限超過）はレイテンシを持たないためエラー件数のみ数える。
+     */
+    void recordDropped() {
+        errors.computeIfAbsent("dropped", key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 前回呼び出し以降の計測結果を返し、カウンタをリセットする。ウォームアップ結果の破棄にも使う。
+     */
+    Snapshot takeSnapshot() {
+        Histogram histogram = recorder.getIntervalHistogram();
+        long successCount = successes.sumThenReset();
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((reason, count) -> {
+            long value = count.sumThenReset();
+            if (value > 0) {
+                errorCounts.put(reason, value);
+            }
+        });
+        return new Snapshot(histogram, successCount, errorCounts);
+    }
+
+    record Snapshot(Histogram histogram, long successes, Map<String, Long> errors) {
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        long requests() {
+            return successes + errorCount();
+        }
+    }
+}
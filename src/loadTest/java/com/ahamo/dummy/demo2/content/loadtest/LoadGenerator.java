@@ -0,0 +1,221 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import com.ahamo.dummy.demo2.content.SampleContent;
+import com.ahamo.dummy.demo2.content.entity.Contact;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 固定レートのオープンモデルでリクエストを発行する負荷生成器。
+ * 応答を待たずに予定時刻どおり送信し、レイテンシは予定時刻から計測するため
+ * サーバーが詰まった時間もそのまま結果に現れる（coordinated omission を避ける）。
+ * リクエストの組み立ては送信スレッド1本で行い、応答の記録のみHTTPクライアントのスレッドで行う。
+ */
+@Slf4j
+final class LoadGenerator implements AutoCloseable {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final List<Long> faqIds;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final SampleContent contactContent;
+
+    LoadGenerator(URI baseUri, LoadTestSettings settings, List<Long> faqIds, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.faqIds = faqIds;
+        this.objectMapper = objectMapper;
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+        this.contactContent = new SampleContent(settings.seed() + 1);
+
+        Map<Endpoint, Integer> weighted = new LinkedHashMap<>();
+        settings.mix().forEach((endpoint, weight) -> {
+            if (weight > 0) {
+                weighted.put(endpoint, weight);
+            }
+        });
+        this.endpoints = weighted.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weighted.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (Endpoint endpoint : endpoints) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    /**
+     * 指定時間だけ負荷をかけ、未完了のリクエストが捌けるのを待ってから計測結果を返す。
+     */
+    Map<Endpoint, EndpointStats.Snapshot> run(Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long sequence = 0; ; sequence++) {
+            long intended = start + sequence * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pick(), intended);
+        }
+
+        awaitInFlight();
+
+        Map<Endpoint, EndpointStats.Snapshot> result = new EnumMap<>(Endpoint.class);
+        stats.forEach((endpoint, endpointStats) -> result.put(endpoint, endpointStats.takeSnapshot()));
+        return result;
+    }
+
+    private void send(Endpoint endpoint, long intendedNanos) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+            inFlight.decrementAndGet();
+            endpointStats.recordDropped();
+            return;
+        }
+
+        HttpRequest request;
+        try {
+            request = request(endpoint);
+        } catch (JsonProcessingException e) {
+            inFlight.decrementAndGet();
+            throw new IllegalStateException(e);
+        }
+
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, failure) -> {
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+                inFlight.decrementAndGet();
+                if (failure != null) {
+                    endpointStats.recordError(failureReason(failure), latencyMicros);
+                } else if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                    endpointStats.recordSuccess(latencyMicros);
+                } else {
+                    endpointStats.recordError("http_" + response.statusCode(), latencyMicros);
+                }
+            });
+    }
+
+    private HttpRequest request(Endpoint endpoint) throws JsonProcessingException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case CAMPAIGNS -> get("/campaigns?page=" + page(settings.campaigns()) + "&limit=" + PAGE_SIZE);
+            case NEWS -> get("/news?page=" + page(settings.news()) + "&limit=" + PAGE_SIZE);
+            case FAQ -> {
+                Faq.FaqCategory[] categories = Faq.FaqCategory.values();
+                if (random.nextBoolean()) {
+                    yield get("/faq?page=" + page(settings.faqs()) + "&limit=" + PAGE_SIZE);
+                }
+                Faq.FaqCategory category = categories[random.nextInt(categories.length)];
+                yield get("/faq?category=" + category.getCode() + "&page="
+                    + page(settings.faqs() / categories.length) + "&limit=" + PAGE_SIZE);
+            }
+            case FAQ_BY_ID -> get("/faq/" + faqIds.get(random.nextInt(faqIds.size())));
+            case CONTACT -> HttpRequest.newBuilder(baseUri.resolve("/contact"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(contactBody())))
+                .build();
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+    }
+
+    /**
+     * 実際の閲覧と同様に先頭ページへ偏らせる（一様乱数の二乗で後方ほど出にくくする）。
+     */
+    private static int page(int rows) {
+        int pages = Math.max(1, (rows + PAGE_SIZE - 1) / PAGE_SIZE);
+        double r = ThreadLocalRandom.current().nextDouble();
+        return 1 + (int) (pages * r * r);
+    }
+
+    private Map<String, Object> contactBody() {
+        Contact.ContactCategory[] categories = Contact.ContactCategory.values();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", contactContent.text(2, 10));
+        body.put("email", "loadtest+" + ThreadLocalRandom.current().nextInt(1_000_000) + "@example.com");
+        body.put("phone", "090-0000-0000");
+        body.put("category", categories[ThreadLocalRandom.current().nextInt(categories.length)].name());
+        body.put("message", contactContent.text(50, 500));
+        return body;
+    }
+
+    private Endpoint pick() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (inFlight.get() > 0) {
+            log.warn("未完了のリクエストが残っています: inFlight={}", inFlight.get());
+        }
+    }
+
+    private static String failureReason(Throwable failure) {
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 計測結果をエンドポイント別と全体で集計し、コンソールとJSONに出力する。レイテンシはミリ秒。
+ */
+final class LoadTestReport {
+
+    private final LoadTestSettings settings;
+    private final Map<String, Object> summary = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestSettings settings, Map<Endpoint, EndpointStats.Snapshot> snapshots) {
+        this.settings = settings;
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram total = null;
+        long successes = 0;
+        Map<String, Long> errors = new TreeMap<>();
+        for (Map.Entry<Endpoint, EndpointStats.Snapshot> entry : snapshots.entrySet()) {
+            EndpointStats.Snapshot snapshot = entry.getValue();
+            endpoints.put(entry.getKey().getKey(), describe(snapshot.histogram(), snapshot.successes(), snapshot.errors()));
+            if (total == null) {
+                total = snapshot.histogram().copy();
+            } else {
+                total.add(snapshot.histogram());
+            }
+            successes += snapshot.successes();
+            snapshot.errors().forEach((reason, count) -> errors.merge(reason, count, Long::sum));
+        }
+
+        summary.put("settings", settings);
+        summary.put("total", describe(total != null ? total : new Histogram(3), successes, errors));
+        summary.put("endpoints", endpoints);
+    }
+
+    private Map<String, Object> describe(Histogram histogram, long successes, Map<String, Long> errors) {
+        long errorCount = errors.values().stream().mapToLong(Long::longValue).sum();
+        long requests = successes + errorCount;
+        double seconds = settings.duration().toMillis() / 1000.0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", requests);
+        result.put("throughputPerSecond", round(successes / seconds));
+        result.put("errorRate", requests > 0 ? round((double) errorCount / requests) : 0.0);
+        result.put("errors", errors);
+        result.put("p50", millis(histogram.getValueAtPercentile(50)));
+        result.put("p99", millis(histogram.getValueAtPercentile(99)));
+        result.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        result.put("max", millis(histogram.getMaxValue()));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    String format() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-10s %9s %10s %8s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "rps", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        ((Map<String, Object>) summary.get("endpoints"))
+            .forEach((name, values) -> appendRow(builder, name, (Map<String, Object>) values));
+        appendRow(builder, "total", (Map<String, Object>) summary.get("total"));
+        return builder.toString();
+    }
+
+    private static void appendRow(StringBuilder builder, String name, Map<String, Object> values) {
+        builder.append(String.format("%-10s %9d %10.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+            name,
+            (Long) values.get("requests"),
+            (Double) values.get("throughputPerSecond"),
+            (Double) values.get("errorRate") * 100,
+            (Double) values.get("p50"),
+            (Double) values.get("p99"),
+            (Double) values.get("p999"),
+            (Double) values.get("max")));
+    }
+
+    void write(ObjectMapper objectMapper, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.copy()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .writeValue(path.toFile(), summary);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import com.ahamo.dummy.demo2.content.ContentServiceApplication;
+import com.ahamo.dummy.demo2.content.service.BulkEntityWriter;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験のエントリポイント。{@code ./gradlew loadTest} から起動する。
+ * データセット生成 → アプリ起動 → ウォームアップ → 計測 → レポート出力の順に実行する。
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        log.info("負荷試験設定: {}", settings);
+
+        PostgreSQLContainer<?> postgres = null;
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0",
+            "spring.jpa.show-sql=false",
+            "logging.level.com.ahamo.dummy.demo2=WARN",
+            "logging.level.org.springframework.security=WARN"));
+        if ("postgres".equals(settings.database())) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+            postgres.start();
+            properties.add("spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+            properties.add("spring.datasource.username=" + postgres.getUsername());
+            properties.add("spring.datasource.password=" + postgres.getPassword());
+            properties.add("spring.datasource.driver-class-name=org.postgresql.Driver");
+        } else if (!"h2".equals(settings.database())) {
+            throw new IllegalArgumentException("loadTest.database は h2 または postgres を指定してください");
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ContentServiceApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .profiles("test")
+            .properties(properties.toArray(new String[0]))
+            .run(args);
+        try {
+            long started = System.nanoTime();
+            SyntheticDataset dataset = SyntheticDataset.populate(context.getBean(BulkEntityWriter.class), settings);
+            context.getBean(ContentSnapshotService.class).refresh();
+            log.info("データセット投入完了: campaigns={}, news={}, faqs={}, elapsedMs={}",
+                settings.campaigns(), settings.news(), settings.faqs(), (System.nanoTime() - started) / 1_000_000);
+
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            try (LoadGenerator generator = new LoadGenerator(baseUri, settings, dataset.getFaqIds(), objectMapper)) {
+                if (!settings.warmup().isZero()) {
+                    log.info("ウォームアップ開始: {}", settings.warmup());
+                    generator.run(settings.warmup());
+                }
+                log.info("計測開始: rate={}/s, duration={}", settings.rate(), settings.duration());
+                Map<Endpoint, EndpointStats.Snapshot> snapshots = generator.run(settings.duration());
+
+                LoadTestReport report = new LoadTestReport(settings, snapshots);
+                System.out.print(report.format());
+                report.write(objectMapper, settings.report());
+                log.info("レポート出力: {}", settings.report().toAbsolutePath());
+            }
+        } finally {
+            context.close();
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 負荷試験の設定。すべて {@code -PloadTest.xxx}（システムプロパティ {@code loadTest.xxx}）で上書きできる。
+ *
+ * @param database     {@code h2}（組み込み）または {@code postgres}（Testcontainers）
+ * @param mix          エンドポイントごとの重み（例: {@code campaigns=20,news=30,faq=30,faqById=15,contact=5}）
+ * @param maxInFlight  同時に未完了でいられるリクエスト数。超過分は送信せずエラーとして数える
+ */
+public record LoadTestSettings(
+    String database,
+    int campaigns,
+    int news,
+    int faqs,
+    long seed,
+    int rate,
+    Duration warmup,
+    Duration duration,
+    int maxInFlight,
+    Map<Endpoint, Integer> mix,
+    Path report
+) {
+
+    private static final String DEFAULT_MIX = "campaigns=20,news=30,faq=30,faqById=15,contact=5";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            property("database", "h2").toLowerCase(Locale.ROOT),
+            Integer.parseInt(property("campaigns", "500")),
+            Integer.parseInt(property("news", "5000")),
+            Integer.parseInt(property("faqs", "2000")),
+            Long.parseLong(property("seed", "42")),
+            Integer.parseInt(property("rate", "200")),
+            Duration.parse(property("warmup", "PT10S")),
+            Duration.parse(property("duration", "PT60S")),
+            Integer.parseInt(property("maxInFlight", "1000")),
+            parseMix(property("mix", DEFAULT_MIX)),
+            Path.of(property("report", "build/reports/load-test/report.json")));
+    }
+
+    public LoadTestSettings {
+        if (rate < 1) {
+            throw new IllegalArgumentException("loadTest.rate は1以上を指定してください");
+        }
+        if (campaigns < 1 || news < 1 || faqs < 1) {
+            throw new IllegalArgumentException("データ件数は1以上を指定してください");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() < 1) {
+            throw new IllegalArgumentException("loadTest.mix の重みの合計は1以上を指定してください");
+        }
+    }
+
+    static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadTest.mix の形式が不正です: " + entry);
+            }
+            mix.put(Endpoint.of(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+}
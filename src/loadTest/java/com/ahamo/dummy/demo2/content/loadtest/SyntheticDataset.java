@@ -0,0 +1,64 @@
+package com.ahamo.dummy.demo2.content.loadtest;
+
+import com.ahamo.dummy.demo2.content.SampleContent;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.service.BulkEntityWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 設定件数分のキャンペーン・お知らせ・FAQ を生成して投入する。
+ * FAQ カテゴリは {@link SampleContent} が id で巡回させるため全カテゴリに均等に分布する。
+ */
+final class SyntheticDataset {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final List<Long> faqIds;
+
+    private SyntheticDataset(List<Long> faqIds) {
+        this.faqIds = faqIds;
+    }
+
+    List<Long> getFaqIds() {
+        return faqIds;
+    }
+
+    static SyntheticDataset populate(BulkEntityWriter writer, LoadTestSettings settings) {
+        SampleContent content = new SampleContent(settings.seed());
+        List<Object> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        for (long i = 1; i <= settings.campaigns(); i++) {
+            Campaign campaign = content.campaign(i);
+            campaign.setId(null);
+            add(writer, chunk, campaign);
+        }
+        for (long i = 1; i <= settings.news(); i++) {
+            News news = content.news(i);
+            news.setId(null);
+            add(writer, chunk, news);
+        }
+        List<Faq> faqs = new ArrayList<>(settings.faqs());
+        for (long i = 1; i <= settings.faqs(); i++) {
+            Faq faq = content.faq(i);
+            faq.setId(null);
+            faqs.add(faq);
+            add(writer, chunk, faq);
+        }
+        writer.persistAll(chunk);
+
+        // persist 時に採番された id を /faq/{id} の対象にする
+        return new SyntheticDataset(faqs.stream().map(Faq::getId).toList());
+    }
+
+    private static void add(BulkEntityWriter writer, List<Object> chunk, Object entity) {
+        chunk.add(entity);
+        if (chunk.size() >= CHUNK_SIZE) {
+            writer.persistAll(chunk);
+            chunk.clear();
+        }
+    }
+}
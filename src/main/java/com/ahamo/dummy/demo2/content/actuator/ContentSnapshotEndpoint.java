@@ -0,0 +1,43 @@
+package com.ahamo.dummy.demo2.content.actuator;
+
+import com.ahamo.dummy.demo2.content.service.ContentSnapshot;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "contentsnapshot")
+@RequiredArgsConstructor
+public class ContentSnapshotEndpoint {
+
+    private final ContentSnapshotService contentSnapshotService;
+
+    @ReadOperation
+    public Map<String, Object> snapshot() {
+        return describe(contentSnapshotService.getSnapshot());
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        return describe(contentSnapshotService.refresh());
+    }
+
+    private Map<String, Object> describe(ContentSnapshot snapshot) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("loaded", snapshot != null);
+        if (snapshot != null) {
+            result.put("version", Long.toHexString(snapshot.getVersion()));
+            result.put("loadedAt", snapshot.getLoadedAt());
+            result.put("campaigns", snapshot.getCampaignCount());
+            result.put("news", snapshot.getNewsCount());
+            result.put("faqs", snapshot.getFaqCount());
+        }
+        return result;
+    }
+}
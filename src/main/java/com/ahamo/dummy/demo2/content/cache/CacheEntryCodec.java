@@ -0,0 +1,48 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * キャッシュエントリを書き込み日時付きのバイト列へ変換する。
+ * 共有ストアから読み込む値は、このアプリケーションのDTOと Spring Data のページ型、JDK の型に限定する。
+ */
+final class CacheEntryCodec {
+
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+        "maxdepth=20;com.ahamo.dummy.demo2.content.dto.*;org.springframework.data.domain.*;"
+            + "org.springframework.cache.support.NullValue;java.lang.*;java.util.*;java.time.*;!*");
+
+    private CacheEntryCodec() {
+    }
+
+    record Decoded(long writtenAt, Object value) {
+    }
+
+    static byte[] encode(long writtenAt, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(writtenAt);
+            try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeObject(value);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static Decoded decode(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            long writtenAt = in.readLong();
+            try (ObjectInputStream objects = new ObjectInputStream(in)) {
+                objects.setObjectInputFilter(FILTER);
+                return new Decoded(writtenAt, objects.readObject());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import com.ahamo.dummy.demo2.content.service.ContentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+
+/**
+ * コンテンツの変更をサービス層のキャッシュへ反映する。
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * スナップショットが差し替わった（公開状態の切り替えを含む）時点で全件破棄する。
+     */
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        log.debug("コンテンツ変更によりキャッシュを破棄: version={}", Long.toHexString(event.version()));
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        cacheManager.getCacheNames().forEach(this::invalidate);
+    }
+
+    public void invalidate(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.StringJoiner;
+
+/**
+ * {@code メソッド名:引数1:引数2...} 形式の文字列キーを生成する。
+ * 共有キャッシュにはキーを文字列として保存するため、ノード間で同じ表現になるようにしている。
+ */
+public class ContentCacheKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        StringJoiner key = new StringJoiner(":");
+        key.add(method.getName());
+        for (Object param : params) {
+            key.add(String.valueOf(param));
+        }
+        return key.toString();
+    }
+}
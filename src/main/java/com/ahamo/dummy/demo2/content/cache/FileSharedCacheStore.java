@@ -0,0 +1,183 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * ディレクトリにエントリを1ファイルずつ保存する {@link SharedCacheStore}。
+ * 共有ボリュームを各ノードでマウントすれば、ノード間でキャッシュを共有できる。
+ * ファイルは {@code <directory>/<cacheName>/<キーのSHA-256>} に、先頭8バイトの有効期限（epoch ミリ秒）に続けて値を書き込む。
+ * 期限切れのファイルは読んだときのほか、{@code content.cache.shared.sweep-interval} ごとの掃除で削除する。
+ */
+@Slf4j
+public class FileSharedCacheStore implements SharedCacheStore {
+
+    /** 書き込み中のプロセスが落ちて残った一時ファイルとみなすまでの時間 */
+    private static final Duration TEMP_FILE_MAX_AGE = Duration.ofHours(1);
+
+    private final Path directory;
+
+    public FileSharedCacheStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        Path file = file(cacheName, key);
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        if (content.length < Long.BYTES || System.currentTimeMillis() >= buffer.getLong()) {
+            delete(file);
+            return null;
+        }
+        byte[] value = new byte[buffer.remaining()];
+        buffer.get(value);
+        return value;
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        Path file = file(cacheName, key);
+        ByteBuffer content = ByteBuffer.allocate(Long.BYTES + value.length)
+            .putLong(System.currentTimeMillis() + ttl.toMillis())
+            .put(value);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, content.array());
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        delete(file(cacheName, key));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        Path cacheDirectory = directory.resolve(cacheName);
+        if (!Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory)) {
+            for (Path file : files) {
+                delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 期限切れのファイルと、取り残された一時ファイルを削除する。
+     * {@link #get} は読まれたキーのファイルしか削除しないため、検索語のように一度しか使われないキーはここで回収する。
+     *
+     * @return 削除したファイル数
+     */
+    @Scheduled(
+        fixedDelayString = "${content.cache.shared.sweep-interval:PT10M}",
+        initialDelayString = "${content.cache.shared.sweep-interval:PT10M}"
+    )
+    public int sweepExpired() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        try (DirectoryStream<Path> caches = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path cacheDirectory : caches) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDirectory)) {
+                    for (Path file : files) {
+                        if (isExpired(file, now)) {
+                            delete(file);
+                            removed++;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (removed > 0) {
+            log.debug("共有キャッシュの期限切れファイルを削除しました: directory={}, count={}", directory, removed);
+        }
+        return removed;
+    }
+
+    private static boolean isExpired(Path file, long now) throws IOException {
+        try {
+            if (file.getFileName().toString().endsWith(".tmp")) {
+                return now - Files.getLastModifiedTime(file).toMillis() >= TEMP_FILE_MAX_AGE.toMillis();
+            }
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (header.hasRemaining() && channel.read(header) >= 0) {
+                    // 先頭の有効期限だけを読む
+                }
+            }
+            return header.hasRemaining() || now >= header.flip().getLong();
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private Path file(String cacheName, String key) {
+        return directory.resolve(cacheName).resolve(hash(key));
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import java.time.Duration;
+
+/**
+ * ノード間で共有する二次キャッシュの保存先。値はシリアライズ済みのバイト列で受け渡す。
+ * 実装は例外を投げてもよく、呼び出し側はその場合ローカルキャッシュと元データだけで応答する。
+ */
+public interface SharedCacheStore {
+
+    byte[] get(String cacheName, String key);
+
+    /**
+     * @param ttl この時間を過ぎたら保存先が破棄してよい
+     */
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
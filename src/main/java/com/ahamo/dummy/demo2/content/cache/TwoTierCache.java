@@ -0,0 +1,301 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine のローカルキャッシュ（L1）と {@link SharedCacheStore}（L2）を重ねた Spring Cache 実装。
+ * <p>
+ * 書き込みから ttl を過ぎたエントリは、さらに staleTtl の間は古い値をそのまま返し、
+ * 呼び出し元の値の読み込み処理をキーごとに1つだけ非同期で実行して差し替える。
+ * 同期的に読み込むのは、L1・L2 のどちらにもエントリがない場合だけである。
+ * L1 の上限はシリアライズ後のサイズで管理する。
+ * 非同期の読み直しには {@code @Cacheable(sync = true)} で渡される値の読み込み処理を使うため、
+ * このキャッシュを使うメソッドは {@code sync = true} を指定する。
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    /** シリアライズできない値の重み（バイト相当） */
+    private static final int UNKNOWN_WEIGHT = 4096;
+
+    private final String name;
+    private final long ttlMillis;
+    private final Duration lifetime;
+    private final Cache<Object, CacheEntry> local;
+    private final SharedCacheStore shared;
+    private final Executor refreshExecutor;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * @param shared L2 を使わない場合は {@code null}
+     */
+    public TwoTierCache(String name, Duration ttl, Duration staleTtl, DataSize maxSize,
+                        SharedCacheStore shared, Executor refreshExecutor) {
+        super(true);
+        this.name = name;
+        this.ttlMillis = ttl.toMillis();
+        this.lifetime = ttl.plus(staleTtl);
+        this.shared = shared;
+        this.refreshExecutor = refreshExecutor;
+        this.local = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Object key, CacheEntry entry) -> entry.weight())
+            .expireAfter(new Expiry<Object, CacheEntry>() {
+                @Override
+                public long expireAfterCreate(Object key, CacheEntry entry, long currentTime) {
+                    return remainingNanos(entry);
+                }
+
+                @Override
+                public long expireAfterUpdate(Object key, CacheEntry entry, long currentTime, long currentDuration) {
+                    return remainingNanos(entry);
+                }
+
+                @Override
+                public long expireAfterRead(Object key, CacheEntry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    /**
+     * 値の読み込み処理を伴わない参照。期限切れ（stale）の値も返すが、読み直しは行わない。
+     */
+    @Override
+    protected Object lookup(Object key) {
+        CacheEntry entry = local.getIfPresent(key);
+        if (entry == null) {
+            entry = readShared(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            local.put(key, entry);
+        }
+        (isFresh(entry) ? hits : staleHits).increment();
+        return entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEntry entry = local.getIfPresent(key);
+        if (entry == null) {
+            misses.increment();
+            long startedGeneration = generation.get();
+            entry = local.get(key, k -> loadEntry(k, valueLoader, startedGeneration));
+            if (generation.get() != startedGeneration) {
+                // 読み込み中に破棄された場合は変更前のデータの可能性があるため、呼び出し元へ返すだけにする
+                local.asMap().remove(key, entry);
+            }
+        } else if (isFresh(entry)) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+        }
+        if (!isFresh(entry)) {
+            refresh(key, valueLoader);
+        }
+        return (T) fromStoreValue(entry.value());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, write(key, toStoreValue(value), generation.get()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        local.invalidate(key);
+        if (shared != null) {
+            try {
+                shared.evict(name, String.valueOf(key));
+            } catch (RuntimeException e) {
+                log.warn("共有キャッシュからの削除に失敗しました: cache={}, key={}", name, key, e);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        local.invalidateAll();
+        if (shared != null) {
+            try {
+                shared.clear(name);
+            } catch (RuntimeException e) {
+                log.warn("共有キャッシュの破棄に失敗しました: cache={}", name, e);
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getSharedHitCount() {
+        return sharedHits.sum();
+    }
+
+    public long getSharedMissCount() {
+        return sharedMisses.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return local.stats().evictionCount();
+    }
+
+    public long size() {
+        return local.estimatedSize();
+    }
+
+    private CacheEntry loadEntry(Object key, Callable<?> valueLoader, long startedGeneration) {
+        CacheEntry cached = readShared(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return write(key, toStoreValue(valueLoader.call()), startedGeneration);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * 読み直し中に {@link #evict} / {@link #clear} された場合は、変更前のデータの可能性があるため結果を捨てる。
+     * 世代の確認と L1・L2 への書き込みはキーの {@code compute} 内で行い、確認後に破棄された値を書き戻さないようにする。
+     * {@link #evict} / {@link #clear} は世代を進めてから L1 を破棄するため、その破棄は書き込みの完了を待つ。
+     */
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long startedGeneration = generation.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = toStoreValue(valueLoader.call());
+                    local.asMap().compute(key, (k, current) ->
+                        generation.get() == startedGeneration ? write(k, value, startedGeneration) : current);
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    log.warn("キャッシュの読み直しに失敗しました。期限まで古い値を返します: cache={}, key={}", name, key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private CacheEntry readShared(Object key) {
+        if (shared == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = shared.get(name, String.valueOf(key));
+            if (bytes != null) {
+                CacheEntryCodec.Decoded decoded = CacheEntryCodec.decode(bytes);
+                CacheEntry entry = new CacheEntry(decoded.value(), decoded.writtenAt(), bytes.length);
+                if (remainingNanos(entry) > 0) {
+                    sharedHits.increment();
+                    return entry;
+                }
+            }
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            log.warn("共有キャッシュの読み込みに失敗しました: cache={}, key={}", name, key, e);
+        }
+        sharedMisses.increment();
+        return null;
+    }
+
+    /**
+     * 読み込み開始後に {@link #evict} / {@link #clear} された値は L2 へ書き込まない。
+     * 確認と書き込みの間に破棄された場合に備え、書き込み後にも世代を確認して L2 から取り除く。
+     */
+    private CacheEntry write(Object key, Object storeValue, long startedGeneration) {
+        long writtenAt = System.currentTimeMillis();
+        byte[] bytes;
+        try {
+            bytes = CacheEntryCodec.encode(writtenAt, storeValue);
+        } catch (IOException e) {
+            log.debug("キャッシュ値をシリアライズできないため共有キャッシュには保存しません: cache={}, key={}", name, key, e);
+            return new CacheEntry(storeValue, writtenAt, UNKNOWN_WEIGHT);
+        }
+        // null は共有しても読み込みを省ける効果が小さく、存在しないキーごとにファイルが増えるため L1 だけに置く
+        if (shared != null && storeValue != NullValue.INSTANCE && generation.get() == startedGeneration) {
+            try {
+                shared.put(name, String.valueOf(key), bytes, lifetime);
+                if (generation.get() != startedGeneration) {
+                    shared.evict(name, String.valueOf(key));
+                }
+            } catch (RuntimeException e) {
+                log.warn("共有キャッシュへの書き込みに失敗しました: cache={}, key={}", name, key, e);
+            }
+        }
+        return new CacheEntry(storeValue, writtenAt, bytes.length);
+    }
+
+    private boolean isFresh(CacheEntry entry) {
+        return System.currentTimeMillis() - entry.writtenAt() < ttlMillis;
+    }
+
+    private long remainingNanos(CacheEntry entry) {
+        long remainingMillis = entry.writtenAt() + lifetime.toMillis() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    private record CacheEntry(Object value, long writtenAt, int weight) {
+    }
+}
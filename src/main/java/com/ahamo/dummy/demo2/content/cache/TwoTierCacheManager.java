@@ -0,0 +1,36 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 起動時に作成した {@link TwoTierCache} だけを提供する。読み直し用のスレッドはこのマネージャーと共に停止する。
+ */
+public class TwoTierCacheManager extends AbstractCacheManager implements DisposableBean {
+
+    private final List<TwoTierCache> caches;
+    private final ExecutorService refreshExecutor;
+
+    public TwoTierCacheManager(List<TwoTierCache> caches, ExecutorService refreshExecutor) {
+        this.caches = List.copyOf(caches);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    protected Collection<TwoTierCache> loadCaches() {
+        return caches;
+    }
+
+    public List<TwoTierCache> getTwoTierCaches() {
+        return caches;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ahamo.dummy.demo2.content.coalescing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 同じキーの呼び出しが実行中であれば、その結果を待って共有する。
+ * 先行する呼び出しが timeout 以内に終わらない場合、待機側は自分で実行する。
+ */
+public class SingleFlight {
+
+    @FunctionalInterface
+    public interface Call {
+        Object execute() throws Throwable;
+    }
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(Duration timeout) {
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public Object execute(Object key, Call call) throws Throwable {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, created);
+        if (running == null) {
+            return lead(key, created, call);
+        }
+        try {
+            Object result = running.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            shared.increment();
+            return result;
+        } catch (ExecutionException e) {
+            shared.increment();
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return call.execute();
+        }
+    }
+
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object lead(Object key, CompletableFuture<Object> future, Call call) throws Throwable {
+        try {
+            Object result = call.execute();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+}
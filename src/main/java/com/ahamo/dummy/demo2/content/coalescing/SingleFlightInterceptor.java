@@ -0,0 +1,37 @@
+package com.ahamo.dummy.demo2.content.coalescing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 呼び出しを、メソッドと引数が同じ同時実行中の呼び出しとまとめる。
+ * 結果はスレッド間で共有されるため、管理対象のエンティティではなく DTO を返すサービスのメソッドに、
+ * トランザクション開始より外側のアドバイスとして適用する。
+ * 呼び出し元がすでにトランザクション内にいる場合は、そのトランザクションから見えるデータが必要なためまとめない。
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private final Supplier<SingleFlight> singleFlight;
+
+    public SingleFlightInterceptor(Supplier<SingleFlight> singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        return singleFlight.get().execute(new Key(invocation.getMethod(), Arrays.asList(invocation.getArguments())),
+            invocation::proceed);
+    }
+
+    private record Key(Method method, List<Object> arguments) {
+    }
+}
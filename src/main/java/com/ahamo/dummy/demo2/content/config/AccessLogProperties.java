@@ -0,0 +1,20 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 正常応答のアクセスログを出力する割合（0.0〜1.0）。5xx・例外・低速リクエストは常に出力する。
+     */
+    private double sampleRate = 0.01;
+
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,30 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.contact-ingestion")
+public class ContactIngestionProperties {
+
+    private Mode mode = Mode.SYNC;
+
+    private int queueCapacity = 10000;
+
+    private int batchSize = 200;
+
+    private Duration linger = Duration.ofMillis(50);
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+}
@@ -0,0 +1,18 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "content.contact-journal")
+public class ContactJournalProperties {
+
+    private boolean enabled = false;
+
+    private String directory = "data/contact-journal";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    private int replayBatchSize = 500;
+}
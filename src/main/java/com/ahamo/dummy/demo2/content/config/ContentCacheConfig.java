@@ -0,0 +1,112 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import com.ahamo.dummy.demo2.content.cache.ContentCacheInvalidator;
+import com.ahamo.dummy.demo2.content.cache.ContentCacheKeyGenerator;
+import com.ahamo.dummy.demo2.content.cache.FileSharedCacheStore;
+import com.ahamo.dummy.demo2.content.cache.InMemorySharedCacheStore;
+import com.ahamo.dummy.demo2.content.cache.SharedCacheStore;
+import com.ahamo.dummy.demo2.content.cache.TwoTierCache;
+import com.ahamo.dummy.demo2.content.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * キャンペーン・ニュース・FAQサービスの読み取りメソッドの結果を {@link TwoTierCache} に保持する。
+ * キャッシュ名はサービスの {@code @CacheConfig} と件数キャッシュのキーに合わせている。
+ * キャッシュの破棄は {@link ContentCacheInvalidator} と {@code ContentChangeListener} が行う。
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(ContentCacheProperties.class)
+@ConditionalOnProperty(prefix = "content.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ContentCacheConfig {
+
+    public static final List<String> CACHE_NAMES = List.of("campaigns", "news", "faqs");
+
+    @Bean
+    public TwoTierCacheManager cacheManager(ContentCacheProperties properties,
+                                            ObjectProvider<SharedCacheStore> sharedCacheStore) {
+        ExecutorService refreshExecutor = Executors.newFixedThreadPool(properties.getRefreshThreads(), task -> {
+            Thread thread = new Thread(task, "content-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        SharedCacheStore shared = sharedCacheStore.getIfAvailable();
+        List<TwoTierCache> caches = CACHE_NAMES.stream()
+            .map(name -> {
+                ContentCacheProperties.Spec spec = properties.spec(name);
+                return new TwoTierCache(name, spec.getTtl(), spec.getStaleTtl(), spec.getMaxSize(),
+                    shared, refreshExecutor);
+            })
+            .toList();
+        log.info("コンテンツキャッシュ初期化: caches={}, shared={}", CACHE_NAMES,
+            shared != null ? shared.getClass().getSimpleName() : "none");
+        return new TwoTierCacheManager(caches, refreshExecutor);
+    }
+
+    @Bean
+    public ContentCacheInvalidator contentCacheInvalidator(TwoTierCacheManager cacheManager) {
+        return new ContentCacheInvalidator(cacheManager);
+    }
+
+    @Bean
+    public ContentCacheKeyGenerator contentCacheKeyGenerator() {
+        return new ContentCacheKeyGenerator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "content.cache.shared", name = "type", havingValue = "memory")
+    public SharedCacheStore inMemorySharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "content.cache.shared", name = "type", havingValue = "file")
+    public SharedCacheStore fileSharedCacheStore(ContentCacheProperties properties) {
+        return new FileSharedCacheStore(Path.of(properties.getShared().getDirectory()));
+    }
+
+    @Bean
+    public MeterBinder contentCacheMetrics(TwoTierCacheManager cacheManager) {
+        return registry -> cacheManager.getTwoTierCaches().forEach(cache -> {
+            cacheGets(registry, "cache.gets", cache, "hit", TwoTierCache::getHitCount);
+            cacheGets(registry, "cache.gets", cache, "stale", TwoTierCache::getStaleHitCount);
+            cacheGets(registry, "cache.gets", cache, "miss", TwoTierCache::getMissCount);
+            cacheGets(registry, "content.cache.shared.gets", cache, "hit", TwoTierCache::getSharedHitCount);
+            cacheGets(registry, "content.cache.shared.gets", cache, "miss", TwoTierCache::getSharedMissCount);
+            FunctionCounter.builder("cache.evictions", cache, TwoTierCache::getEvictionCount)
+                .tag("cache", cache.getName())
+                .register(registry);
+            FunctionCounter.builder("content.cache.refresh.failures", cache, TwoTierCache::getRefreshFailureCount)
+                .tag("cache", cache.getName())
+                .register(registry);
+            Gauge.builder("cache.size", cache, TwoTierCache::size)
+                .tag("cache", cache.getName())
+                .register(registry);
+        });
+    }
+
+    private static void cacheGets(MeterRegistry registry, String name, TwoTierCache cache, String result,
+                                  ToDoubleFunction<TwoTierCache> count) {
+        FunctionCounter.builder(name, cache, count)
+            .tag("cache", cache.getName())
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "content.cache")
+public class ContentCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 期限切れエントリを裏で読み直すスレッド数
+     */
+    private int refreshThreads = 2;
+
+    /**
+     * キャッシュ名（campaigns / news / faqs）ごとの設定。指定のない項目は {@link Spec} の既定値を使う
+     */
+    private Map<String, Spec> specs = new HashMap<>();
+
+    private Shared shared = new Shared();
+
+    public Spec spec(String cacheName) {
+        return specs.getOrDefault(cacheName, new Spec());
+    }
+
+    @Data
+    public static class Spec {
+
+        /**
+         * この時間を過ぎたエントリは返却しつつ非同期で読み直す
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * ttl 経過後も古い値を返してよい時間。これも過ぎたエントリは破棄して同期的に読み込む
+         */
+        private Duration staleTtl = Duration.ofMinutes(5);
+
+        /**
+         * ローカルキャッシュの上限（シリアライズ後のサイズの合計）
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(32);
+    }
+
+    @Data
+    public static class Shared {
+
+        /**
+         * none（ローカルのみ） / memory（プロセス内、テスト用） / file（共有ディレクトリ）。
+         * 独自の {@code SharedCacheStore} Bean を登録する場合は none のままにする
+         */
+        private String type = "none";
+
+        private String directory = "data/content-cache";
+
+        /**
+         * type が file の場合に、期限切れのファイルを削除する間隔
+         */
+        private Duration sweepInterval = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.change-notify")
+public class ContentChangeNotifyProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 最初の通知を受けてから、まとめて反映するまでに後続の通知を待つ時間。
+     */
+    private Duration coalesceWindow = Duration.ofMillis(50);
+
+    /**
+     * 通知がない状態がこの時間続いた場合に接続の生存確認を行う。
+     */
+    private Duration idleCheckInterval = Duration.ofSeconds(10);
+
+    private Duration reconnectBackoff = Duration.ofSeconds(5);
+}
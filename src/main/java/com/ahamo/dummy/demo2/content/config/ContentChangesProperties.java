@@ -0,0 +1,27 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.changes")
+public class ContentChangesProperties {
+
+    /**
+     * 実行中のトランザクションがコミットする前の行を取りこぼさないよう、この時間より新しい変更は次回に回す。
+     * 更新日時・墓標の削除日時からコミットまでにかかりうる時間より長くする。
+     */
+    private Duration safetyLag = Duration.ofMinutes(1);
+
+    /**
+     * 1回の応答に含める行数の上限。超える分は継続トークン（hasMore）で続きを返す。
+     */
+    private int pageSize = 500;
+
+    /**
+     * 墓標の保持期間。これより古いトークンには全件（reset）を返す。
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+}
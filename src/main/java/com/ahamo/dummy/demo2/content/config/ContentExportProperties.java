@@ -0,0 +1,20 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.export")
+public class ContentExportProperties {
+
+    private int fetchSize = 500;
+
+    private int maxConcurrentExports = 2;
+
+    /**
+     * エクスポートのリクエストにだけ適用する非同期処理のタイムアウト。他のリクエストはコンテナの既定値のまま
+     */
+    private Duration requestTimeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,9 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ContentImportProperties.class)
+public class ContentImportConfig {
+}
@@ -0,0 +1,15 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "content.import")
+public class ContentImportProperties {
+
+    private int chunkSize = 500;
+
+    private int maxErrors = 1000;
+
+    private int maxConcurrentImports = 1;
+}
@@ -0,0 +1,100 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
+import com.ahamo.dummy.demo2.content.metrics.RepositoryMetricsInterceptor;
+import com.ahamo.dummy.demo2.content.metrics.TimedMappingJackson2HttpMessageConverter;
+import com.ahamo.dummy.demo2.content.service.ContentCountCache;
+import com.ahamo.dummy.demo2.content.web.ResponseBodyCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class ContentMetricsConfig {
+
+    /**
+     * Spring Data のリポジトリプロキシに計測用インターセプターを追加する。
+     * 組み込みの {@code spring.data.repository.invocations} は呼び出しごとにタグを生成するため無効にしている。
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<ContentMetrics> contentMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryMetricsInterceptor(
+                            contentMetrics.getObject(), repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder contentCountCacheMetrics(ContentCountCache contentCountCache) {
+        return registry -> {
+            cacheGets(registry, "content.count", "hit", contentCountCache, ContentCountCache::getHitCount);
+            cacheGets(registry, "content.count", "miss", contentCountCache, ContentCountCache::getMissCount);
+        };
+    }
+
+    private static <T> void cacheGets(MeterRegistry registry, String cache, String result,
+                                      T target, ToDoubleFunction<T> count) {
+        FunctionCounter.builder("cache.gets", target, count)
+            .tag("cache", cache)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletMetricsConfig {
+
+        /**
+         * Spring Boot 既定の Jackson コンバーターを置き換え、シリアライズ時間を記録する。
+         */
+        @Bean
+        public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+                ObjectMapper objectMapper, ContentMetrics contentMetrics) {
+            return new TimedMappingJackson2HttpMessageConverter(objectMapper, contentMetrics);
+        }
+
+        @Bean
+        public MeterBinder responseBodyCacheMetrics(ObjectProvider<ResponseBodyCache> responseBodyCache) {
+            return registry -> responseBodyCache.ifAvailable(cache -> {
+                cacheGets(registry, "content.response", "hit", cache, ResponseBodyCache::getHitCount);
+                cacheGets(registry, "content.response", "miss", cache, ResponseBodyCache::getMissCount);
+                Gauge.builder("cache.size", cache, ResponseBodyCache::size)
+                    .tag("cache", "content.response")
+                    .register(registry);
+            });
+        }
+
+        /**
+         * シリアライズ用タイマーをハンドラーのパターンごとに事前登録しておく。
+         */
+        @EventListener(ApplicationReadyEvent.class)
+        public void registerSerializationTimers(ApplicationReadyEvent event) {
+            RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+            ContentMetrics contentMetrics = event.getApplicationContext().getBean(ContentMetrics.class);
+            handlerMapping.getHandlerMethods().keySet()
+                .forEach(info -> info.getPatternValues().forEach(contentMetrics::serialization));
+        }
+    }
+}
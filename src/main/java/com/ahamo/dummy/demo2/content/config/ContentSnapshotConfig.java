@@ -0,0 +1,11 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ContentSnapshotProperties.class, CountCacheProperties.class, ContentChangeNotifyProperties.class})
+public class ContentSnapshotConfig {
+}
@@ -0,0 +1,30 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.snapshot")
+public class ContentSnapshotProperties {
+
+    private boolean enabled = true;
+
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * 全件の読み直しで1回に読み込む行数
+     */
+    private int refreshBatchSize = 500;
+
+    /**
+     * キャンペーンの説明・ニュース本文・FAQの回答をヒープ外（ダイレクトバッファ）に保持する
+     */
+    private boolean offHeapBodies = true;
+
+    /**
+     * ヒープ外へ移す本文の最小文字数。短い本文はヒープに残す
+     */
+    private int offHeapMinLength = 256;
+}
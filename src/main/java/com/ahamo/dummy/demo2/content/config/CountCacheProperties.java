@@ -0,0 +1,15 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.count-cache")
+public class CountCacheProperties {
+
+    private boolean enabled = true;
+
+    private Duration ttl = Duration.ofMinutes(1);
+}
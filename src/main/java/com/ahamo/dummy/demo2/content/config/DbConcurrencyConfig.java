@@ -0,0 +1,57 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import com.ahamo.dummy.demo2.content.jdbc.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 仮想スレッド実行時に、DBアクセスの同時実行数を接続プールのサイズまでに制限する。
+ * 上限を超えたリクエストはセマフォ上でパークし、接続プールの待機列には積まれない。
+ * ストリーミングのエクスポートも同じ上限の中で、書き出しが終わるまで許可（とコネクション）を保持する。
+ * そのためエクスポートの実行中に他のリクエストが使えるのは、上限から {@code content.export.max-concurrent-exports} を引いた数になる。
+ */
+@Configuration
+@EnableConfigurationProperties(DbConcurrencyProperties.class)
+@ConditionalOnProperty(prefix = "content.db-concurrency", name = "enabled", havingValue = "true")
+@Slf4j
+public class DbConcurrencyConfig {
+
+    @Bean
+    static BeanPostProcessor dbConcurrencyLimiter(ObjectProvider<DbConcurrencyProperties> properties,
+                                                  ObjectProvider<ContentExportProperties> exportProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                DbConcurrencyProperties limits = properties.getObject();
+                int maxConcurrent = limits.getMaxConcurrent() > 0 ? limits.getMaxConcurrent() : poolSize(dataSource);
+                log.info("DB同時実行数の制限を有効化: dataSource={}, maxConcurrent={}, acquireTimeout={}",
+                    beanName, maxConcurrent, limits.getAcquireTimeout());
+                ContentExportProperties exports = exportProperties.getIfAvailable();
+                if (exports != null && exports.getMaxConcurrentExports() >= maxConcurrent) {
+                    log.warn("エクスポートの同時実行数がDB同時実行数の上限以上のため、エクスポート中は他のリクエストがDBを使えません: "
+                        + "maxConcurrent={}, maxConcurrentExports={}", maxConcurrent, exports.getMaxConcurrentExports());
+                }
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrent, limits.getAcquireTimeout());
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException(
+            "接続プールのサイズを取得できません。content.db-concurrency.max-concurrent を指定してください");
+    }
+}
@@ -0,0 +1,21 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.db-concurrency")
+public class DbConcurrencyProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 0 の場合は接続プール（Hikari）の最大サイズに合わせる。
+     * エクスポートの実行中は {@code content.export.max-concurrent-exports} 分の枠が書き出しの終了まで使われる。
+     */
+    private int maxConcurrent = 0;
+
+    private Duration acquireTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,76 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import com.ahamo.dummy.demo2.content.coalescing.SingleFlight;
+import com.ahamo.dummy.demo2.content.coalescing.SingleFlightInterceptor;
+import com.ahamo.dummy.demo2.content.service.CampaignService;
+import com.ahamo.dummy.demo2.content.service.FaqService;
+import com.ahamo.dummy.demo2.content.service.NewsService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.Set;
+
+/**
+ * キャンペーン・ニュース・FAQサービスの読み取りメソッドを、同時に呼ばれた同じ引数の呼び出しとまとめる。
+ * アクセス集中時のDB負荷がリクエスト数ではなく異なるクエリの数に比例するようにする。
+ */
+@Configuration
+@EnableConfigurationProperties(QueryCoalescingProperties.class)
+@ConditionalOnProperty(prefix = "content.query-coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCoalescingConfig {
+
+    private static final Set<Class<?>> CONTENT_SERVICES =
+        Set.of(CampaignService.class, NewsService.class, FaqService.class);
+
+    @Bean
+    public SingleFlight repositorySingleFlight(QueryCoalescingProperties properties) {
+        return new SingleFlight(properties.getTimeout());
+    }
+
+    /**
+     * サービスの {@code @Cacheable} メソッド（DTO を返す読み取りメソッド）に、
+     * 既存のアドバイス（トランザクション・キャッシュ）より外側で待ち合わせるアドバイスを追加する。
+     * サービスのトランザクションはまとめた呼び出しの先頭の1件だけが開始し、待機側には DTO だけが渡る。
+     */
+    @Bean
+    public static AbstractAdvisingBeanPostProcessor queryCoalescingPostProcessor(ObjectProvider<SingleFlight> singleFlight) {
+        ComposablePointcut pointcut = new ComposablePointcut(
+            type -> CONTENT_SERVICES.contains(ClassUtils.getUserClass(type)),
+            new AnnotationMethodMatcher(Cacheable.class, true));
+        AbstractAdvisingBeanPostProcessor postProcessor = new AbstractAdvisingBeanPostProcessor() {
+            {
+                this.advisor = new DefaultPointcutAdvisor(pointcut,
+                    new SingleFlightInterceptor(SingletonSupplier.of(singleFlight::getObject)));
+            }
+        };
+        postProcessor.setBeforeExistingAdvisors(true);
+        postProcessor.setProxyTargetClass(true);
+        return postProcessor;
+    }
+
+    @Bean
+    public MeterBinder queryCoalescingMetrics(SingleFlight repositorySingleFlight) {
+        return registry -> {
+            FunctionCounter.builder("content.repository.coalesced", repositorySingleFlight, SingleFlight::getSharedCount)
+                .description("実行中の同一呼び出しの結果を共有した呼び出し数")
+                .tag("result", "shared")
+                .register(registry);
+            FunctionCounter.builder("content.repository.coalesced", repositorySingleFlight, SingleFlight::getTimeoutCount)
+                .description("実行中の同一呼び出しを待ちきれず自分で実行した呼び出し数")
+                .tag("result", "timeout")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "content.query-coalescing")
+public class QueryCoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 先行する同一クエリの完了を待つ最大時間。超えた場合は待機をやめて自分でクエリを実行する。
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
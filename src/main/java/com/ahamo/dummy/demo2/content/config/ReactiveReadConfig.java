@@ -0,0 +1,26 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import com.ahamo.dummy.demo2.content.reactive.ContentReadHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * {@code reactive} プロファイル（WebFlux + R2DBC）で公開する読み取り専用ルート。
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReadConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> contentReadRoutes(ContentReadHandler handler) {
+        return RouterFunctions.route()
+            .GET("/campaigns", handler::campaigns)
+            .GET("/news", handler::news)
+            .GET("/faq", handler::faqs)
+            .build();
+    }
+}
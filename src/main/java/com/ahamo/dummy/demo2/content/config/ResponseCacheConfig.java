@@ -0,0 +1,34 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import com.ahamo.dummy.demo2.content.web.ResponseBodyCache;
+import com.ahamo.dummy.demo2.content.web.ResponseCacheFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "content.response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseBodyCache responseBodyCache(ResponseCacheProperties properties) {
+        return new ResponseBodyCache(properties.getMaxEntries(), properties.getMinCompressSize(),
+            properties.getOffHeapMinSize());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseBodyCache responseBodyCache,
+            ContentSnapshotService contentSnapshotService) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(
+            new ResponseCacheFilter(responseBodyCache, contentSnapshotService));
+        registration.addUrlPatterns("/campaigns", "/campaigns/*", "/news", "/news/*", "/faq", "/faq/*");
+        return registration;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ahamo.dummy.demo2.content.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "content.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private int maxEntries = 2000;
+
+    private int minCompressSize = 512;
+
+    /**
+     * この長さ（バイト）以上のボディはダイレクトバッファに保持する
+     */
+    private int offHeapMinSize = 8192;
+}
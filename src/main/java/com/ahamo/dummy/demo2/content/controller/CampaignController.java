@@ -1,16 +1,23 @@
 package com.ahamo.dummy.demo2.content.controller;
 
 import com.ahamo.dummy.demo2.content.service.CampaignService;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
+import com.ahamo.dummy.demo2.content.dto.VersionedResponse;
 import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.web.ContentValidators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/campaigns")
 @RequiredArgsConstructor
 @Slf4j
@@ -21,11 +28,23 @@ public class CampaignController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getCampaigns(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "false") boolean summary) {
         
-        log.info("キャンペーン一覧API呼び出し: page={}, limit={}", page, limit);
+        if (cursor != null) {
+            return getCampaignsByCursor(cursor, limit, summary);
+        }
+        if (!includeTotal) {
+            return getCampaignsWithoutTotal(page, limit, summary);
+        }
+        
+        log.debug("キャンペーン一覧API呼び出し: page={}, limit={}, summary={}", page, limit, summary);
         
-        Page<CampaignResponse> campaigns = campaignService.getCampaigns(page, limit);
+        Page<? extends VersionedResponse> campaigns = summary
+            ? campaignService.getCampaignSummaries(page, limit)
+            : campaignService.getCampaigns(page, limit);
         
         Map<String, Object> response = Map.of(
             "campaigns", campaigns.getContent(),
@@ -34,12 +53,49 @@ public class CampaignController {
             "limit", limit
         );
         
-        return ResponseEntity.ok(response);
+        return ContentValidators.ok(campaigns.getContent(), campaigns.getTotalElements()).body(response);
+    }
+    
+    private ResponseEntity<Map<String, Object>> getCampaignsWithoutTotal(int page, int limit, boolean summary) {
+        log.debug("キャンペーン一覧API呼び出し(件数なし): page={}, limit={}, summary={}", page, limit, summary);
+        
+        Slice<? extends VersionedResponse> campaigns = summary
+            ? campaignService.getCampaignSummarySlice(page, limit)
+            : campaignService.getCampaignSlice(page, limit);
+        
+        Map<String, Object> response = Map.of(
+            "campaigns", campaigns.getContent(),
+            "page", page,
+            "limit", limit,
+            "hasNext", campaigns.hasNext()
+        );
+        
+        return ContentValidators.ok(campaigns.getContent(), campaigns.hasNext()).body(response);
+    }
+    
+    private ResponseEntity<Map<String, Object>> getCampaignsByCursor(String cursor, int limit, boolean summary) {
+        log.debug("キャンペーン一覧API呼び出し(カーソル): cursor={}, limit={}, summary={}", cursor, limit, summary);
+        
+        try {
+            CursorPage<? extends VersionedResponse> campaigns = summary
+                ? campaignService.getCampaignSummariesByCursor(cursor, limit)
+                : campaignService.getCampaignsByCursor(cursor, limit);
+            
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("campaigns", campaigns.getContent());
+            response.put("limit", limit);
+            response.put("nextCursor", campaigns.getNextCursor());
+            
+            return ContentValidators.ok(campaigns.getContent(), campaigns.getNextCursor()).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なカーソル: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<CampaignResponse> getCampaignById(@PathVariable String id) {
-        log.info("キャンペーン詳細API呼び出し: id={}", id);
+        log.debug("キャンペーン詳細API呼び出し: id={}", id);
         
         try {
             Long campaignId = Long.parseLong(id);
@@ -49,7 +105,7 @@ public class CampaignController {
                 return ResponseEntity.notFound().build();
             }
             
-            return ResponseEntity.ok(campaign);
+            return ContentValidators.ok(campaign).body(campaign);
         } catch (NumberFormatException e) {
             log.warn("無効なキャンペーンID: {}", id);
             return ResponseEntity.badRequest().build();
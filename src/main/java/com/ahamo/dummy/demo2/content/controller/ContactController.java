@@ -1,11 +1,15 @@
 package com.ahamo.dummy.demo2.content.controller;
 
+import com.ahamo.dummy.demo2.content.service.ContactQueueFullException;
 import com.ahamo.dummy.demo2.content.service.ContactService;
 import com.ahamo.dummy.demo2.content.dto.ContactRequest;
 import com.ahamo.dummy.demo2.content.dto.ContactResponse;
 import com.ahamo.dummy.demo2.content.dto.ContactCategoryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +18,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/contact")
 @RequiredArgsConstructor
 @Slf4j
@@ -24,15 +29,21 @@ public class ContactController {
     
     @PostMapping
     public ResponseEntity<ContactResponse> submitContact(@Valid @RequestBody ContactRequest request) {
-        log.info("お問い合わせAPI呼び出し: email={}, category={}", request.getEmail(), request.getCategory());
+        log.debug("お問い合わせAPI呼び出し: email={}, category={}", request.getEmail(), request.getCategory());
         
-        ContactResponse response = contactService.submitContact(request);
-        return ResponseEntity.ok(response);
+        try {
+            ContactResponse response = contactService.submitContact(request);
+            return ResponseEntity.ok(response);
+        } catch (ContactQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .build();
+        }
     }
     
     @GetMapping("/categories")
     public ResponseEntity<List<ContactCategoryResponse>> getContactCategories() {
-        log.info("お問い合わせカテゴリAPI呼び出し");
+        log.debug("お問い合わせカテゴリAPI呼び出し");
         
         List<ContactCategoryResponse> categories = contactService.getContactCategories();
         return ResponseEntity.ok(categories);
@@ -0,0 +1,39 @@
+package com.ahamo.dummy.demo2.content.controller;
+
+import com.ahamo.dummy.demo2.content.dto.ContentChangesResponse;
+import com.ahamo.dummy.demo2.content.service.ChangeToken;
+import com.ahamo.dummy.demo2.content.service.ContentChangesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/content")
+@RequiredArgsConstructor
+@Slf4j
+public class ContentChangesController {
+    
+    private final ContentChangesService contentChangesService;
+    
+    @GetMapping("/changes")
+    public ResponseEntity<ContentChangesResponse> getChanges(@RequestParam(required = false) String since) {
+        ChangeToken token;
+        try {
+            token = ChangeToken.decode(since);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効な差分同期トークン: {}", since);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        ContentChangesResponse response = contentChangesService.getChanges(token);
+        log.debug("差分同期API呼び出し: reset={}, campaigns={}/{}, news={}/{}, faqs={}/{}",
+            response.isReset(),
+            response.getCampaigns().getUpserts().size(), response.getCampaigns().getDeletes().size(),
+            response.getNews().getUpserts().size(), response.getNews().getDeletes().size(),
+            response.getFaqs().getUpserts().size(), response.getFaqs().getDeletes().size());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ahamo.dummy.demo2.content.controller;
+
+import com.ahamo.dummy.demo2.content.service.ContentExport;
+import com.ahamo.dummy.demo2.content.service.ContentExportBusyException;
+import com.ahamo.dummy.demo2.content.service.ContentExportService;
+import com.ahamo.dummy.demo2.content.service.ContentImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/admin/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ContentExportController {
+    
+    static final String EXPORT_STARTED_AT_HEADER = "X-Export-Started-At";
+    
+    private static final String EXPORT_INTERCEPTOR_KEY = ContentExportController.class.getName();
+    
+    private final ContentExportService contentExportService;
+    
+    /**
+     * 次回の差分エクスポートでは、レスポンスヘッダー {@code X-Export-Started-At} の値を {@code since} に指定する。
+     * ヘッダーは読み取りトランザクションの開始後、最初の行を書き出す前に設定する。
+     */
+    @GetMapping(value = "/{target}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportContent(
+            @PathVariable String target,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        log.info("コンテンツエクスポートAPI呼び出し: target={}, since={}", target, since);
+        
+        ContentImportService.Target exportTarget;
+        try {
+            exportTarget = ContentImportService.Target.of(target);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なエクスポート対象: {}", target);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        ContentExport export;
+        try {
+            export = contentExportService.open(exportTarget, since);
+        } catch (ContentExportBusyException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_INTERCEPTOR_KEY,
+            new ExportAsyncInterceptor(export, contentExportService.getRequestTimeout()));
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(out -> export.writeTo(out,
+                startedAt -> response.setHeader(EXPORT_STARTED_AT_HEADER, startedAt.toString())));
+    }
+    
+    /**
+     * エクスポートのリクエストにだけタイムアウトを適用し、本体が実行されないまま終了した場合は同時実行枠を解放する。
+     */
+    private record ExportAsyncInterceptor(ContentExport export, Duration timeout) implements CallableProcessingInterceptor {
+        
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            if (timeout != null && request instanceof AsyncWebRequest asyncRequest) {
+                asyncRequest.setTimeout(timeout.toMillis());
+            }
+        }
+        
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+            export.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ahamo.dummy.demo2.content.controller;
+
+import com.ahamo.dummy.demo2.content.service.ContentImportBusyException;
+import com.ahamo.dummy.demo2.content.service.ContentImportService;
+import com.ahamo.dummy.demo2.content.dto.ImportReport;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/admin/import")
+@RequiredArgsConstructor
+@Slf4j
+public class ContentImportController {
+    
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(CSV);
+    
+    private final ContentImportService contentImportService;
+    
+    @PostMapping(value = "/{target}", consumes = {NDJSON, CSV})
+    public ResponseEntity<ImportReport> importContent(@PathVariable String target, HttpServletRequest request) {
+        log.info("コンテンツインポートAPI呼び出し: target={}, contentType={}", target, request.getContentType());
+        
+        ContentImportService.Target importTarget;
+        try {
+            importTarget = ContentImportService.Target.of(target);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なインポート対象: {}", target);
+            return ResponseEntity.badRequest().build();
+        }
+        ContentImportService.Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(TEXT_CSV)
+            ? ContentImportService.Format.CSV
+            : ContentImportService.Format.NDJSON;
+        
+        try {
+            // ボディはバッファリングせず、ストリームのまま1行ずつ処理する
+            ImportReport report = contentImportService.importContent(importTarget, format, request.getInputStream());
+            return ResponseEntity.ok(report);
+        } catch (ContentImportBusyException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        } catch (IOException e) {
+            log.warn("インポートデータの読み込みに失敗しました: target={}", target, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,33 +1,55 @@
 package com.ahamo.dummy.demo2.content.controller;
 
 import com.ahamo.dummy.demo2.content.service.FaqService;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.VersionedResponse;
+import com.ahamo.dummy.demo2.content.web.ContentValidators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/faq")
 @RequiredArgsConstructor
 @Slf4j
 public class FaqController {
     
+    private static final int MAX_SEARCH_LIMIT = 100;
+    
     private final FaqService faqService;
     
     @GetMapping
     public ResponseEntity<Map<String, Object>> getFaqs(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "false") boolean summary) {
         
-        log.info("FAQ一覧API呼び出し: page={}, limit={}, category={}", page, limit, category);
+        if (cursor != null) {
+            return getFaqsByCursor(category, cursor, limit, summary);
+        }
+        if (!includeTotal) {
+            return getFaqsWithoutTotal(category, page, limit, summary);
+        }
         
-        Page<FaqResponse> faqs;
-        if (category != null && !category.trim().isEmpty()) {
+        log.debug("FAQ一覧API呼び出し: page={}, limit={}, category={}, summary={}", page, limit, category, summary);
+        
+        Page<? extends VersionedResponse> faqs;
+        if (summary) {
+            faqs = faqService.getFaqSummaries(category, page, limit);
+        } else if (category != null && !category.trim().isEmpty()) {
             faqs = faqService.getFaqsByCategory(category, page, limit);
         } else {
             faqs = faqService.getFaqs(page, limit);
@@ -41,12 +63,77 @@ public class FaqController {
             "category", category != null ? category : "all"
         );
         
-        return ResponseEntity.ok(response);
+        return ContentValidators.ok(faqs.getContent(), faqs.getTotalElements()).body(response);
+    }
+    
+    private ResponseEntity<Map<String, Object>> getFaqsWithoutTotal(String category, int page, int limit, boolean summary) {
+        log.debug("FAQ一覧API呼び出し(件数なし): page={}, limit={}, category={}, summary={}", page, limit, category, summary);
+        
+        Slice<? extends VersionedResponse> faqs = summary
+            ? faqService.getFaqSummarySlice(category, page, limit)
+            : faqService.getFaqSlice(category, page, limit);
+        
+        Map<String, Object> response = Map.of(
+            "faqs", faqs.getContent(),
+            "page", page,
+            "limit", limit,
+            "category", category != null ? category : "all",
+            "hasNext", faqs.hasNext()
+        );
+        
+        return ContentValidators.ok(faqs.getContent(), faqs.hasNext()).body(response);
+    }
+    
+    private ResponseEntity<Map<String, Object>> getFaqsByCursor(String category, String cursor, int limit, boolean summary) {
+        log.debug("FAQ一覧API呼び出し(カーソル): category={}, cursor={}, limit={}, summary={}", category, cursor, limit, summary);
+        
+        try {
+            CursorPage<? extends VersionedResponse> faqs = summary
+                ? faqService.getFaqSummariesByCursor(category, cursor, limit)
+                : faqService.getFaqsByCursor(category, cursor, limit);
+            
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("faqs", faqs.getContent());
+            response.put("limit", limit);
+            response.put("category", category != null ? category : "all");
+            response.put("nextCursor", faqs.getNextCursor());
+            
+            return ContentValidators.ok(faqs.getContent(), faqs.getNextCursor()).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なカーソル: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchFaqs(
+            @RequestParam String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        log.debug("FAQ検索API呼び出し: q={}, category={}, limit={}", q, category, limit);
+        
+        if (q.isBlank() || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        limit = Math.min(limit, MAX_SEARCH_LIMIT);
+        
+        List<FaqResponse> faqs = faqService.searchFaqs(q, category, limit);
+        
+        Map<String, Object> response = Map.of(
+            "faqs", faqs,
+            "total", faqs.size(),
+            "query", q,
+            "limit", limit,
+            "category", category != null ? category : "all"
+        );
+        
+        return ContentValidators.ok(faqs, faqs.size()).body(response);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<FaqResponse> getFaqById(@PathVariable String id) {
-        log.info("FAQ詳細API呼び出し: id={}", id);
+        log.debug("FAQ詳細API呼び出し: id={}", id);
         
         try {
             Long faqId = Long.parseLong(id);
@@ -56,7 +143,7 @@ public class FaqController {
                 return ResponseEntity.notFound().build();
             }
             
-            return ResponseEntity.ok(faq);
+            return ContentValidators.ok(faq).body(faq);
         } catch (NumberFormatException e) {
             log.warn("無効なFAQ ID: {}", id);
             return ResponseEntity.badRequest().build();
@@ -1,16 +1,23 @@
 package com.ahamo.dummy.demo2.content.controller;
 
 import com.ahamo.dummy.demo2.content.service.NewsService;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.dto.VersionedResponse;
+import com.ahamo.dummy.demo2.content.web.ContentValidators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/news")
 @RequiredArgsConstructor
 @Slf4j
@@ -21,11 +28,23 @@ public class NewsController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getNews(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "false") boolean summary) {
         
-        log.info("ニュース一覧API呼び出し: page={}, limit={}", page, limit);
+        if (cursor != null) {
+            return getNewsByCursor(cursor, limit, summary);
+        }
+        if (!includeTotal) {
+            return getNewsWithoutTotal(page, limit, summary);
+        }
+        
+        log.debug("ニュース一覧API呼び出し: page={}, limit={}, summary={}", page, limit, summary);
         
-        Page<NewsResponse> news = newsService.getNews(page, limit);
+        Page<? extends VersionedResponse> news = summary
+            ? newsService.getNewsSummaries(page, limit)
+            : newsService.getNews(page, limit);
         
         Map<String, Object> response = Map.of(
             "news", news.getContent(),
@@ -34,12 +53,49 @@ public class NewsController {
             "limit", limit
         );
         
-        return ResponseEntity.ok(response);
+        return ContentValidators.ok(news.getContent(), news.getTotalElements()).body(response);
+    }
+    
+    private ResponseEntity<Map<String, Object>> getNewsWithoutTotal(int page, int limit, boolean summary) {
+        log.debug("ニュース一覧API呼び出し(件数なし): page={}, limit={}, summary={}", page, limit, summary);
+        
+        Slice<? extends VersionedResponse> news = summary
+            ? newsService.getNewsSummarySlice(page, limit)
+            : newsService.getNewsSlice(page, limit);
+        
+        Map<String, Object> response = Map.of(
+            "news", news.getContent(),
+            "page", page,
+            "limit", limit,
+            "hasNext", news.hasNext()
+        );
+        
+        return ContentValidators.ok(news.getContent(), news.hasNext()).body(response);
+    }
+    
+    private ResponseEntity<Map<String, Object>> getNewsByCursor(String cursor, int limit, boolean summary) {
+        log.debug("ニュース一覧API呼び出し(カーソル): cursor={}, limit={}, summary={}", cursor, limit, summary);
+        
+        try {
+            CursorPage<? extends VersionedResponse> news = summary
+                ? newsService.getNewsSummariesByCursor(cursor, limit)
+                : newsService.getNewsByCursor(cursor, limit);
+            
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("news", news.getContent());
+            response.put("limit", limit);
+            response.put("nextCursor", news.getNextCursor());
+            
+            return ContentValidators.ok(news.getContent(), news.getNextCursor()).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なカーソル: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<NewsResponse> getNewsById(@PathVariable String id) {
-        log.info("ニュース詳細API呼び出し: id={}", id);
+        log.debug("ニュース詳細API呼び出し: id={}", id);
         
         try {
             Long newsId = Long.parseLong(id);
@@ -49,7 +105,7 @@ public class NewsController {
                 return ResponseEntity.notFound().build();
             }
             
-            return ResponseEntity.ok(news);
+            return ContentValidators.ok(news).body(news);
         } catch (NumberFormatException e) {
             log.warn("無効なニュースID: {}", id);
             return ResponseEntity.badRequest().build();
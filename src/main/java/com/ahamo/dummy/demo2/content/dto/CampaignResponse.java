@@ -4,12 +4,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class CampaignResponse {
+public class CampaignResponse implements VersionedResponse, Serializable {
     private String id;
     private String title;
     private String description;
@@ -18,4 +19,12 @@ public class CampaignResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Boolean isActive;
+    
+    /**
+     * JPQL のコンストラクタ式用。エンティティを経由せず一覧クエリの結果を直接受け取る。
+     */
+    public CampaignResponse(Long id, String title, String description, String imageUrl, String link,
+                            LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isActive) {
+        this(id.toString(), title, description, imageUrl, link, createdAt, updatedAt, isActive);
+    }
 }
@@ -0,0 +1,33 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 一覧用の概要。本文（description）は含めず、詳細APIでのみ返す。
+ */
+@Data
+@NoArgsConstructor
+public class CampaignSummary implements VersionedResponse, Serializable {
+    private String id;
+    private String title;
+    private String imageUrl;
+    private String link;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Boolean isActive;
+    
+    public CampaignSummary(Long id, String title, String imageUrl, String link,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isActive) {
+        this.id = id.toString();
+        this.title = title;
+        this.imageUrl = imageUrl;
+        this.link = link;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.isActive = isActive;
+    }
+}
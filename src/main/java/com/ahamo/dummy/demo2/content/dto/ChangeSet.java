@@ -0,0 +1,16 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSet<T> {
+    private List<T> upserts = new ArrayList<>();
+    private List<String> deletes = new ArrayList<>();
+}
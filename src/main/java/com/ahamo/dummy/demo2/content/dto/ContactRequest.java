@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 @Data
 @NoArgsConstructor
@@ -15,12 +16,15 @@ import jakarta.validation.constraints.NotNull;
 public class ContactRequest {
     
     @NotBlank(message = "名前は必須です")
+    @Size(max = 255, message = "名前は255文字以内で入力してください")
     private String name;
     
     @NotBlank(message = "メールアドレスは必須です")
     @Email(message = "有効なメールアドレスを入力してください")
+    @Size(max = 255, message = "メールアドレスは255文字以内で入力してください")
     private String email;
     
+    @Size(max = 255, message = "電話番号は255文字以内で入力してください")
     private String phone;
     
     @NotNull(message = "カテゴリは必須です")
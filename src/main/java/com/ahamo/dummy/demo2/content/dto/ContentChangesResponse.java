@@ -0,0 +1,21 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 差分同期のレスポンス。{@code reset} が true の場合、クライアントは保持しているデータを破棄して upserts で置き換える。
+ * {@code hasMore} が true の場合は token で続きを取得する。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentChangesResponse {
+    private String token;
+    private boolean reset;
+    private boolean hasMore;
+    private ChangeSet<CampaignResponse> campaigns = new ChangeSet<>();
+    private ChangeSet<NewsResponse> news = new ChangeSet<>();
+    private ChangeSet<FaqResponse> faqs = new ChangeSet<>();
+}
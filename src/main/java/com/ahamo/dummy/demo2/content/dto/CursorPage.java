@@ -0,0 +1,16 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> implements Serializable {
+    private List<T> content;
+    private String nextCursor;
+}
@@ -1,17 +1,19 @@
 package com.ahamo.dummy.demo2.content.dto;
 
+import com.ahamo.dummy.demo2.content.entity.Faq;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class FaqResponse {
+public class FaqResponse implements VersionedResponse, Serializable {
     private String id;
     private String question;
     private String answer;
@@ -19,4 +21,12 @@ public class FaqResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean isActive;
+    
+    /**
+     * JPQL のコンストラクタ式用。エンティティを経由せず一覧クエリの結果を直接受け取る。
+     */
+    public FaqResponse(Long id, String question, String answer, Faq.FaqCategory category,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isActive) {
+        this(id.toString(), question, answer, category.getDisplayName(), createdAt, updatedAt, isActive);
+    }
 }
@@ -0,0 +1,32 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 一覧用の概要。回答（answer）は含めず、詳細APIでのみ返す。
+ */
+@Data
+@NoArgsConstructor
+public class FaqSummary implements VersionedResponse, Serializable {
+    private String id;
+    private String question;
+    private String category;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean isActive;
+    
+    public FaqSummary(Long id, String question, Faq.FaqCategory category,
+                      LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isActive) {
+        this.id = id.toString();
+        this.question = question;
+        this.category = category.getDisplayName();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.isActive = isActive;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ImportReport {
+    private String target;
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<ImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
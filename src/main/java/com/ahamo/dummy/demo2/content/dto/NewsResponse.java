@@ -4,12 +4,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class NewsResponse {
+public class NewsResponse implements VersionedResponse, Serializable {
+    
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    
     private String id;
     private String title;
     private String content;
@@ -19,4 +24,13 @@ public class NewsResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Boolean isPublished;
+    
+    /**
+     * JPQL のコンストラクタ式用。エンティティを経由せず一覧クエリの結果を直接受け取る。
+     */
+    public NewsResponse(Long id, String title, String content, String link, LocalDateTime publishedDate,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isPublished) {
+        this(id.toString(), title, content, link, publishedDate.format(DATE_FORMATTER),
+            publishedDate, createdAt, updatedAt, isPublished);
+    }
 }
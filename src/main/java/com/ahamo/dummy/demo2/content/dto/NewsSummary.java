@@ -0,0 +1,35 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 一覧用の概要。本文（content）は含めず、詳細APIでのみ返す。
+ */
+@Data
+@NoArgsConstructor
+public class NewsSummary implements VersionedResponse, Serializable {
+    private String id;
+    private String title;
+    private String link;
+    private String date;
+    private LocalDateTime publishedDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Boolean isPublished;
+    
+    public NewsSummary(Long id, String title, String link, LocalDateTime publishedDate,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isPublished) {
+        this.id = id.toString();
+        this.title = title;
+        this.link = link;
+        this.date = publishedDate.format(NewsResponse.DATE_FORMATTER);
+        this.publishedDate = publishedDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.isPublished = isPublished;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ahamo.dummy.demo2.content.dto;
+
+import java.time.LocalDateTime;
+
+public interface VersionedResponse {
+
+    String getId();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Campaign {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "campaigns_seq")
+    @SequenceGenerator(name = "campaigns_seq", sequenceName = "campaigns_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -30,7 +31,7 @@ public class Campaign {
     @Column(nullable = false)
     private String link;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -39,6 +40,20 @@ public class Campaign {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    /** 公開開始日時。{@code null} の場合は即時公開 */
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+    
+    /** 公開終了日時（この日時を含まない）。{@code null} の場合は無期限 */
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+    
+    public boolean isVisibleAt(LocalDateTime time) {
+        return Boolean.TRUE.equals(isActive)
+            && (startAt == null || !startAt.isAfter(time))
+            && (endAt == null || endAt.isAfter(time));
+    }
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
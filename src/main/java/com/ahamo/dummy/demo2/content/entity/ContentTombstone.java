@@ -0,0 +1,39 @@
+package com.ahamo.dummy.demo2.content.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 物理削除されたコンテンツの墓標。PostgreSQL では削除トリガーが書き込む。
+ */
+@Entity
+@Table(name = "content_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentTombstone {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 16)
+    private ContentType contentType;
+    
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+    
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+    
+    public enum ContentType {
+        CAMPAIGN,
+        NEWS,
+        FAQ
+    }
+}
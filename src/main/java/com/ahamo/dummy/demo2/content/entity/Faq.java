@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Faq {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "faqs_seq")
+    @SequenceGenerator(name = "faqs_seq", sequenceName = "faqs_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -28,7 +29,7 @@ public class Faq {
     @Column(nullable = false)
     private FaqCategory category;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class News {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_seq")
+    @SequenceGenerator(name = "news_seq", sequenceName = "news_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -27,10 +28,10 @@ public class News {
     @Column(nullable = false)
     private String link;
     
-    @Column(name = "published_date")
+    @Column(name = "published_date", nullable = false)
     private LocalDateTime publishedDate;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -39,6 +40,13 @@ public class News {
     @Column(name = "is_published")
     private Boolean isPublished = true;
     
+    /**
+     * 公開日時が未来のニュースは公開済みでもその日時まで表示しない。
+     */
+    public boolean isVisibleAt(LocalDateTime time) {
+        return Boolean.TRUE.equals(isPublished) && (publishedDate == null || !publishedDate.isAfter(time));
+    }
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,134 @@
+package com.ahamo.dummy.demo2.content.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ホットパス計測用のメーター。
+ * タイマーは起動時（またはキーごとの初回）に登録して保持し、リクエストごとのタグ生成やメーター検索を行わない。
+ */
+@Component
+public class ContentMetrics {
+
+    public static final String REPOSITORY_QUERY = "content.repository.query";
+    public static final String CONVERSION = "content.conversion";
+    public static final String SERIALIZATION = "content.serialization";
+    public static final String CONTACT_PERSIST = "content.contact.persist";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    public enum Conversion {
+        CAMPAIGN("campaign", "response"),
+        CAMPAIGN_SUMMARY("campaign", "summary"),
+        NEWS("news", "response"),
+        NEWS_SUMMARY("news", "summary"),
+        FAQ("faq", "response"),
+        FAQ_SUMMARY("faq", "summary");
+
+        private final String type;
+        private final String view;
+
+        Conversion(String type, String view) {
+            this.type = type;
+            this.view = view;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Conversion, Timer> conversions = new EnumMap<>(Conversion.class);
+    private final Map<String, Timer> serializations = new ConcurrentHashMap<>();
+    private final Timer contactPersist;
+
+    public ContentMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Conversion conversion : Conversion.values()) {
+            conversions.put(conversion, Timer.builder(CONVERSION)
+                .description("エンティティからレスポンスへの変換時間（1回の呼び出し単位）")
+                .tag("type", conversion.type)
+                .tag("view", conversion.view)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofMillis(100))
+                .register(registry));
+        }
+        this.contactPersist = Timer.builder(CONTACT_PERSIST)
+            .description("お問い合わせバッチの登録時間")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(registry);
+    }
+
+    public Timer conversion(Conversion conversion) {
+        return conversions.get(conversion);
+    }
+
+    public <S, T> T convert(Conversion conversion, S source, Function<? super S, T> mapper) {
+        long started = System.nanoTime();
+        T converted = mapper.apply(source);
+        record(conversions.get(conversion), started);
+        return converted;
+    }
+
+    public <S, T> Page<T> convertPage(Conversion conversion, Page<S> source, Function<? super S, T> mapper) {
+        long started = System.nanoTime();
+        Page<T> converted = source.map(mapper);
+        record(conversions.get(conversion), started);
+        return converted;
+    }
+
+    public <S, T> List<T> convertList(Conversion conversion, List<S> source, Function<? super S, T> mapper) {
+        long started = System.nanoTime();
+        List<T> converted = source.stream().<T>map(mapper).toList();
+        record(conversions.get(conversion), started);
+        return converted;
+    }
+
+    public Timer contactPersist() {
+        return contactPersist;
+    }
+
+    public Timer repositoryQuery(String repository, String method) {
+        return Timer.builder(REPOSITORY_QUERY)
+            .description("リポジトリメソッドの実行時間")
+            .tag("repository", repository)
+            .tag("method", method)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(100_000))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(registry);
+    }
+
+    /**
+     * @param uri リクエストマッピングのパターン（{@code /news/{id}} など）。不明な場合は {@code null}
+     */
+    public Timer serialization(String uri) {
+        String key = uri != null ? uri : UNKNOWN_URI;
+        Timer timer = serializations.get(key);
+        return timer != null ? timer : serializations.computeIfAbsent(key, this::registerSerialization);
+    }
+
+    public static void record(Timer timer, long startedNanos) {
+        timer.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer registerSerialization(String uri) {
+        return Timer.builder(SERIALIZATION)
+            .description("レスポンスボディのJSONシリアライズ時間")
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(1_000))
+            .maximumExpectedValue(Duration.ofSeconds(1))
+            .register(registry);
+    }
+}
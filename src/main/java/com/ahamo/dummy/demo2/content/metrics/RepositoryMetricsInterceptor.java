@@ -0,0 +1,45 @@
+package com.ahamo.dummy.demo2.content.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * リポジトリインターフェースに宣言されたメソッドの実行時間を記録する。
+ * タイマーはプロキシ生成時にメソッドごとに登録し、呼び出し時は {@link Method} からの参照のみ行う。
+ * 継承元（{@code JpaRepository} など）のメソッドは計測しない。
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final Map<Method, Timer> timers;
+
+    public RepositoryMetricsInterceptor(ContentMetrics contentMetrics, Class<?> repositoryInterface) {
+        Map<Method, Timer> timers = new HashMap<>();
+        for (Method method : repositoryInterface.getDeclaredMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            timers.put(method, contentMetrics.repositoryQuery(repositoryInterface.getSimpleName(), method.getName()));
+        }
+        this.timers = Map.copyOf(timers);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer timer = timers.get(invocation.getMethod());
+        if (timer == null) {
+            return invocation.proceed();
+        }
+        long started = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            ContentMetrics.record(timer, started);
+        }
+    }
+}
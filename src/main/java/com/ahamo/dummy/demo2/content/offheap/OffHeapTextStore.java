@@ -0,0 +1,105 @@
+package com.ahamo.dummy.demo2.content.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文字列を UTF-8 でダイレクトバッファへ追記して保持する。
+ * <p>
+ * {@link #put} が返すハンドルは (チャンク番号, オフセット) を1つの long にまとめたもので、
+ * バイト長はオフセットの位置に4バイトで書き込む。チャンクは 64KB から倍々に 16MB まで大きくする。
+ * 書き込みは1スレッドで行い、書き込み後に安全に公開したものは複数スレッドから読み取れる。
+ * 確保したメモリは、このストアが参照されなくなった時点で GC によって解放される。
+ */
+public final class OffHeapTextStore {
+
+    /** {@code null} を表すハンドル */
+    public static final long NONE = -1L;
+
+    private static final int INITIAL_CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current;
+    private long size;
+
+    public long put(String text) {
+        if (text == null) {
+            return NONE;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer chunk = reserve(Integer.BYTES + bytes.length);
+        int offset = chunk.position();
+        chunk.putInt(bytes.length).put(bytes);
+        return handle(offset);
+    }
+
+    /**
+     * 別のストアに書き込まれた文字列を、デコードせずにこのストアへ複写する。
+     */
+    public long copy(OffHeapTextStore source, long handle) {
+        if (handle == NONE) {
+            return NONE;
+        }
+        ByteBuffer from = source.chunks.get(chunk(handle));
+        int sourceOffset = offset(handle);
+        int length = Integer.BYTES + from.getInt(sourceOffset);
+        ByteBuffer chunk = reserve(length);
+        int offset = chunk.position();
+        chunk.put(from.slice(sourceOffset, length));
+        return handle(offset);
+    }
+
+    public String get(long handle) {
+        if (handle == NONE) {
+            return null;
+        }
+        ByteBuffer chunk = chunks.get(chunk(handle));
+        int offset = offset(handle);
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return 書き込み済みのバイト数（長さの領域を含む）
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return 確保済みのダイレクトバッファの合計
+     */
+    public long capacity() {
+        long capacity = 0;
+        for (ByteBuffer chunk : chunks) {
+            capacity += chunk.capacity();
+        }
+        return capacity;
+    }
+
+    private ByteBuffer reserve(int required) {
+        if (current == null || current.remaining() < required) {
+            int chunkSize = current == null ? INITIAL_CHUNK_SIZE : Math.min(current.capacity() * 2, MAX_CHUNK_SIZE);
+            current = ByteBuffer.allocateDirect(Math.max(required, chunkSize));
+            chunks.add(current);
+        }
+        size += required;
+        return current;
+    }
+
+    private long handle(int offset) {
+        return ((long) (chunks.size() - 1) << 32) | offset;
+    }
+
+    private static int chunk(long handle) {
+        return (int) (handle >>> 32);
+    }
+
+    private static int offset(long handle) {
+        return (int) handle;
+    }
+}
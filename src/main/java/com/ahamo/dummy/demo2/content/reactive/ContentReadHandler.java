@@ -0,0 +1,119 @@
+package com.ahamo.dummy.demo2.content.reactive;
+
+import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.service.CampaignService;
+import com.ahamo.dummy.demo2.content.service.FaqService;
+import com.ahamo.dummy.demo2.content.service.NewsService;
+import com.ahamo.dummy.demo2.content.service.PageCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * リアクティブ構成での一覧API。{@code Page} を組み立てず、取得した行をそのまま JSON 配列として流す。
+ * 総件数は返さないため、続きは {@code page} または最後の要素から作った {@code cursor} で取得する。
+ * {@code Accept: application/x-ndjson} の場合は1行1件で返す。
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ContentReadHandler {
+
+    private final ReactiveCampaignRepository campaignRepository;
+    private final ReactiveNewsRepository newsRepository;
+    private final ReactiveFaqRepository faqRepository;
+    private final CampaignService campaignService;
+    private final NewsService newsService;
+    private final FaqService faqService;
+
+    public Mono<ServerResponse> campaigns(ServerRequest request) {
+        PageQuery query;
+        try {
+            query = PageQuery.of(request);
+        } catch (IllegalArgumentException e) {
+            log.warn("キャンペーン一覧のパラメータが不正です: {}", e.getMessage());
+            return ServerResponse.badRequest().build();
+        }
+        Flux<Campaign> rows = query.cursor() != null
+            ? campaignRepository.findActiveCampaignsAfter(query.cursor().getSortKey(), query.cursor().getId(), query.limit())
+            : campaignRepository.findActiveCampaigns(query.offset(), query.limit());
+        return stream(request, rows.map(campaignService::convertToResponse), CampaignResponse.class);
+    }
+
+    public Mono<ServerResponse> news(ServerRequest request) {
+        PageQuery query;
+        try {
+            query = PageQuery.of(request);
+        } catch (IllegalArgumentException e) {
+            log.warn("ニュース一覧のパラメータが不正です: {}", e.getMessage());
+            return ServerResponse.badRequest().build();
+        }
+        Flux<News> rows = query.cursor() != null
+            ? newsRepository.findPublishedNewsAfter(query.cursor().getSortKey(), query.cursor().getId(), query.limit())
+            : newsRepository.findPublishedNews(query.offset(), query.limit());
+        return stream(request, rows.map(newsService::convertToResponse), NewsResponse.class);
+    }
+
+    public Mono<ServerResponse> faqs(ServerRequest request) {
+        PageQuery query;
+        Faq.FaqCategory category;
+        try {
+            query = PageQuery.of(request);
+            category = request.queryParam("category")
+                .filter(value -> !value.isBlank())
+                .map(value -> Faq.FaqCategory.valueOf(value.trim().toUpperCase()))
+                .orElse(null);
+        } catch (IllegalArgumentException e) {
+            log.warn("FAQ一覧のパラメータが不正です: {}", e.getMessage());
+            return ServerResponse.badRequest().build();
+        }
+        PageCursor cursor = query.cursor();
+        Flux<Faq> rows;
+        if (category == null) {
+            rows = cursor != null
+                ? faqRepository.findActiveFaqsAfter(cursor.getSortKey(), cursor.getId(), query.limit())
+                : faqRepository.findActiveFaqs(query.offset(), query.limit());
+        } else {
+            rows = cursor != null
+                ? faqRepository.findActiveFaqsByCategoryAfter(category, cursor.getSortKey(), cursor.getId(), query.limit())
+                : faqRepository.findActiveFaqsByCategory(category, query.offset(), query.limit());
+        }
+        return stream(request, rows.map(faqService::convertToResponse), FaqResponse.class);
+    }
+
+    private static <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> body, Class<T> type) {
+        MediaType mediaType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+            ? MediaType.APPLICATION_NDJSON
+            : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(mediaType).body(body, type);
+    }
+
+    private record PageQuery(int page, int limit, PageCursor cursor) {
+
+        static PageQuery of(ServerRequest request) {
+            int page = request.queryParam("page").map(Integer::parseInt).orElse(1);
+            int limit = request.queryParam("limit").map(Integer::parseInt).orElse(10);
+            if (page < 1) {
+                throw new IllegalArgumentException("pageは1以上を指定してください");
+            }
+            PageCursor.requireValidLimit(limit);
+            return new PageQuery(page, limit, PageCursor.decode(request.queryParam("cursor").orElse(null)));
+        }
+
+        long offset() {
+            return (long) (page - 1) * limit;
+        }
+    }
+}
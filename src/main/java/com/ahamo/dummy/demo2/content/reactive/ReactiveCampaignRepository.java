@@ -0,0 +1,62 @@
+package com.ahamo.dummy.demo2.content.reactive;
+
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code CampaignRepository} の読み取りクエリと同じ条件・並び順を R2DBC で発行する。
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCampaignRepository {
+
+    private static final String SELECT =
+        "SELECT id, title, description, image_url, link, created_at, updated_at, is_active FROM campaigns ";
+    private static final String VISIBLE = "is_active = true "
+        + "AND (start_at IS NULL OR start_at <= LOCALTIMESTAMP) "
+        + "AND (end_at IS NULL OR end_at > LOCALTIMESTAMP) ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Campaign> findActiveCampaigns(long offset, int limit) {
+        return databaseClient.sql(SELECT
+                + "WHERE " + VISIBLE + "ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset")
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveCampaignRepository::toCampaign)
+            .all();
+    }
+
+    public Flux<Campaign> findActiveCampaignsAfter(LocalDateTime createdAt, long id, int limit) {
+        return databaseClient.sql(SELECT
+                + "WHERE " + VISIBLE
+                + "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) "
+                + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+            .bind("createdAt", createdAt)
+            .bind("id", id)
+            .bind("limit", limit)
+            .map(ReactiveCampaignRepository::toCampaign)
+            .all();
+    }
+
+    private static Campaign toCampaign(Readable row) {
+        Campaign campaign = new Campaign();
+        campaign.setId(row.get("id", Long.class));
+        campaign.setTitle(row.get("title", String.class));
+        campaign.setDescription(row.get("description", String.class));
+        campaign.setImageUrl(row.get("image_url", String.class));
+        campaign.setLink(row.get("link", String.class));
+        campaign.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        campaign.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        campaign.setIsActive(row.get("is_active", Boolean.class));
+        return campaign;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ahamo.dummy.demo2.content.reactive;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code FaqRepository} の読み取りクエリと同じ条件・並び順を R2DBC で発行する。
+ * カテゴリはエンティティと同じく列挙子名の文字列で保存されている。
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveFaqRepository {
+
+    private static final String SELECT =
+        "SELECT id, question, answer, category, created_at, updated_at, is_active FROM faqs ";
+    private static final String ORDER = "ORDER BY created_at DESC, id DESC ";
+    private static final String AFTER = "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Faq> findActiveFaqs(long offset, int limit) {
+        return databaseClient.sql(SELECT + "WHERE is_active = true " + ORDER + "LIMIT :limit OFFSET :offset")
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveFaqRepository::toFaq)
+            .all();
+    }
+
+    public Flux<Faq> findActiveFaqsByCategory(Faq.FaqCategory category, long offset, int limit) {
+        return databaseClient.sql(SELECT + "WHERE is_active = true AND category = :category "
+                + ORDER + "LIMIT :limit OFFSET :offset")
+            .bind("category", category.name())
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveFaqRepository::toFaq)
+            .all();
+    }
+
+    public Flux<Faq> findActiveFaqsAfter(LocalDateTime createdAt, long id, int limit) {
+        return databaseClient.sql(SELECT + "WHERE is_active = true " + AFTER + ORDER + "LIMIT :limit")
+            .bind("createdAt", createdAt)
+            .bind("id", id)
+            .bind("limit", limit)
+            .map(ReactiveFaqRepository::toFaq)
+            .all();
+    }
+
+    public Flux<Faq> findActiveFaqsByCategoryAfter(Faq.FaqCategory category, LocalDateTime createdAt, long id, int limit) {
+        return databaseClient.sql(SELECT + "WHERE is_active = true AND category = :category " + AFTER + ORDER + "LIMIT :limit")
+            .bind("category", category.name())
+            .bind("createdAt", createdAt)
+            .bind("id", id)
+            .bind("limit", limit)
+            .map(ReactiveFaqRepository::toFaq)
+            .all();
+    }
+
+    private static Faq toFaq(Readable row) {
+        Faq faq = new Faq();
+        faq.setId(row.get("id", Long.class));
+        faq.setQuestion(row.get("question", String.class));
+        faq.setAnswer(row.get("answer", String.class));
+        faq.setCategory(Faq.FaqCategory.valueOf(row.get("category", String.class)));
+        faq.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        faq.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        faq.setIsActive(row.get("is_active", Boolean.class));
+        return faq;
+    }
+}
@@ -0,0 +1,61 @@
+package com.ahamo.dummy.demo2.content.reactive;
+
+import com.ahamo.dummy.demo2.content.entity.News;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code NewsRepository} の読み取りクエリと同じ条件・並び順を R2DBC で発行する。
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveNewsRepository {
+
+    private static final String SELECT =
+        "SELECT id, title, content, link, published_date, created_at, updated_at, is_published FROM news ";
+    private static final String VISIBLE = "is_published = true "
+        + "AND (published_date IS NULL OR published_date <= LOCALTIMESTAMP) ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<News> findPublishedNews(long offset, int limit) {
+        return databaseClient.sql(SELECT
+                + "WHERE " + VISIBLE + "ORDER BY published_date DESC, id DESC LIMIT :limit OFFSET :offset")
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveNewsRepository::toNews)
+            .all();
+    }
+
+    public Flux<News> findPublishedNewsAfter(LocalDateTime publishedDate, long id, int limit) {
+        return databaseClient.sql(SELECT
+                + "WHERE " + VISIBLE
+                + "AND (published_date < :publishedDate OR (published_date = :publishedDate AND id < :id)) "
+                + "ORDER BY published_date DESC, id DESC LIMIT :limit")
+            .bind("publishedDate", publishedDate)
+            .bind("id", id)
+            .bind("limit", limit)
+            .map(ReactiveNewsRepository::toNews)
+            .all();
+    }
+
+    private static News toNews(Readable row) {
+        News news = new News();
+        news.setId(row.get("id", Long.class));
+        news.setTitle(row.get("title", String.class));
+        news.setContent(row.get("content", String.class));
+        news.setLink(row.get("link", String.class));
+        news.setPublishedDate(row.get("published_date", LocalDateTime.class));
+        news.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        news.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        news.setIsPublished(row.get("is_published", Boolean.class));
+        return news;
+    }
+}
@@ -1,18 +1,92 @@
 package com.ahamo.dummy.demo2.content.repository;
 
+import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.dto.CampaignSummary;
 import com.ahamo.dummy.demo2.content.entity.Campaign;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     
-    @Query("SELECT c FROM Campaign c WHERE c.isActive = true ORDER BY c.createdAt DESC")
+    /**
+     * 有効かつ公開期間内（{@code startAt <= 現在 < endAt}）のキャンペーン。
+     */
+    String VISIBLE = "c.isActive = true " +
+                     "AND (c.startAt IS NULL OR c.startAt <= CURRENT_TIMESTAMP) " +
+                     "AND (c.endAt IS NULL OR c.endAt > CURRENT_TIMESTAMP)";
+    
+    @Query("SELECT c FROM Campaign c WHERE " + VISIBLE + " ORDER BY c.createdAt DESC, c.id DESC")
     Page<Campaign> findActiveCampaigns(Pageable pageable);
     
-    @Query("SELECT c FROM Campaign c WHERE c.isActive = true AND c.id = :id")
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.CampaignResponse(" +
+                   "c.id, c.title, c.description, c.imageUrl, c.link, c.createdAt, c.updatedAt, c.isActive) " +
+                   "FROM Campaign c WHERE " + VISIBLE + " ORDER BY c.createdAt DESC, c.id DESC",
+           countQuery = "SELECT COUNT(c) FROM Campaign c WHERE " + VISIBLE)
+    Page<CampaignResponse> findActiveCampaignResponses(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.CampaignResponse(" +
+           "c.id, c.title, c.description, c.imageUrl, c.link, c.createdAt, c.updatedAt, c.isActive) " +
+           "FROM Campaign c WHERE " + VISIBLE + " ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CampaignResponse> findActiveCampaignResponseSlice(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.CampaignResponse(" +
+           "c.id, c.title, c.description, c.imageUrl, c.link, c.createdAt, c.updatedAt, c.isActive) " +
+           "FROM Campaign c WHERE " + VISIBLE + " " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CampaignResponse> findActiveCampaignResponsesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+    
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.CampaignSummary(" +
+                   "c.id, c.title, c.imageUrl, c.link, c.createdAt, c.updatedAt, c.isActive) " +
+                   "FROM Campaign c WHERE " + VISIBLE + " ORDER BY c.createdAt DESC, c.id DESC",
+           countQuery = "SELECT COUNT(c) FROM Campaign c WHERE " + VISIBLE)
+    Page<CampaignSummary> findActiveCampaignSummaries(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.CampaignSummary(" +
+           "c.id, c.title, c.imageUrl, c.link, c.createdAt, c.updatedAt, c.isActive) " +
+           "FROM Campaign c WHERE " + VISIBLE + " ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CampaignSummary> findActiveCampaignSummarySlice(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.CampaignSummary(" +
+           "c.id, c.title, c.imageUrl, c.link, c.createdAt, c.updatedAt, c.isActive) " +
+           "FROM Campaign c WHERE " + VISIBLE + " " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CampaignSummary> findActiveCampaignSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+    
+    @Query("SELECT c FROM Campaign c WHERE " + VISIBLE + " AND c.id = :id")
     Campaign findActiveCampaignById(Long id);
+    
+    /**
+     * スナップショット用。公開開始前のものを含み、公開終了済みのものを除く。
+     * 全件を一度にヒープへ載せないよう、id 順のキーセットで分割して読む。
+     */
+    @Query("SELECT c FROM Campaign c WHERE c.isActive = true AND (c.endAt IS NULL OR c.endAt > CURRENT_TIMESTAMP) " +
+           "AND c.id > :id ORDER BY c.id")
+    List<Campaign> findScheduledCampaignsAfter(@Param("id") Long id, Pageable pageable);
+    
+    /**
+     * 更新された行に加え、期間内に公開開始・終了を迎えた行も返す。
+     * 期間を固定したまま id のキーセットで分割して読む。
+     */
+    @Query("SELECT c FROM Campaign c " +
+           "WHERE ((c.updatedAt > :since AND c.updatedAt <= :until) " +
+           "OR (c.startAt > :since AND c.startAt <= :until) " +
+           "OR (c.endAt > :since AND c.endAt <= :until)) " +
+           "AND c.id > :afterId ORDER BY c.id")
+    List<Campaign> findUpdatedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                      @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package com.ahamo.dummy.demo2.content.repository;
+
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ContentTombstoneRepository extends JpaRepository<ContentTombstone, Long> {
+    
+    @Query("SELECT t FROM ContentTombstone t WHERE t.deletedAt > :since AND t.deletedAt <= :until " +
+           "AND t.id > :afterId ORDER BY t.id")
+    List<ContentTombstone> findDeletedBetween(@Param("since") LocalDateTime since,
+                                              @Param("until") LocalDateTime until,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM ContentTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
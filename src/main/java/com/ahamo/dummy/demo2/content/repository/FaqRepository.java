@@ -1,22 +1,117 @@
 package com.ahamo.dummy.demo2.content.repository;
 
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.FaqSummary;
 import com.ahamo.dummy.demo2.content.entity.Faq;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface FaqRepository extends JpaRepository<Faq, Long> {
     
-    @Query("SELECT f FROM Faq f WHERE f.isActive = true ORDER BY f.createdAt DESC")
+    @Query("SELECT f FROM Faq f WHERE f.isActive = true ORDER BY f.createdAt DESC, f.id DESC")
     Page<Faq> findActiveFaqs(Pageable pageable);
     
-    @Query("SELECT f FROM Faq f WHERE f.isActive = true AND f.category = :category ORDER BY f.createdAt DESC")
-    Page<Faq> findActiveFaqsByCategory(@Param("category") Faq.FaqCategory category, Pageable pageable);
+    /**
+     * スナップショット用。全件を一度にヒープへ載せないよう、id 順のキーセットで分割して読む。
+     */
+    @Query("SELECT f FROM Faq f WHERE f.isActive = true AND f.id > :id ORDER BY f.id")
+    List<Faq> findActiveFaqsAfter(@Param("id") Long id, Pageable pageable);
+    
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.FaqResponse(" +
+                   "f.id, f.question, f.answer, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+                   "FROM Faq f WHERE f.isActive = true ORDER BY f.createdAt DESC, f.id DESC",
+           countQuery = "SELECT COUNT(f) FROM Faq f WHERE f.isActive = true")
+    Page<FaqResponse> findActiveFaqResponses(Pageable pageable);
+    
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.FaqResponse(" +
+                   "f.id, f.question, f.answer, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+                   "FROM Faq f WHERE f.isActive = true AND f.category = :category ORDER BY f.createdAt DESC, f.id DESC",
+           countQuery = "SELECT COUNT(f) FROM Faq f WHERE f.isActive = true AND f.category = :category")
+    Page<FaqResponse> findActiveFaqResponsesByCategory(@Param("category") Faq.FaqCategory category, Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqResponse(" +
+           "f.id, f.question, f.answer, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<FaqResponse> findActiveFaqResponseSlice(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqResponse(" +
+           "f.id, f.question, f.answer, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true AND f.category = :category ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<FaqResponse> findActiveFaqResponseSliceByCategory(@Param("category") Faq.FaqCategory category, Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqResponse(" +
+           "f.id, f.question, f.answer, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqResponse> findActiveFaqResponsesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqResponse(" +
+           "f.id, f.question, f.answer, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true AND f.category = :category " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqResponse> findActiveFaqResponsesByCategoryAfter(@Param("category") Faq.FaqCategory category,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+    
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.FaqSummary(" +
+                   "f.id, f.question, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+                   "FROM Faq f WHERE f.isActive = true ORDER BY f.createdAt DESC, f.id DESC",
+           countQuery = "SELECT COUNT(f) FROM Faq f WHERE f.isActive = true")
+    Page<FaqSummary> findActiveFaqSummaries(Pageable pageable);
+    
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.FaqSummary(" +
+                   "f.id, f.question, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+                   "FROM Faq f WHERE f.isActive = true AND f.category = :category ORDER BY f.createdAt DESC, f.id DESC",
+           countQuery = "SELECT COUNT(f) FROM Faq f WHERE f.isActive = true AND f.category = :category")
+    Page<FaqSummary> findActiveFaqSummariesByCategory(@Param("category") Faq.FaqCategory category, Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqSummary(" +
+           "f.id, f.question, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<FaqSummary> findActiveFaqSummarySlice(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqSummary(" +
+           "f.id, f.question, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true AND f.category = :category ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<FaqSummary> findActiveFaqSummarySliceByCategory(@Param("category") Faq.FaqCategory category, Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqSummary(" +
+           "f.id, f.question, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqSummary> findActiveFaqSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.FaqSummary(" +
+           "f.id, f.question, f.category, f.createdAt, f.updatedAt, f.isActive) " +
+           "FROM Faq f WHERE f.isActive = true AND f.category = :category " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FaqSummary> findActiveFaqSummariesByCategoryAfter(@Param("category") Faq.FaqCategory category,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
     
     @Query("SELECT f FROM Faq f WHERE f.isActive = true AND f.id = :id")
     Faq findActiveFaqById(Long id);
+    
+    @Query("SELECT f FROM Faq f WHERE f.updatedAt > :since AND f.updatedAt <= :until AND f.id > :afterId ORDER BY f.id")
+    List<Faq> findUpdatedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                 @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,18 +1,89 @@
 package com.ahamo.dummy.demo2.content.repository;
 
+import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsSummary;
 import com.ahamo.dummy.demo2.content.entity.News;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
     
-    @Query("SELECT n FROM News n WHERE n.isPublished = true ORDER BY n.publishedDate DESC")
+    /**
+     * 公開済みかつ公開日時を過ぎたニュース。
+     */
+    String VISIBLE = "n.isPublished = true " +
+                     "AND (n.publishedDate IS NULL OR n.publishedDate <= CURRENT_TIMESTAMP)";
+    
+    @Query("SELECT n FROM News n WHERE " + VISIBLE + " ORDER BY n.publishedDate DESC, n.id DESC")
     Page<News> findPublishedNews(Pageable pageable);
     
-    @Query("SELECT n FROM News n WHERE n.isPublished = true AND n.id = :id")
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.NewsResponse(" +
+                   "n.id, n.title, n.content, n.link, n.publishedDate, n.createdAt, n.updatedAt, n.isPublished) " +
+                   "FROM News n WHERE " + VISIBLE + " ORDER BY n.publishedDate DESC, n.id DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE " + VISIBLE)
+    Page<NewsResponse> findPublishedNewsResponses(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.NewsResponse(" +
+           "n.id, n.title, n.content, n.link, n.publishedDate, n.createdAt, n.updatedAt, n.isPublished) " +
+           "FROM News n WHERE " + VISIBLE + " ORDER BY n.publishedDate DESC, n.id DESC")
+    Slice<NewsResponse> findPublishedNewsResponseSlice(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.NewsResponse(" +
+           "n.id, n.title, n.content, n.link, n.publishedDate, n.createdAt, n.updatedAt, n.isPublished) " +
+           "FROM News n WHERE " + VISIBLE + " " +
+           "AND (n.publishedDate < :publishedDate OR (n.publishedDate = :publishedDate AND n.id < :id)) " +
+           "ORDER BY n.publishedDate DESC, n.id DESC")
+    List<NewsResponse> findPublishedNewsResponsesAfter(@Param("publishedDate") LocalDateTime publishedDate,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+    
+    @Query(value = "SELECT new com.ahamo.dummy.demo2.content.dto.NewsSummary(" +
+                   "n.id, n.title, n.link, n.publishedDate, n.createdAt, n.updatedAt, n.isPublished) " +
+                   "FROM News n WHERE " + VISIBLE + " ORDER BY n.publishedDate DESC, n.id DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE " + VISIBLE)
+    Page<NewsSummary> findPublishedNewsSummaries(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.NewsSummary(" +
+           "n.id, n.title, n.link, n.publishedDate, n.createdAt, n.updatedAt, n.isPublished) " +
+           "FROM News n WHERE " + VISIBLE + " ORDER BY n.publishedDate DESC, n.id DESC")
+    Slice<NewsSummary> findPublishedNewsSummarySlice(Pageable pageable);
+    
+    @Query("SELECT new com.ahamo.dummy.demo2.content.dto.NewsSummary(" +
+           "n.id, n.title, n.link, n.publishedDate, n.createdAt, n.updatedAt, n.isPublished) " +
+           "FROM News n WHERE " + VISIBLE + " " +
+           "AND (n.publishedDate < :publishedDate OR (n.publishedDate = :publishedDate AND n.id < :id)) " +
+           "ORDER BY n.publishedDate DESC, n.id DESC")
+    List<NewsSummary> findPublishedNewsSummariesAfter(@Param("publishedDate") LocalDateTime publishedDate,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+    
+    @Query("SELECT n FROM News n WHERE " + VISIBLE + " AND n.id = :id")
     News findPublishedNewsById(Long id);
+    
+    /**
+     * スナップショット用。公開日時が未来のものを含む。
+     * 全件を一度にヒープへ載せないよう、id 順のキーセットで分割して読む。
+     */
+    @Query("SELECT n FROM News n WHERE n.isPublished = true AND n.id > :id ORDER BY n.id")
+    List<News> findScheduledNewsAfter(@Param("id") Long id, Pageable pageable);
+    
+    /**
+     * 更新された行に加え、期間内に公開日時を迎えた行も返す。
+     * 期間を固定したまま id のキーセットで分割して読む。
+     */
+    @Query("SELECT n FROM News n " +
+           "WHERE ((n.updatedAt > :since AND n.updatedAt <= :until) " +
+           "OR (n.publishedDate > :since AND n.publishedDate <= :until)) " +
+           "AND n.id > :afterId ORDER BY n.id")
+    List<News> findUpdatedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                  @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,50 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 大量の新規エンティティを {@code hibernate.jdbc.batch_size} 件ごとに flush / clear しながら登録する。
+ * シーケンスの pooled 採番により、INSERT は JDBC バッチとして送信される。
+ */
+@Component
+@Slf4j
+public class BulkEntityWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    public BulkEntityWriter(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 呼び出し単位で1トランザクションとして登録する。大きな入力は呼び出し側で分割すること。
+     *
+     * @return 登録件数
+     */
+    @Transactional
+    public int persistAll(List<?> entities) {
+        int count = 0;
+        for (Object entity : entities) {
+            entityManager.persist(entity);
+            count++;
+            if (count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        log.debug("一括登録完了: count={}", count);
+        return count;
+    }
+}
@@ -3,46 +3,104 @@ package com.ahamo.dummy.demo2.content.service;
 import com.ahamo.dummy.demo2.content.entity.Campaign;
 import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
 import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.dto.CampaignSummary;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = "campaigns", keyGenerator = "contentCacheKeyGenerator")
 public class CampaignService {
     
     private final CampaignRepository campaignRepository;
+    private final ContentSnapshotService contentSnapshotService;
+    private final ContentCountCache contentCountCache;
+    private final ContentMetrics contentMetrics;
     
+    @Cacheable(sync = true)
     public Page<CampaignResponse> getCampaigns(int page, int limit) {
-        log.info("キャンペーン一覧取得: page={}, limit={}", page, limit);
+        log.debug("キャンペーン一覧取得: page={}, limit={}", page, limit);
+        
+        return page(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.CAMPAIGN, this::convertToResponse,
+            campaignRepository::findActiveCampaignResponseSlice, campaignRepository::findActiveCampaignResponses);
+    }
+    
+    @Cacheable(sync = true)
+    public Page<CampaignSummary> getCampaignSummaries(int page, int limit) {
+        log.debug("キャンペーン一覧取得(概要): page={}, limit={}", page, limit);
+        
+        return page(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.CAMPAIGN_SUMMARY, this::convertToSummary,
+            campaignRepository::findActiveCampaignSummarySlice, campaignRepository::findActiveCampaignSummaries);
+    }
+    
+    @Cacheable(sync = true)
+    public Slice<CampaignResponse> getCampaignSlice(int page, int limit) {
+        log.debug("キャンペーン一覧取得(件数なし): page={}, limit={}", page, limit);
+        
+        return slice(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.CAMPAIGN, this::convertToResponse,
+            campaignRepository::findActiveCampaignResponseSlice);
+    }
+    
+    @Cacheable(sync = true)
+    public Slice<CampaignSummary> getCampaignSummarySlice(int page, int limit) {
+        log.debug("キャンペーン一覧取得(概要・件数なし): page={}, limit={}", page, limit);
+        
+        return slice(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.CAMPAIGN_SUMMARY, this::convertToSummary,
+            campaignRepository::findActiveCampaignSummarySlice);
+    }
+    
+    @Cacheable(sync = true)
+    public CursorPage<CampaignResponse> getCampaignsByCursor(String cursor, int limit) {
+        log.debug("キャンペーン一覧取得(カーソル): cursor={}, limit={}", cursor, limit);
         
-        Pageable pageable = PageRequest.of(page - 1, limit);
-        Page<Campaign> campaigns = campaignRepository.findActiveCampaigns(pageable);
+        return cursorPage(cursor, limit, ContentMetrics.Conversion.CAMPAIGN, this::convertToResponse,
+            campaignRepository::findActiveCampaignResponseSlice, campaignRepository::findActiveCampaignResponsesAfter,
+            campaign -> new PageCursor(campaign.getCreatedAt(), Long.parseLong(campaign.getId())));
+    }
+    
+    @Cacheable(sync = true)
+    public CursorPage<CampaignSummary> getCampaignSummariesByCursor(String cursor, int limit) {
+        log.debug("キャンペーン一覧取得(概要・カーソル): cursor={}, limit={}", cursor, limit);
         
-        return campaigns.map(this::convertToResponse);
+        return cursorPage(cursor, limit, ContentMetrics.Conversion.CAMPAIGN_SUMMARY, this::convertToSummary,
+            campaignRepository::findActiveCampaignSummarySlice, campaignRepository::findActiveCampaignSummariesAfter,
+            campaign -> new PageCursor(campaign.getCreatedAt(), Long.parseLong(campaign.getId())));
     }
     
+    @Cacheable(sync = true)
     public CampaignResponse getCampaignById(Long id) {
-        log.info("キャンペーン詳細取得: id={}", id);
+        log.debug("キャンペーン詳細取得: id={}", id);
         
-        Campaign campaign = campaignRepository.findActiveCampaignById(id);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        Campaign campaign = snapshot != null
+            ? snapshot.findCampaign(id)
+            : campaignRepository.findActiveCampaignById(id);
         if (campaign == null) {
             log.warn("キャンペーンが見つかりません: id={}", id);
             return null;
         }
         
-        return convertToResponse(campaign);
+        return contentMetrics.convert(ContentMetrics.Conversion.CAMPAIGN, campaign, this::convertToResponse);
     }
     
-    private CampaignResponse convertToResponse(Campaign campaign) {
+    public CampaignResponse convertToResponse(Campaign campaign) {
         return new CampaignResponse(
-            campaign.getId().toString(),
+            campaign.getId(),
             campaign.getTitle(),
             campaign.getDescription(),
             campaign.getImageUrl(),
@@ -52,4 +110,52 @@ public class CampaignService {
             campaign.getIsActive()
         );
     }
+    
+    public CampaignSummary convertToSummary(Campaign campaign) {
+        return new CampaignSummary(
+            campaign.getId(),
+            campaign.getTitle(),
+            campaign.getImageUrl(),
+            campaign.getLink(),
+            campaign.getCreatedAt(),
+            campaign.getUpdatedAt(),
+            campaign.getIsActive()
+        );
+    }
+    
+    private <T> Page<T> page(Pageable pageable, ContentMetrics.Conversion conversion, Function<Campaign, T> mapper,
+                             Function<Pageable, Slice<T>> sliceQuery, Function<Pageable, Page<T>> pageQuery) {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        return snapshot != null
+            ? contentMetrics.convertPage(conversion, snapshot.campaignPage(pageable), mapper)
+            : contentCountCache.page("campaigns", pageable, sliceQuery, pageQuery);
+    }
+    
+    private <T> Slice<T> slice(Pageable pageable, ContentMetrics.Conversion conversion, Function<Campaign, T> mapper,
+                               Function<Pageable, Slice<T>> sliceQuery) {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        return snapshot != null
+            ? contentMetrics.convertPage(conversion, snapshot.campaignPage(pageable), mapper)
+            : sliceQuery.apply(pageable);
+    }
+    
+    private <T> CursorPage<T> cursorPage(String cursor, int limit,
+                                         ContentMetrics.Conversion conversion, Function<Campaign, T> mapper,
+                                         Function<Pageable, Slice<T>> firstQuery, KeysetQuery<T> afterQuery,
+                                         Function<T, PageCursor> cursorOf) {
+        PageCursor.requireValidLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        List<T> campaigns;
+        if (snapshot != null) {
+            campaigns = contentMetrics.convertList(conversion, snapshot.campaignsAfter(after, limit + 1), mapper);
+        } else if (after == null) {
+            campaigns = firstQuery.apply(pageable).getContent();
+        } else {
+            campaigns = afterQuery.find(after.getSortKey(), after.getId(), pageable);
+        }
+        
+        return PageCursor.toPage(campaigns, limit, cursorOf, Function.identity());
+    }
 }
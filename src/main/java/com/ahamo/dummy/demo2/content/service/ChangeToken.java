@@ -0,0 +1,100 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 差分同期のトークン。この日時（updatedAt）までの変更をクライアントが取得済みであることを表す。
+ * 1回の応答に収まらなかった場合は、読み取り中の期間（watermark〜until）と段階・id の位置を持つ継続トークンになる。
+ * 全件（reset）の継続中は watermark が {@code null} になる。
+ */
+public record ChangeToken(LocalDateTime watermark, LocalDateTime until, int stage, long afterId) {
+
+    private static final byte VERSION = 1;
+    private static final byte CONTINUATION_VERSION = 2;
+    private static final int TIME_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int TOKEN_BYTES = 1 + TIME_BYTES;
+    private static final int FLAG_WATERMARK = 1;
+
+    public ChangeToken(LocalDateTime watermark) {
+        this(watermark, null, 0, 0L);
+    }
+
+    public boolean isContinuation() {
+        return until != null;
+    }
+
+    public String encode() {
+        ByteBuffer buffer;
+        if (!isContinuation()) {
+            buffer = ByteBuffer.allocate(TOKEN_BYTES);
+            buffer.put(VERSION);
+            putTime(buffer, watermark);
+        } else {
+            buffer = ByteBuffer.allocate(2 + TIME_BYTES * 2 + 1 + Long.BYTES);
+            buffer.put(CONTINUATION_VERSION);
+            buffer.put((byte) (watermark != null ? FLAG_WATERMARK : 0));
+            if (watermark != null) {
+                putTime(buffer, watermark);
+            }
+            putTime(buffer, until);
+            buffer.put((byte) stage);
+            buffer.putLong(afterId);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    /**
+     * @return 空文字の場合は初回同期を表す {@code null}
+     * @throws IllegalArgumentException トークンが不正な場合
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes = Base64.getUrlDecoder().decode(token.trim());
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("無効なトークンです");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        try {
+            ChangeToken decoded;
+            if (bytes[0] == VERSION && bytes.length == TOKEN_BYTES) {
+                decoded = new ChangeToken(getTime(buffer));
+            } else if (bytes[0] == CONTINUATION_VERSION) {
+                byte flags = buffer.get();
+                LocalDateTime watermark = (flags & FLAG_WATERMARK) != 0 ? getTime(buffer) : null;
+                LocalDateTime until = getTime(buffer);
+                int stage = buffer.get();
+                long afterId = buffer.getLong();
+                if (stage < 0 || afterId < 0) {
+                    throw new IllegalArgumentException("無効なトークンです");
+                }
+                decoded = new ChangeToken(watermark, until, stage, afterId);
+            } else {
+                throw new IllegalArgumentException("無効なトークンです");
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("無効なトークンです");
+            }
+            return decoded;
+        } catch (DateTimeException | BufferUnderflowException e) {
+            throw new IllegalArgumentException("無効なトークンです", e);
+        }
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong(time.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Contact;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 受付キューから取り出したお問い合わせを1トランザクションにまとめて登録する。
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContactBatchWriter {
+
+    private final BulkEntityWriter bulkEntityWriter;
+    private final ContentMetrics contentMetrics;
+
+    public void writeBatch(List<Contact> contacts) {
+        long started = System.nanoTime();
+        bulkEntityWriter.persistAll(contacts);
+        ContentMetrics.record(contentMetrics.contactPersist(), started);
+        log.debug("お問い合わせバッチ保存完了: size={}", contacts.size());
+    }
+}
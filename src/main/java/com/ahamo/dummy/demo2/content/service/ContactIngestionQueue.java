@@ -0,0 +1,204 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContactIngestionProperties;
+import com.ahamo.dummy.demo2.content.entity.Contact;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * お問い合わせの非同期受付キュー。
+ * リクエストスレッドは有界キューへの投入のみ行い、専用スレッドが batchSize 件または linger 経過ごとにまとめて保存する。
+ */
+@Component
+@Slf4j
+public class ContactIngestionQueue implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final ContactIngestionProperties properties;
+    private final ContactBatchWriter contactBatchWriter;
+    private final ContactJournal contactJournal;
+    private final BlockingQueue<Pending> queue;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public ContactIngestionQueue(ContactIngestionProperties properties, ContactBatchWriter contactBatchWriter,
+                                 ContactJournal contactJournal) {
+        this.properties = properties;
+        this.contactBatchWriter = contactBatchWriter;
+        this.contactJournal = contactJournal;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * ジャーナルが有効な場合は永続化を待ってからキューへ投入する。
+     * 保存は後から行われるため、受付日時はここで確定させる。
+     *
+     * @return 受付ID
+     * @throws ContactQueueFullException キューが満杯の場合
+     */
+    public String enqueue(Contact contact) {
+        if (queue.remainingCapacity() == 0) {
+            throw queueFull();
+        }
+        if (contact.getCreatedAt() == null) {
+            contact.setCreatedAt(LocalDateTime.now());
+        }
+        JournalPosition position = contactJournal.append(contact);
+        if (!queue.offer(new Pending(contact, position))) {
+            contactJournal.acknowledge(Collections.singletonList(position));
+            throw queueFull();
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private ContactQueueFullException queueFull() {
+        log.warn("お問い合わせ受付キューが満杯です: capacity={}", properties.getQueueCapacity());
+        return new ContactQueueFullException(properties.getRetryAfter());
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !properties.isAsync()) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "contact-ingestion");
+        drainer.setDaemon(true);
+        drainer.start();
+        log.info("お問い合わせ非同期受付開始: capacity={}, batchSize={}, linger={}",
+            properties.getQueueCapacity(), properties.getBatchSize(), properties.getLinger());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("停止時に未保存のお問い合わせが残っています: count={}", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Webサーバーより後に停止し、受付を止めてからキューを書き切る。
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long lingerNanos = properties.getLinger().toNanos();
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(lingerNanos > 0 ? lingerNanos : 1, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch);
+                write(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 保存に失敗したレコードはジャーナルに残し、次回起動時の再投入に任せる。
+     */
+    private void write(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Contact> contacts = new ArrayList<>(batch.size());
+        List<JournalPosition> positions = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            contacts.add(pending.contact());
+            positions.add(pending.position());
+        }
+        try {
+            contactBatchWriter.writeBatch(contacts);
+            contactJournal.acknowledge(positions);
+        } catch (RuntimeException e) {
+            log.error("お問い合わせバッチ保存に失敗しました。1件ずつ再試行します: size={}", batch.size(), e);
+            for (Pending pending : batch) {
+                Contact contact = detachedCopy(pending.contact());
+                try {
+                    contactBatchWriter.writeBatch(List.of(contact));
+                    contactJournal.acknowledge(Collections.singletonList(pending.position()));
+                } catch (RuntimeException single) {
+                    log.error("お問い合わせ保存失敗: email={}, category={}", contact.getEmail(), contact.getCategory(), single);
+                }
+            }
+        }
+    }
+
+    /**
+     * 失敗したバッチで採番済みの ID を持つインスタンスを再度 persist すると detached 扱いになるため、ID なしで作り直す。
+     */
+    static Contact detachedCopy(Contact source) {
+        Contact copy = new Contact();
+        copy.setName(source.getName());
+        copy.setEmail(source.getEmail());
+        copy.setPhone(source.getPhone());
+        copy.setCategory(source.getCategory());
+        copy.setMessage(source.getMessage());
+        copy.setStatus(source.getStatus());
+        copy.setEstimatedResponseTime(source.getEstimatedResponseTime());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+
+    private record Pending(Contact contact, JournalPosition position) {
+    }
+}
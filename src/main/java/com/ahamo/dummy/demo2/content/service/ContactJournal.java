@@ -0,0 +1,380 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContactJournalProperties;
+import com.ahamo.dummy.demo2.content.dto.ContactRequest;
+import com.ahamo.dummy.demo2.content.entity.Contact;
+import com.ahamo.dummy.demo2.content.repository.ContactRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 非同期受付したお問い合わせの先行書き込みジャーナル。
+ * 受付応答の前にメモリマップドセグメントへ追記して fsync し、DBへの保存が確定したレコードは確定済みとして記録する。
+ * 全レコードが確定した封印済みセグメントは削除され、起動時に残っているセグメントは未確定のレコードだけがDBへ再投入される。
+ * 確定の記録は保存とは別に fsync するため、その間にOSごと停止した場合に限り重複しうる（at-least-once）。
+ * 再投入できないレコードは同じディレクトリの {@value #DEAD_LETTER_FILE} へ1行1件で退避する。
+ * fsync を保持したまま待機する区間があるため、仮想スレッドをピン留めしないよう {@code synchronized} ではなく
+ * {@link ReentrantLock} を使う。
+ */
+@Component
+@Slf4j
+public class ContactJournal implements SmartLifecycle {
+
+    static final String DEAD_LETTER_FILE = "dead-letter.jsonl";
+
+    private final ContactJournalProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ContactRepository contactRepository;
+
+    private final Map<Long, JournalSegment> segments = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private JournalSegment active;
+    private long nextSegmentId;
+    private long appendedSeq;
+    private volatile long flushedSeq;
+    private volatile boolean running;
+
+    public ContactJournal(ContactJournalProperties properties, ObjectMapper objectMapper,
+                          ContactRepository contactRepository) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.contactRepository = contactRepository;
+    }
+
+    /**
+     * レコードを追記し、永続化されるまで待機する。
+     * 同時に呼び出されたスレッドは1回の fsync を共有する（グループコミット）。
+     *
+     * @return ジャーナル無効時は {@code null}
+     */
+    public JournalPosition append(Contact contact) {
+        if (!running) {
+            return null;
+        }
+        byte[] payload = serialize(contact);
+        JournalPosition position;
+        long seq;
+        lock.lock();
+        try {
+            if (active.remaining() < JournalSegment.HEADER_BYTES + payload.length) {
+                rotate(payload.length);
+            }
+            position = active.append(payload);
+            seq = ++appendedSeq;
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(seq);
+        return position;
+    }
+
+    /**
+     * DBへの保存が確定したレコードを確定済みにして解放する。
+     */
+    public void acknowledge(List<JournalPosition> positions) {
+        Set<JournalSegment> touched = new HashSet<>();
+        lock.lock();
+        try {
+            for (JournalPosition position : positions) {
+                if (position == null) {
+                    continue;
+                }
+                JournalSegment segment = segments.get(position.segment());
+                if (segment == null) {
+                    continue;
+                }
+                segment.commit(position.offset());
+                if (segment.release() && segment.isSealed()) {
+                    remove(segment);
+                    touched.remove(segment);
+                } else {
+                    touched.add(segment);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 追記をブロックしないよう、確定の永続化はロックの外で行う
+        touched.forEach(JournalSegment::force);
+    }
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            if (running || !properties.isEnabled()) {
+                return;
+            }
+            Path directory = Paths.get(properties.getDirectory());
+            Files.createDirectories(directory);
+            replay(directory);
+            active = openSegment(directory);
+            running = true;
+            log.info("お問い合わせジャーナル開始: directory={}, segmentSize={}",
+                directory.toAbsolutePath(), properties.getSegmentSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("お問い合わせジャーナルを開けません", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            for (JournalSegment segment : new ArrayList<>(segments.values())) {
+                try {
+                    segment.force();
+                    if (segment.isDrained()) {
+                        segment.delete();
+                    } else {
+                        segment.close();
+                    }
+                } catch (IOException e) {
+                    log.warn("ジャーナルセグメントのクローズに失敗しました: segment={}", segment.getId(), e);
+                }
+            }
+            segments.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 受付キューより先に起動し、後に停止する。
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    private void awaitDurable(long seq) {
+        flushLock.lock();
+        try {
+            if (flushedSeq >= seq) {
+                return;
+            }
+            JournalSegment target;
+            long upTo;
+            lock.lock();
+            try {
+                target = active;
+                upTo = appendedSeq;
+            } finally {
+                lock.unlock();
+            }
+            target.force();
+            flushedSeq = upTo;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void rotate(int payloadLength) {
+        int segmentSize = segmentSize();
+        if (JournalSegment.HEADER_BYTES + payloadLength > segmentSize) {
+            throw new IllegalArgumentException("お問い合わせがジャーナルのセグメントサイズを超えています");
+        }
+        JournalSegment sealed = active;
+        sealed.force();
+        sealed.seal();
+        try {
+            active = openSegment(Paths.get(properties.getDirectory()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("ジャーナルセグメントを作成できません", e);
+        }
+        if (sealed.isDrained()) {
+            remove(sealed);
+        }
+    }
+
+    private JournalSegment openSegment(Path directory) throws IOException {
+        JournalSegment segment = JournalSegment.create(directory, nextSegmentId++, segmentSize());
+        segments.put(segment.getId(), segment);
+        return segment;
+    }
+
+    private void remove(JournalSegment segment) {
+        segments.remove(segment.getId());
+        try {
+            segment.delete();
+        } catch (IOException e) {
+            log.warn("ジャーナルセグメントの削除に失敗しました: segment={}", segment.getId(), e);
+        }
+    }
+
+    private void replay(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(JournalSegment::isSegmentFile).sorted().toList();
+        }
+        for (Path file : files) {
+            nextSegmentId = Math.max(nextSegmentId, JournalSegment.idOf(file) + 1);
+            JournalSegment segment = JournalSegment.open(file);
+            List<JournalSegment.Record> records;
+            try {
+                records = segment.pendingRecords();
+                replaySegment(directory, segment, records);
+            } catch (IOException | RuntimeException e) {
+                // 保存済みのレコードの確定を残し、マッピングを解放してから起動を失敗させる
+                segment.force();
+                segment.close();
+                throw e;
+            }
+            segment.delete();
+            log.info("お問い合わせジャーナル再投入完了: file={}, records={}", file.getFileName(), records.size());
+        }
+    }
+
+    private void replaySegment(Path directory, JournalSegment segment, List<JournalSegment.Record> records)
+            throws IOException {
+        List<JournalSegment.Record> batch = new ArrayList<>(properties.getReplayBatchSize());
+        for (JournalSegment.Record record : records) {
+            batch.add(record);
+            if (batch.size() >= properties.getReplayBatchSize()) {
+                saveReplayed(directory, segment, batch);
+                batch = new ArrayList<>(properties.getReplayBatchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveReplayed(directory, segment, batch);
+        }
+    }
+
+    /**
+     * 再投入の途中で停止しても保存済みのレコードを再び投入しないよう、バッチごとに確定を記録する。
+     * バッチの保存に失敗した場合は1件ずつ再試行し、それでも保存できないレコードはデッドレターへ退避して確定する。
+     * 1件の不正なレコードで起動できなくなり、再起動を繰り返すことを防ぐため。
+     */
+    private void saveReplayed(Path directory, JournalSegment segment, List<JournalSegment.Record> records)
+            throws IOException {
+        List<Contact> batch = new ArrayList<>(records.size());
+        List<JournalSegment.Record> readable = new ArrayList<>(records.size());
+        for (JournalSegment.Record record : records) {
+            try {
+                batch.add(deserialize(record.payload()));
+                readable.add(record);
+            } catch (IOException e) {
+                deadLetter(directory, segment, record, e);
+            }
+        }
+        try {
+            contactRepository.saveAll(batch);
+            readable.forEach(record -> segment.commit(record.offset()));
+        } catch (RuntimeException e) {
+            log.warn("お問い合わせジャーナルのバッチ再投入に失敗しました。1件ずつ再試行します: segment={}, size={}",
+                segment.getId(), batch.size(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                JournalSegment.Record record = readable.get(i);
+                try {
+                    contactRepository.save(ContactIngestionQueue.detachedCopy(batch.get(i)));
+                    segment.commit(record.offset());
+                } catch (RuntimeException single) {
+                    if (isTransient(single)) {
+                        throw single;
+                    }
+                    deadLetter(directory, segment, record, single);
+                }
+            }
+        }
+        segment.force();
+    }
+
+    /**
+     * DBに接続できないなどの一時的な障害ではレコードを退避せず、起動を失敗させてジャーナルに残す。
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 再投入できないレコードをデッドレターファイルへ fsync 付きで追記してから確定済みにする。
+     */
+    private void deadLetter(Path directory, JournalSegment segment, JournalSegment.Record record, Exception cause)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer line = ByteBuffer.allocate(record.payload().length + 1);
+            line.put(record.payload()).put((byte) '\n').flip();
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            channel.force(true);
+        }
+        segment.commit(record.offset());
+        log.error("お問い合わせジャーナルのレコードを再投入できないためデッドレターへ退避しました: segment={}, offset={}, file={}",
+            segment.getId(), record.offset(), DEAD_LETTER_FILE, cause);
+    }
+
+    private byte[] serialize(Contact contact) {
+        JournalEntry entry = new JournalEntry(
+            contact.getName(),
+            contact.getEmail(),
+            contact.getPhone(),
+            contact.getCategory(),
+            contact.getMessage(),
+            contact.getCreatedAt()
+        );
+        try {
+            return objectMapper.writeValueAsBytes(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Contact deserialize(byte[] payload) throws IOException {
+        JournalEntry entry = objectMapper.readValue(payload, JournalEntry.class);
+        Contact contact = ContactService.newContact(new ContactRequest(
+            entry.name(), entry.email(), entry.phone(), entry.category(), entry.message()));
+        contact.setCreatedAt(entry.createdAt());
+        return contact;
+    }
+
+    private int segmentSize() {
+        return (int) properties.getSegmentSize().toBytes();
+    }
+
+    /**
+     * ジャーナルに記録する受付内容。再投入時も受付日時を保つため createdAt を含める。
+     */
+    record JournalEntry(String name, String email, String phone, Contact.ContactCategory category,
+                        String message, LocalDateTime createdAt) {
+    }
+}
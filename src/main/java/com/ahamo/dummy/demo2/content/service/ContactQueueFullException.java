@@ -0,0 +1,17 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import java.time.Duration;
+
+public class ContactQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ContactQueueFullException(Duration retryAfter) {
+        super("お問い合わせ受付キューが満杯です");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
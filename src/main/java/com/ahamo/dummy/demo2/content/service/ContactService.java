@@ -1,5 +1,6 @@
 package com.ahamo.dummy.demo2.content.service;
 
+import com.ahamo.dummy.demo2.content.config.ContactIngestionProperties;
 import com.ahamo.dummy.demo2.content.entity.Contact;
 import com.ahamo.dummy.demo2.content.repository.ContactRepository;
 import com.ahamo.dummy.demo2.content.dto.ContactRequest;
@@ -8,6 +9,7 @@ import com.ahamo.dummy.demo2.content.dto.ContactCategoryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
@@ -21,22 +23,27 @@ import java.util.stream.Collectors;
 public class ContactService {
     
     private final ContactRepository contactRepository;
+    private final ContactIngestionQueue contactIngestionQueue;
+    private final ContactIngestionProperties contactIngestionProperties;
     
+    /**
+     * 非同期受付ではDB接続を確保しないよう、トランザクションは保存時のリポジトリ呼び出しに任せる。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ContactResponse submitContact(ContactRequest request) {
-        log.info("お問い合わせ受付: email={}, category={}", request.getEmail(), request.getCategory());
+        log.debug("お問い合わせ受付: category={}", request.getCategory());
         
-        Contact contact = new Contact();
-        contact.setName(request.getName());
-        contact.setEmail(request.getEmail());
-        contact.setPhone(request.getPhone());
-        contact.setCategory(request.getCategory());
-        contact.setMessage(request.getMessage());
-        contact.setStatus(Contact.ContactStatus.RECEIVED);
-        contact.setEstimatedResponseTime("1-2営業日以内");
+        Contact contact = newContact(request);
+        
+        if (contactIngestionProperties.isAsync()) {
+            String receiptId = contactIngestionQueue.enqueue(contact);
+            log.debug("お問い合わせ受付キュー投入: receiptId={}", receiptId);
+            return new ContactResponse(receiptId, contact.getStatus(), contact.getEstimatedResponseTime());
+        }
         
         Contact savedContact = contactRepository.save(contact);
         
-        log.info("お問い合わせ保存完了: id={}", savedContact.getId());
+        log.debug("お問い合わせ保存完了: id={}", savedContact.getId());
         
         return new ContactResponse(
             savedContact.getId().toString(),
@@ -45,9 +52,21 @@ public class ContactService {
         );
     }
     
+    static Contact newContact(ContactRequest request) {
+        Contact contact = new Contact();
+        contact.setName(request.getName());
+        contact.setEmail(request.getEmail());
+        contact.setPhone(request.getPhone());
+        contact.setCategory(request.getCategory());
+        contact.setMessage(request.getMessage());
+        contact.setStatus(Contact.ContactStatus.RECEIVED);
+        contact.setEstimatedResponseTime("1-2営業日以内");
+        return contact;
+    }
+    
     @Transactional(readOnly = true)
     public List<ContactCategoryResponse> getContactCategories() {
-        log.info("お問い合わせカテゴリ一覧取得");
+        log.debug("お問い合わせカテゴリ一覧取得");
         
         return Arrays.stream(Contact.ContactCategory.values())
             .map(category -> new ContactCategoryResponse(
@@ -0,0 +1,35 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+
+/**
+ * DBトリガーから通知された1行分の変更。
+ */
+public record ContentChange(ContentTombstone.ContentType type, long id, boolean deleted) {
+
+    public static final String CHANNEL = "content_changes";
+
+    /**
+     * @param payload {@code "テーブル名:操作:id"}（例: {@code "news:UPDATE:42"}）
+     * @throws IllegalArgumentException ペイロードが不正な場合
+     */
+    public static ContentChange parse(String payload) {
+        int first = payload.indexOf(':');
+        int second = first < 0 ? -1 : payload.indexOf(':', first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("無効な変更通知です: " + payload);
+        }
+        ContentTombstone.ContentType type = switch (payload.substring(0, first)) {
+            case "campaigns" -> ContentTombstone.ContentType.CAMPAIGN;
+            case "news" -> ContentTombstone.ContentType.NEWS;
+            case "faqs" -> ContentTombstone.ContentType.FAQ;
+            default -> throw new IllegalArgumentException("無効な変更通知です: " + payload);
+        };
+        boolean deleted = "DELETE".equals(payload.substring(first + 1, second));
+        try {
+            return new ContentChange(type, Long.parseLong(payload.substring(second + 1)), deleted);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("無効な変更通知です: " + payload, e);
+        }
+    }
+}
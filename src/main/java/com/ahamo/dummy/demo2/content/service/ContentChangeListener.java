@@ -0,0 +1,209 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.cache.ContentCacheInvalidator;
+import com.ahamo.dummy.demo2.content.config.ContentChangeNotifyProperties;
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * PostgreSQL の LISTEN/NOTIFY でコンテンツ変更を受け取り、スナップショットと件数キャッシュ・サービス層のキャッシュへ反映する。
+ * 接続プールとは別の専用接続を使い、通知は coalesceWindow の間まとめてから反映する。
+ * 切断中の通知は失われるため、再接続後は全件を読み直す。
+ */
+@Component
+@Slf4j
+public class ContentChangeListener implements SmartLifecycle {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final ContentChangeNotifyProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final ContentSnapshotService contentSnapshotService;
+    private final ContentCountCache contentCountCache;
+    private final ObjectProvider<ContentCacheInvalidator> contentCacheInvalidator;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listener;
+
+    public ContentChangeListener(ContentChangeNotifyProperties properties, DataSourceProperties dataSourceProperties,
+                                 ContentSnapshotService contentSnapshotService, ContentCountCache contentCountCache,
+                                 ObjectProvider<ContentCacheInvalidator> contentCacheInvalidator) {
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        this.contentSnapshotService = contentSnapshotService;
+        this.contentCountCache = contentCountCache;
+        this.contentCacheInvalidator = contentCacheInvalidator;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "content-change-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("コンテンツ変更通知の受信開始: channel={}, coalesceWindow={}",
+            ContentChange.CHANNEL, properties.getCoalesceWindow());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(connection);
+        try {
+            listener.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection listening = connect()) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + ContentChange.CHANNEL);
+                }
+                if (reconnecting) {
+                    log.info("コンテンツ変更通知の受信を再開しました。全件を再読み込みします");
+                    resync();
+                }
+                receive(listening);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("コンテンツ変更通知の受信接続が切断されました: {}", e.getMessage());
+                reconnecting = true;
+                sleep(properties.getReconnectBackoff().toMillis());
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void receive(Connection listening) throws SQLException {
+        PGConnection pgConnection = listening.unwrap(PGConnection.class);
+        int idleMillis = (int) Math.max(1, properties.getIdleCheckInterval().toMillis());
+        long coalesceNanos = properties.getCoalesceWindow().toNanos();
+        Set<ContentChange> pending = new LinkedHashSet<>();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(idleMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!listening.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("LISTEN用接続が無効です");
+                }
+                continue;
+            }
+            collect(notifications, pending);
+            long deadline = System.nanoTime() + coalesceNanos;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                collect(pgConnection.getNotifications((int) Math.max(1, remaining / 1_000_000)), pending);
+            }
+            dispatch(pending);
+            pending.clear();
+        }
+    }
+
+    private void collect(PGNotification[] notifications, Set<ContentChange> pending) {
+        if (notifications == null) {
+            return;
+        }
+        for (PGNotification notification : notifications) {
+            try {
+                pending.add(ContentChange.parse(notification.getParameter()));
+            } catch (IllegalArgumentException e) {
+                log.warn("コンテンツ変更通知を解析できません: {}", notification.getParameter());
+            }
+        }
+    }
+
+    void dispatch(Set<ContentChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        changes.stream()
+            .map(ContentChange::type)
+            .distinct()
+            .map(ContentChangeListener::cacheKey)
+            .forEach(key -> {
+                contentCountCache.invalidate(key);
+                contentCacheInvalidator.ifAvailable(invalidator -> invalidator.invalidate(key));
+            });
+        try {
+            contentSnapshotService.apply(changes);
+        } catch (RuntimeException e) {
+            log.error("コンテンツ変更通知の反映に失敗しました。全件を再読み込みします: changes={}", changes.size(), e);
+            resync();
+        }
+    }
+
+    private void resync() {
+        contentCountCache.invalidateAll();
+        contentCacheInvalidator.ifAvailable(ContentCacheInvalidator::invalidateAll);
+        contentSnapshotService.resync();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    /**
+     * 件数キャッシュのキー接頭辞と、サービス層のキャッシュ名を兼ねる。
+     */
+    private static String cacheKey(ContentTombstone.ContentType type) {
+        return switch (type) {
+            case CAMPAIGN -> "campaigns";
+            case NEWS -> "news";
+            case FAQ -> "faqs";
+        };
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("LISTEN用接続のクローズに失敗しました", e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
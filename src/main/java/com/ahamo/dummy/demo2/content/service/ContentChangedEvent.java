@@ -0,0 +1,7 @@
+package com.ahamo.dummy.demo2.content.service;
+
+/**
+ * スナップショット更新で公開中コンテンツの内容が変わったことを通知するイベント。
+ */
+public record ContentChangedEvent(long version) {
+}
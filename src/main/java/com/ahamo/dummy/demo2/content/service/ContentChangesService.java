@@ -0,0 +1,176 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContentChangesProperties;
+import com.ahamo.dummy.demo2.content.dto.ChangeSet;
+import com.ahamo.dummy.demo2.content.dto.ContentChangesResponse;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
+import com.ahamo.dummy.demo2.content.repository.ContentTombstoneRepository;
+import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import com.ahamo.dummy.demo2.content.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * トークン（前回同期時点の updatedAt）以降に作成・更新・非公開化・削除されたコンテンツを返す。
+ * 非公開化された行と墓標は deletes に、それ以外は upserts に入る。
+ * 1回の応答は {@code content.changes.page-size} 行までで、続きは継続トークンで返す。
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ContentChangesService {
+
+    private final CampaignRepository campaignRepository;
+    private final NewsRepository newsRepository;
+    private final FaqRepository faqRepository;
+    private final ContentTombstoneRepository contentTombstoneRepository;
+    private final CampaignService campaignService;
+    private final NewsService newsService;
+    private final FaqService faqService;
+    private final ContentChangesProperties properties;
+
+    /**
+     * @param since {@code null} の場合は初回同期として公開中の全件を返す
+     */
+    public ContentChangesResponse getChanges(ChangeToken since) {
+        LocalDateTime now = LocalDateTime.now();
+        ContentChangesResponse response = new ContentChangesResponse();
+
+        ChangeToken position;
+        if (since == null || (since.watermark() != null
+                && since.watermark().isBefore(now.minus(properties.getTombstoneRetention())))) {
+            // 墓標が残っていない期間をまたぐ場合も削除を伝えられないため全件を返す
+            response.setReset(true);
+            position = new ChangeToken(null, now.minus(properties.getSafetyLag()), 0, 0L);
+        } else if (since.isContinuation()) {
+            position = since;
+        } else {
+            LocalDateTime until = now.minus(properties.getSafetyLag());
+            if (!since.watermark().isBefore(until)) {
+                response.setToken(since.encode());
+                return response;
+            }
+            position = new ChangeToken(since.watermark(), until, 0, 0L);
+        }
+
+        // 期間を固定したまま段階ごとに id 順で読み、上限に達したらその位置を継続トークンにする
+        List<Stage> stages = position.watermark() == null
+            ? resetStages(position.until(), response)
+            : deltaStages(position.watermark(), position.until(), response);
+        int remaining = properties.getPageSize();
+        long afterId = position.afterId();
+        for (int stage = position.stage(); stage < stages.size(); stage++) {
+            StageResult result = stages.get(stage).read(afterId, remaining);
+            remaining -= result.count();
+            if (result.more()) {
+                response.setHasMore(true);
+                response.setToken(new ChangeToken(position.watermark(), position.until(), stage, result.lastId()).encode());
+                return response;
+            }
+            afterId = 0L;
+        }
+
+        response.setToken(new ChangeToken(position.until()).encode());
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+    @Transactional
+    public void purgeTombstones() {
+        int removed = contentTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(properties.getTombstoneRetention()));
+        if (removed > 0) {
+            log.info("保持期間を過ぎた墓標を削除しました: count={}", removed);
+        }
+    }
+
+    private List<Stage> resetStages(LocalDateTime until, ContentChangesResponse response) {
+        return List.of(
+            (afterId, limit) -> readStage(campaignRepository::findScheduledCampaignsAfter, Campaign::getId,
+                campaign -> {
+                    if (campaign.isVisibleAt(until)) {
+                        response.getCampaigns().getUpserts().add(campaignService.convertToResponse(campaign));
+                    }
+                }, afterId, limit),
+            (afterId, limit) -> readStage(newsRepository::findScheduledNewsAfter, News::getId,
+                news -> {
+                    if (news.isVisibleAt(until)) {
+                        response.getNews().getUpserts().add(newsService.convertToResponse(news));
+                    }
+                }, afterId, limit),
+            (afterId, limit) -> readStage(faqRepository::findActiveFaqsAfter, Faq::getId,
+                faq -> response.getFaqs().getUpserts().add(faqService.convertToResponse(faq)), afterId, limit));
+    }
+
+    private List<Stage> deltaStages(LocalDateTime from, LocalDateTime until, ContentChangesResponse response) {
+        return List.of(
+            (afterId, limit) -> readStage(
+                (id, page) -> campaignRepository.findUpdatedBetween(from, until, id, page), Campaign::getId,
+                campaign -> collect(response.getCampaigns(), campaign.getId(), campaign.isVisibleAt(until),
+                    () -> campaignService.convertToResponse(campaign)), afterId, limit),
+            (afterId, limit) -> readStage(
+                (id, page) -> newsRepository.findUpdatedBetween(from, until, id, page), News::getId,
+                news -> collect(response.getNews(), news.getId(), news.isVisibleAt(until),
+                    () -> newsService.convertToResponse(news)), afterId, limit),
+            (afterId, limit) -> readStage(
+                (id, page) -> faqRepository.findUpdatedBetween(from, until, id, page), Faq::getId,
+                faq -> collect(response.getFaqs(), faq.getId(), faq.getIsActive(),
+                    () -> faqService.convertToResponse(faq)), afterId, limit),
+            (afterId, limit) -> readStage(
+                (id, page) -> contentTombstoneRepository.findDeletedBetween(from, until, id, page), ContentTombstone::getId,
+                tombstone -> {
+                    ChangeSet<?> changes = switch (tombstone.getContentType()) {
+                        case CAMPAIGN -> response.getCampaigns();
+                        case NEWS -> response.getNews();
+                        case FAQ -> response.getFaqs();
+                    };
+                    changes.getDeletes().add(tombstone.getContentId().toString());
+                }, afterId, limit));
+    }
+
+    /**
+     * {@code afterId} より後の行を最大 {@code limit} 件処理する。続きがあるかは1件多く読んで判定する。
+     * 上限に達した後の段階も1件だけ読み、残りが無ければ継続トークンを返さない。
+     */
+    private static <T> StageResult readStage(BiFunction<Long, Pageable, List<T>> query, Function<T, Long> idGetter,
+                                             Consumer<T> consumer, long afterId, int limit) {
+        List<T> rows = query.apply(afterId, PageRequest.of(0, limit + 1));
+        boolean more = rows.size() > limit;
+        List<T> page = more ? rows.subList(0, limit) : rows;
+        page.forEach(consumer);
+        long lastId = page.isEmpty() ? afterId : idGetter.apply(page.get(page.size() - 1));
+        return new StageResult(page.size(), lastId, more);
+    }
+
+    private static <T> void collect(ChangeSet<T> changes, Long id, Boolean visible, Supplier<T> response) {
+        if (Boolean.FALSE.equals(visible)) {
+            changes.getDeletes().add(id.toString());
+        } else {
+            changes.getUpserts().add(response.get());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        StageResult read(long afterId, int limit);
+    }
+
+    private record StageResult(int count, long lastId, boolean more) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.CountCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 一覧APIの総件数を (エンティティ, 絞り込み条件) ごとに保持する。
+ * 有効期限内であれば COUNT クエリを省略し、Slice クエリの結果に保持している件数を付与する。
+ * コンテンツの変更を検知した場合と ttl 経過後に再計算される。
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCountCache {
+
+    private final CountCacheProperties properties;
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public <T> Page<T> page(String key, Pageable pageable,
+                            Function<Pageable, Slice<T>> sliceQuery,
+                            Function<Pageable, Page<T>> pageQuery) {
+        Long total = get(key);
+        if (total != null) {
+            return new PageImpl<>(sliceQuery.apply(pageable).getContent(), pageable, total);
+        }
+        Page<T> page = pageQuery.apply(pageable);
+        put(key, page.getTotalElements());
+        return page;
+    }
+
+    public Long get(String key) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        Entry entry = counts.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            counts.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.total();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public void put(String key, long total) {
+        if (properties.isEnabled()) {
+            counts.put(key, new Entry(total, System.nanoTime() + properties.getTtl().toNanos()));
+        }
+    }
+
+    public void invalidateAll() {
+        counts.clear();
+    }
+
+    /**
+     * {@code prefix} で始まるキー（{@code "faqs"} の場合は {@code "faqs:PLAN"} なども含む）を破棄する。
+     */
+    public void invalidate(String prefix) {
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        log.debug("コンテンツ変更により件数キャッシュを破棄: version={}", Long.toHexString(event.version()));
+        invalidateAll();
+    }
+
+    private record Entry(long total, long expiresAt) {
+    }
+}
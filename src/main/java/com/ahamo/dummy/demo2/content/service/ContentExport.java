@@ -0,0 +1,26 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 開始済みのエクスポート。{@link #writeTo} は1回だけ呼び出す。
+ */
+@FunctionalInterface
+public interface ContentExport extends AutoCloseable {
+
+    /**
+     * @param onStarted 読み取りトランザクションの開始後、最初の行を書き出す前に、次回の差分エクスポートの基準日時を受け取る
+     * @return 書き出した件数
+     */
+    long writeTo(OutputStream out, Consumer<LocalDateTime> onStarted) throws IOException;
+
+    /**
+     * {@link #writeTo} を呼び出さずに破棄する場合に、確保した資源を解放する。開始済みの場合は何もしない。
+     */
+    @Override
+    default void close() {
+    }
+}
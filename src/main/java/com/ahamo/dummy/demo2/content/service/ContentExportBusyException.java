@@ -0,0 +1,8 @@
+package com.ahamo.dummy.demo2.content.service;
+
+public class ContentExportBusyException extends RuntimeException {
+
+    public ContentExportBusyException() {
+        super("同時に実行できるエクスポート数の上限に達しています");
+    }
+}
@@ -0,0 +1,237 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContentExportProperties;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 公開中のキャンペーン・ニュース・FAQを NDJSON で全件書き出す。
+ * 前方専用カーソルを fetchSize 件ずつ読み進めながら1行ずつ出力ストリームへ書き込むため、件数に関わらずヒープ使用量は一定。
+ * 出力する各行は一覧APIのレスポンスと同じ形式。
+ * 差分エクスポートでは非公開になった行も出力し、isActive / isPublished を現在の公開状態（false は削除扱い）にする。
+ */
+@Service
+@Slf4j
+public class ContentExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CAMPAIGN_SQL =
+        "SELECT id, title, description, image_url, link, created_at, updated_at, (%s) AS visible FROM campaigns";
+    private static final String CAMPAIGN_VISIBLE = "is_active = true "
+        + "AND (start_at IS NULL OR start_at <= LOCALTIMESTAMP) AND (end_at IS NULL OR end_at > LOCALTIMESTAMP)";
+    private static final String CAMPAIGN_CHANGED = "updated_at > ? "
+        + "OR (start_at > ? AND start_at <= LOCALTIMESTAMP) OR (end_at > ? AND end_at <= LOCALTIMESTAMP)";
+    private static final String NEWS_SQL =
+        "SELECT id, title, content, link, published_date, created_at, updated_at, (%s) AS visible FROM news";
+    private static final String NEWS_VISIBLE =
+        "is_published = true AND (published_date IS NULL OR published_date <= LOCALTIMESTAMP)";
+    private static final String NEWS_CHANGED =
+        "updated_at > ? OR (published_date > ? AND published_date <= LOCALTIMESTAMP)";
+    private static final String FAQ_SQL =
+        "SELECT id, question, answer, category, created_at, updated_at, (%s) AS visible FROM faqs";
+    private static final String FAQ_VISIBLE = "is_active = true";
+    private static final String FAQ_CHANGED = "updated_at > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+    private final CampaignService campaignService;
+    private final NewsService newsService;
+    private final FaqService faqService;
+    private final ContentExportProperties properties;
+    private final Semaphore permits;
+
+    public ContentExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper, CampaignService campaignService,
+                                NewsService newsService, FaqService faqService,
+                                ContentExportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = objectMapper.writer();
+        this.campaignService = campaignService;
+        this.newsService = newsService;
+        this.faqService = faqService;
+        this.properties = properties;
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConcurrentExports()));
+    }
+
+    /**
+     * 同時実行枠を確保してエクスポートを開始する。
+     * 枠は {@link ContentExport#writeTo} の終了時、または開始されずに {@link ContentExport#close} された時点で解放される。
+     *
+     * @param since 指定した場合は updatedAt がこの日時より後の行と、この日時より後に公開状態が切り替わった行を出力する
+     * @throws ContentExportBusyException 同時実行数の上限に達している場合
+     */
+    public ContentExport open(ContentImportService.Target target, LocalDateTime since) {
+        if (!permits.tryAcquire()) {
+            throw new ContentExportBusyException();
+        }
+        return new PermitExport(target, since);
+    }
+
+    /**
+     * エクスポートのリクエストにだけ適用する非同期処理のタイムアウト。
+     */
+    public Duration getRequestTimeout() {
+        return properties.getRequestTimeout();
+    }
+
+    private long export(ContentImportService.Target target, LocalDateTime since, OutputStream out,
+                        Consumer<LocalDateTime> onStarted) throws IOException {
+        long started = System.nanoTime();
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        long[] count = new long[1];
+        try {
+            // PostgreSQL はトランザクション内（autocommit 無効）でのみ fetchSize 単位のカーソル読み込みになる
+            transactionTemplate.executeWithoutResult(status -> {
+                onStarted.accept(LocalDateTime.now());
+                switch (target) {
+                    case CAMPAIGNS -> stream(CAMPAIGN_SQL, CAMPAIGN_VISIBLE, CAMPAIGN_CHANGED, since, buffered, count,
+                        rs -> campaignService.convertToResponse(toCampaign(rs)));
+                    case NEWS -> stream(NEWS_SQL, NEWS_VISIBLE, NEWS_CHANGED, since, buffered, count,
+                        rs -> newsService.convertToResponse(toNews(rs)));
+                    case FAQS -> stream(FAQ_SQL, FAQ_VISIBLE, FAQ_CHANGED, since, buffered, count,
+                        rs -> faqService.convertToResponse(toFaq(rs)));
+                }
+            });
+            buffered.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("コンテンツエクスポート完了: target={}, since={}, rows={}, elapsedMs={}",
+            target, since, count[0], (System.nanoTime() - started) / 1_000_000);
+        return count[0];
+    }
+
+    /**
+     * 全件では公開中の行のみ、差分では条件に合う行を公開状態に関わらず出力する。
+     */
+    private void stream(String sql, String visible, String changed, LocalDateTime since, OutputStream out,
+                        long[] count, SqlFunction<Object> toResponse) {
+        String query = String.format(sql, visible) + " WHERE " + (since != null ? changed : visible) + " ORDER BY id";
+        int parameters = since != null ? (int) changed.chars().filter(c -> c == '?').count() : 0;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            for (int i = 1; i <= parameters; i++) {
+                statement.setTimestamp(i, Timestamp.valueOf(since));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                out.write(writer.writeValueAsBytes(toResponse.apply(rs)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+    }
+
+    private static Campaign toCampaign(ResultSet rs) throws SQLException {
+        Campaign campaign = new Campaign();
+        campaign.setId(rs.getLong("id"));
+        campaign.setTitle(rs.getString("title"));
+        campaign.setDescription(rs.getString("description"));
+        campaign.setImageUrl(rs.getString("image_url"));
+        campaign.setLink(rs.getString("link"));
+        campaign.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        campaign.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        campaign.setIsActive(rs.getBoolean("visible"));
+        return campaign;
+    }
+
+    private static News toNews(ResultSet rs) throws SQLException {
+        News news = new News();
+        news.setId(rs.getLong("id"));
+        news.setTitle(rs.getString("title"));
+        news.setContent(rs.getString("content"));
+        news.setLink(rs.getString("link"));
+        news.setPublishedDate(toLocalDateTime(rs.getTimestamp("published_date")));
+        news.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        news.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        news.setIsPublished(rs.getBoolean("visible"));
+        return news;
+    }
+
+    private static Faq toFaq(ResultSet rs) throws SQLException {
+        Faq faq = new Faq();
+        faq.setId(rs.getLong("id"));
+        faq.setQuestion(rs.getString("question"));
+        faq.setAnswer(rs.getString("answer"));
+        faq.setCategory(Faq.FaqCategory.valueOf(rs.getString("category")));
+        faq.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        faq.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        faq.setIsActive(rs.getBoolean("visible"));
+        return faq;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * 開始と破棄のどちらか先に行われた方が同時実行枠の解放を受け持つ。
+     */
+    private final class PermitExport implements ContentExport {
+
+        private final ContentImportService.Target target;
+        private final LocalDateTime since;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PermitExport(ContentImportService.Target target, LocalDateTime since) {
+            this.target = target;
+            this.since = since;
+        }
+
+        @Override
+        public long writeTo(OutputStream out, Consumer<LocalDateTime> onStarted) throws IOException {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new IllegalStateException("エクスポートは開始済みまたは破棄済みです");
+            }
+            try {
+                return export(target, since, out, onStarted);
+            } finally {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (claimed.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlFunction<R> {
+        R apply(ResultSet rs) throws SQLException;
+    }
+}
@@ -0,0 +1,8 @@
+package com.ahamo.dummy.demo2.content.service;
+
+public class ContentImportBusyException extends RuntimeException {
+
+    public ContentImportBusyException() {
+        super("同時に実行できるインポート数の上限に達しています");
+    }
+}
@@ -0,0 +1,352 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContentImportProperties;
+import com.ahamo.dummy.demo2.content.dto.ImportError;
+import com.ahamo.dummy.demo2.content.dto.ImportReport;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * キャンペーン・ニュース・FAQの一括インポート。
+ * リクエストボディを1行（1レコード）ずつ読み込み、chunkSize 件ごとに別トランザクションで登録する。
+ * 登録したチャンクごとに対象の件数キャッシュを破棄する（スナップショットの更新や変更通知を待たない）。
+ */
+@Service
+@Slf4j
+public class ContentImportService {
+
+    private static final int MAX_VARCHAR_LENGTH = 255;
+
+    private final BulkEntityWriter bulkEntityWriter;
+    private final ContentCountCache contentCountCache;
+    private final ObjectMapper objectMapper;
+    private final ContentImportProperties properties;
+    private final Semaphore permits;
+
+    public ContentImportService(BulkEntityWriter bulkEntityWriter, ContentCountCache contentCountCache,
+                                ObjectMapper objectMapper, ContentImportProperties properties) {
+        this.bulkEntityWriter = bulkEntityWriter;
+        this.contentCountCache = contentCountCache;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConcurrentImports()));
+    }
+
+    /**
+     * @throws ContentImportBusyException 同時実行数の上限に達している場合
+     */
+    public ImportReport importContent(Target target, Format format, InputStream body) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new ContentImportBusyException();
+        }
+        try {
+            log.info("コンテンツインポート開始: target={}, format={}", target, format);
+            ImportReport report = new ImportReport();
+            report.setTarget(target.name().toLowerCase());
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            Chunk chunk = new Chunk();
+            try {
+                if (format == Format.CSV) {
+                    readCsv(target, reader, chunk, report);
+                } else {
+                    readNdjson(target, reader, chunk, report);
+                }
+            } catch (IllegalArgumentException e) {
+                addError(report, report.getProcessed() + 1, e.getMessage());
+            }
+            flush(target, chunk, report);
+
+            log.info("コンテンツインポート完了: target={}, processed={}, imported={}, failed={}",
+                target, report.getProcessed(), report.getImported(), report.getFailed());
+            return report;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void readNdjson(Target target, BufferedReader reader, Chunk chunk, ImportReport report) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.setProcessed(report.getProcessed() + 1);
+            Map<String, String> row;
+            try {
+                row = toRow(objectMapper.readTree(line));
+            } catch (JsonProcessingException e) {
+                addError(report, lineNumber, "JSONの形式が不正です");
+                continue;
+            } catch (IllegalArgumentException e) {
+                addError(report, lineNumber, e.getMessage());
+                continue;
+            }
+            accept(target, lineNumber, row, chunk, report);
+        }
+    }
+
+    private void readCsv(Target target, BufferedReader reader, Chunk chunk, ImportReport report) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(header.size());
+        for (String column : header) {
+            columns.add(column.replace("\uFEFF", "").trim());
+        }
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            report.setProcessed(report.getProcessed() + 1);
+            if (fields.size() != columns.size()) {
+                addError(report, csv.getRecordLine(), "列数がヘッダーと一致しません");
+                continue;
+            }
+            Map<String, String> row = new HashMap<>(columns.size() * 2);
+            for (int i = 0; i < columns.size(); i++) {
+                String value = fields.get(i);
+                row.put(columns.get(i), value.isEmpty() ? null : value);
+            }
+            accept(target, csv.getRecordLine(), row, chunk, report);
+        }
+    }
+
+    private void accept(Target target, long line, Map<String, String> row, Chunk chunk, ImportReport report) {
+        try {
+            toEntity(target, row);
+        } catch (IllegalArgumentException e) {
+            addError(report, line, e.getMessage());
+            return;
+        }
+        chunk.add(line, row);
+        if (chunk.size() >= properties.getChunkSize()) {
+            flush(target, chunk, report);
+        }
+    }
+
+    /**
+     * チャンク単位で登録し、失敗した場合は原因の行を特定するため1件ずつ登録し直す。
+     */
+    private void flush(Target target, Chunk chunk, ImportReport report) {
+        if (chunk.size() == 0) {
+            return;
+        }
+        long imported = report.getImported();
+        try {
+            bulkEntityWriter.persistAll(chunk.toEntities(target));
+            report.setImported(report.getImported() + chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("コンテンツインポートのチャンク登録に失敗しました。1件ずつ再登録します: target={}, size={}",
+                target, chunk.size(), e);
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    bulkEntityWriter.persistAll(List.of(toEntity(target, chunk.rows.get(i))));
+                    report.setImported(report.getImported() + 1);
+                } catch (RuntimeException single) {
+                    addError(report, chunk.lines.get(i), "登録に失敗しました: " + single.getClass().getSimpleName());
+                }
+            }
+        }
+        if (report.getImported() > imported) {
+            contentCountCache.invalidate(countKey(target));
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 件数キャッシュのキー接頭辞。
+     */
+    private static String countKey(Target target) {
+        return switch (target) {
+            case CAMPAIGNS -> "campaigns";
+            case NEWS -> "news";
+            case FAQS -> "faqs";
+        };
+    }
+
+    private void addError(ImportReport report, long line, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < properties.getMaxErrors()) {
+            report.getErrors().add(new ImportError(line, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private Map<String, String> toRow(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("JSONオブジェクトではありません");
+        }
+        Map<String, String> row = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            row.put(field.getKey(), value.isNull() ? null : value.asText());
+        }
+        return row;
+    }
+
+    static Object toEntity(Target target, Map<String, String> row) {
+        switch (target) {
+            case CAMPAIGNS: {
+                Campaign campaign = new Campaign();
+                campaign.setTitle(required(row, "title"));
+                campaign.setDescription(row.get("description"));
+                campaign.setImageUrl(optional(row, "imageUrl"));
+                campaign.setLink(required(row, "link"));
+                campaign.setIsActive(bool(row, "isActive"));
+                return campaign;
+            }
+            case NEWS: {
+                News news = new News();
+                news.setTitle(required(row, "title"));
+                news.setContent(row.get("content"));
+                news.setLink(required(row, "link"));
+                news.setPublishedDate(dateTime(row, "publishedDate"));
+                news.setIsPublished(bool(row, "isPublished"));
+                return news;
+            }
+            case FAQS: {
+                Faq faq = new Faq();
+                faq.setQuestion(required(row, "question"));
+                faq.setAnswer(required(row, "answer"));
+                faq.setCategory(category(row));
+                faq.setIsActive(bool(row, "isActive"));
+                return faq;
+            }
+            default:
+                throw new IllegalStateException("未対応のインポート対象です: " + target);
+        }
+    }
+
+    private static String required(Map<String, String> row, String name) {
+        String value = row.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + "は必須です");
+        }
+        return maxLength(name, value);
+    }
+
+    private static String optional(Map<String, String> row, String name) {
+        String value = row.get(name);
+        return value != null ? maxLength(name, value) : null;
+    }
+
+    private static String maxLength(String name, String value) {
+        if (value.length() > MAX_VARCHAR_LENGTH) {
+            throw new IllegalArgumentException(name + "は" + MAX_VARCHAR_LENGTH + "文字以内で指定してください");
+        }
+        return value;
+    }
+
+    private static Boolean bool(Map<String, String> row, String name) {
+        String value = row.get(name);
+        if (value == null) {
+            return true;
+        }
+        if ("true".equalsIgnoreCase(value.trim())) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value.trim())) {
+            return false;
+        }
+        throw new IllegalArgumentException(name + "はtrueまたはfalseで指定してください");
+    }
+
+    private static LocalDateTime dateTime(Map<String, String> row, String name) {
+        String value = row.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + "の日時形式が不正です");
+        }
+    }
+
+    private static Faq.FaqCategory category(Map<String, String> row) {
+        String value = required(row, "category");
+        try {
+            return Faq.FaqCategory.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("無効なカテゴリです: " + value);
+        }
+    }
+
+    public enum Target {
+        CAMPAIGNS,
+        NEWS,
+        FAQS;
+
+        /**
+         * @throws IllegalArgumentException 未対応の対象の場合
+         */
+        public static Target of(String value) {
+            return Target.valueOf(value.toUpperCase());
+        }
+    }
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private static final class Chunk {
+
+        private final List<Long> lines = new ArrayList<>();
+        private final List<Map<String, String>> rows = new ArrayList<>();
+
+        void add(long line, Map<String, String> row) {
+            lines.add(line);
+            rows.add(row);
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        List<Object> toEntities(Target target) {
+            List<Object> entities = new ArrayList<>(rows.size());
+            for (Map<String, String> row : rows) {
+                entities.add(toEntity(target, row));
+            }
+            return entities;
+        }
+
+        void clear() {
+            lines.clear();
+            rows.clear();
+        }
+    }
+}
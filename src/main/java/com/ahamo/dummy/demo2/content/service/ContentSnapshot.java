@@ -0,0 +1,292 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 公開中コンテンツの不変スナップショット。
+ * 配列はリポジトリの {@code @Query} と同じ並び順（日時 DESC, id DESC）で保持し、生成後は変更しない。
+ * 公開開始前のキャンペーン・ニュースも保持し、{@code loadedAt} 時点で公開中のものだけを返す。
+ */
+public final class ContentSnapshot {
+
+    private static final Comparator<Campaign> CAMPAIGN_ORDER = descending(Campaign::getCreatedAt, Campaign::getId);
+    private static final Comparator<News> NEWS_ORDER = descending(News::getPublishedDate, News::getId);
+    private static final Comparator<Faq> FAQ_ORDER = descending(Faq::getCreatedAt, Faq::getId);
+
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final long version;
+    private final long generation = GENERATIONS.incrementAndGet();
+    private final LocalDateTime loadedAt;
+    private final LocalDateTime nextTransition;
+
+    private final List<Campaign> scheduledCampaigns;
+    private final List<News> scheduledNews;
+
+    private final Campaign[] campaigns;
+    private final News[] news;
+    private final Faq[] faqs;
+
+    private final Map<Faq.FaqCategory, Faq[]> faqsByCategory;
+    private final Map<Long, Campaign> campaignsById;
+    private final Map<Long, News> newsById;
+    private final Map<Long, Faq> faqsById;
+
+    /**
+     * @param campaigns 公開開始前を含む有効なキャンペーン
+     * @param news      公開日時が未来のものを含む公開済みニュース
+     * @param loadedAt  公開状態を判定する日時
+     */
+    public ContentSnapshot(List<Campaign> campaigns, List<News> news, List<Faq> faqs, LocalDateTime loadedAt) {
+        this.scheduledCampaigns = campaigns.stream().filter(campaign -> !hasEnded(campaign, loadedAt)).toList();
+        this.scheduledNews = List.copyOf(news);
+        this.campaigns = scheduledCampaigns.stream()
+            .filter(campaign -> campaign.isVisibleAt(loadedAt))
+            .toArray(Campaign[]::new);
+        this.news = scheduledNews.stream()
+            .filter(item -> item.isVisibleAt(loadedAt))
+            .toArray(News[]::new);
+        this.faqs = faqs.toArray(new Faq[0]);
+        this.loadedAt = loadedAt;
+        this.nextTransition = nextTransition(scheduledCampaigns, scheduledNews, loadedAt);
+        Arrays.sort(this.campaigns, CAMPAIGN_ORDER);
+        Arrays.sort(this.news, NEWS_ORDER);
+        Arrays.sort(this.faqs, FAQ_ORDER);
+
+        this.campaignsById = indexById(this.campaigns, Campaign::getId);
+        this.newsById = indexById(this.news, News::getId);
+        this.faqsById = indexById(this.faqs, Faq::getId);
+        this.faqsByCategory = groupByCategory(this.faqs);
+
+        this.version = fingerprint(this.campaigns, this.news, this.faqs);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 生成順に増える番号。スナップショットは更新ロック内で生成・公開されるため、公開順の比較に使える。
+     * {@link #getVersion()} は内容のハッシュで大小に意味がない。
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return 次にキャンペーン・ニュースの公開状態が切り替わる日時。予定がない場合は {@code null}
+     */
+    public LocalDateTime getNextTransition() {
+        return nextTransition;
+    }
+
+    /**
+     * 同じ読み込み内容で {@code time} 時点の公開状態に切り替えたスナップショットを返す。DBへの問い合わせは行わない。
+     */
+    public ContentSnapshot at(LocalDateTime time) {
+        return new ContentSnapshot(scheduledCampaigns, scheduledNews, List.of(faqs), time);
+    }
+
+    public int getCampaignCount() {
+        return campaigns.length;
+    }
+
+    public int getNewsCount() {
+        return news.length;
+    }
+
+    public int getFaqCount() {
+        return faqs.length;
+    }
+
+    /**
+     * @return 公開開始前を含む読み込み済みのキャンペーン
+     */
+    public List<Campaign> getScheduledCampaigns() {
+        return scheduledCampaigns;
+    }
+
+    /**
+     * @return 公開日時が未来のものを含む読み込み済みのニュース
+     */
+    public List<News> getScheduledNews() {
+        return scheduledNews;
+    }
+
+    public List<Faq> getFaqs() {
+        return List.of(faqs);
+    }
+
+    public Page<Campaign> campaignPage(Pageable pageable) {
+        return page(campaigns, pageable);
+    }
+
+    public Page<News> newsPage(Pageable pageable) {
+        return page(news, pageable);
+    }
+
+    public Page<Faq> faqPage(Pageable pageable) {
+        return page(faqs, pageable);
+    }
+
+    public Page<Faq> faqPage(Faq.FaqCategory category, Pageable pageable) {
+        return page(faqsByCategory.getOrDefault(category, new Faq[0]), pageable);
+    }
+
+    public List<Campaign> campaignsAfter(PageCursor cursor, int limit) {
+        return seek(campaigns, cursor, limit, Campaign::getCreatedAt, Campaign::getId);
+    }
+
+    public List<News> newsAfter(PageCursor cursor, int limit) {
+        return seek(news, cursor, limit, News::getPublishedDate, News::getId);
+    }
+
+    public List<Faq> faqsAfter(PageCursor cursor, int limit) {
+        return seek(faqs, cursor, limit, Faq::getCreatedAt, Faq::getId);
+    }
+
+    public List<Faq> faqsAfter(Faq.FaqCategory category, PageCursor cursor, int limit) {
+        return seek(faqsByCategory.getOrDefault(category, new Faq[0]), cursor, limit, Faq::getCreatedAt, Faq::getId);
+    }
+
+    public Campaign findCampaign(Long id) {
+        return campaignsById.get(id);
+    }
+
+    public News findNews(Long id) {
+        return newsById.get(id);
+    }
+
+    public Faq findFaq(Long id) {
+        return faqsById.get(id);
+    }
+
+    private static <T> Page<T> page(T[] items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.length);
+        int to = Math.min(from + pageable.getPageSize(), items.length);
+        return new PageImpl<>(List.of(Arrays.copyOfRange(items, from, to)), pageable, items.length);
+    }
+
+    private static <T> List<T> seek(T[] items, PageCursor cursor, int limit,
+                                     Function<T, LocalDateTime> sortKey, Function<T, Long> idGetter) {
+        int from = 0;
+        if (cursor != null) {
+            int low = 0;
+            int high = items.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                T item = items[mid];
+                if (cursor.precedes(orMin(sortKey.apply(item)), idGetter.apply(item))) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            from = low;
+        }
+        int to = Math.min(from + limit, items.length);
+        return List.of(Arrays.copyOfRange(items, from, to));
+    }
+
+    private static <T> Comparator<T> descending(Function<T, LocalDateTime> sortKey, Function<T, Long> idGetter) {
+        Comparator<T> bySortKey = Comparator.comparing(item -> orMin(sortKey.apply(item)));
+        Comparator<T> byId = Comparator.comparing(idGetter);
+        return bySortKey.thenComparing(byId).reversed();
+    }
+
+    private static boolean hasEnded(Campaign campaign, LocalDateTime time) {
+        return campaign.getEndAt() != null && !campaign.getEndAt().isAfter(time);
+    }
+
+    private static LocalDateTime nextTransition(List<Campaign> campaigns, List<News> news, LocalDateTime time) {
+        LocalDateTime next = null;
+        for (Campaign campaign : campaigns) {
+            next = earliestAfter(next, campaign.getStartAt(), time);
+            next = earliestAfter(next, campaign.getEndAt(), time);
+        }
+        for (News item : news) {
+            next = earliestAfter(next, item.getPublishedDate(), time);
+        }
+        return next;
+    }
+
+    private static LocalDateTime earliestAfter(LocalDateTime current, LocalDateTime candidate, LocalDateTime time) {
+        if (candidate == null || !candidate.isAfter(time)) {
+            return current;
+        }
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static LocalDateTime orMin(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime : LocalDateTime.MIN;
+    }
+
+    private static <T> Map<Long, T> indexById(T[] items, Function<T, Long> idGetter) {
+        Map<Long, T> index = new HashMap<>(items.length * 2);
+        for (T item : items) {
+            index.put(idGetter.apply(item), item);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static Map<Faq.FaqCategory, Faq[]> groupByCategory(Faq[] faqs) {
+        Map<Faq.FaqCategory, List<Faq>> grouped = new EnumMap<>(Faq.FaqCategory.class);
+        for (Faq faq : faqs) {
+            grouped.computeIfAbsent(faq.getCategory(), category -> new ArrayList<>()).add(faq);
+        }
+        Map<Faq.FaqCategory, Faq[]> result = new EnumMap<>(Faq.FaqCategory.class);
+        grouped.forEach((category, list) -> result.put(category, list.toArray(new Faq[0])));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static long fingerprint(Campaign[] campaigns, News[] news, Faq[] faqs) {
+        long hash = 0xcbf29ce484222325L;
+        for (Campaign campaign : campaigns) {
+            hash = mix(mix(hash, campaign.getId()), epochNanos(campaign.getUpdatedAt()));
+        }
+        hash = mix(hash, -1L);
+        for (News item : news) {
+            hash = mix(mix(hash, item.getId()), epochNanos(item.getUpdatedAt()));
+        }
+        hash = mix(hash, -2L);
+        for (Faq faq : faqs) {
+            hash = mix(mix(hash, faq.getId()), epochNanos(faq.getUpdatedAt()));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        hash ^= value;
+        hash *= 0x100000001b3L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static long epochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+}
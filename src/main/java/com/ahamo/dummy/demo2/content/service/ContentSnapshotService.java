@@ -0,0 +1,317 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.cache.ContentCacheInvalidator;
+import com.ahamo.dummy.demo2.content.config.ContentSnapshotProperties;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
+import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import com.ahamo.dummy.demo2.content.repository.NewsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentSnapshotService {
+
+    private final CampaignRepository campaignRepository;
+    private final NewsRepository newsRepository;
+    private final FaqRepository faqRepository;
+    private final ContentSnapshotProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ContentCacheInvalidator> contentCacheInvalidator;
+
+    private final AtomicReference<ContentSnapshot> current = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final ScheduledExecutorService transitionScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "content-visibility");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** refreshLock を保持して更新する */
+    private ScheduledFuture<?> pendingTransition;
+
+    /**
+     * 返したスナップショットは {@link SnapshotReadScope} に記録する。
+     */
+    public ContentSnapshot getSnapshot() {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        ContentSnapshot snapshot = current.get();
+        SnapshotReadScope.record(snapshot);
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            refreshQuietly();
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${content.snapshot.refresh-interval:PT5M}",
+        initialDelayString = "${content.snapshot.refresh-interval:PT5M}"
+    )
+    public void scheduledRefresh() {
+        if (properties.isEnabled()) {
+            refreshQuietly();
+        }
+    }
+
+    /**
+     * DB読み込み中に仮想スレッドをピン留めしないよう {@code synchronized} ではなくロックで直列化する。
+     */
+    public ContentSnapshot refresh() {
+        refreshLock.lock();
+        try {
+            return doRefresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 変更通知を受けた行だけを読み直してスナップショットを差し替える。
+     * 未読み込みの場合は全件を読み込む。
+     */
+    public void apply(Collection<ContentChange> changes) {
+        if (!properties.isEnabled() || changes.isEmpty()) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            ContentSnapshot snapshot = current.get();
+            if (snapshot == null) {
+                doRefresh();
+            } else {
+                doApply(snapshot, changes);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 公開状態の切り替え日時に、読み込み済みの内容からスナップショットを差し替える。
+     * 予約後にスナップショットが更新され、切り替え予定が変わっている場合は何もしない。
+     */
+    void transition(LocalDateTime scheduledAt) {
+        refreshLock.lock();
+        try {
+            ContentSnapshot snapshot = current.get();
+            if (snapshot == null || !scheduledAt.equals(snapshot.getNextTransition())) {
+                return;
+            }
+            long started = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now();
+            publish(snapshot.at(now.isBefore(scheduledAt) ? scheduledAt : now), started);
+        } catch (RuntimeException e) {
+            log.error("公開状態の切り替えに失敗しました: scheduledAt={}", scheduledAt, e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transitionScheduler.shutdownNow();
+    }
+
+    /**
+     * 変更通知を取りこぼした可能性がある場合（再接続後など）に全件を読み直す。
+     */
+    public void resync() {
+        if (properties.isEnabled()) {
+            refreshQuietly();
+        }
+    }
+
+    /**
+     * 行を {@code refreshBatchSize} 件ずつ読み、本文をヒープ外へ移してから次の分を読む。
+     * リポジトリ呼び出しごとに永続化コンテキストが閉じるため、読み終えた分のエンティティと本文は保持されない。
+     */
+    private ContentSnapshot doRefresh() {
+        long started = System.nanoTime();
+
+        SnapshotBodies bodies = properties.isOffHeapBodies()
+            ? new SnapshotBodies(properties.getOffHeapMinLength(), current.get())
+            : null;
+        UnaryOperator<List<Campaign>> campaignBodies = bodies != null ? bodies::campaigns : UnaryOperator.identity();
+        UnaryOperator<List<News>> newsBodies = bodies != null ? bodies::news : UnaryOperator.identity();
+        UnaryOperator<List<Faq>> faqBodies = bodies != null ? bodies::faqs : UnaryOperator.identity();
+
+        List<Campaign> campaigns = loadAll(campaignRepository::findScheduledCampaignsAfter, Campaign::getId, campaignBodies);
+        List<News> news = loadAll(newsRepository::findScheduledNewsAfter, News::getId, newsBodies);
+        List<Faq> faqs = loadAll(faqRepository::findActiveFaqsAfter, Faq::getId, faqBodies);
+        if (bodies != null) {
+            log.debug("本文をヒープ外へ移動: bytes={}", bodies.size());
+        }
+
+        return publish(new ContentSnapshot(campaigns, news, faqs, LocalDateTime.now()), started);
+    }
+
+    private <T> List<T> loadAll(BiFunction<Long, Pageable, List<T>> loader, Function<T, Long> idGetter,
+                                UnaryOperator<List<T>> offload) {
+        int batchSize = Math.max(1, properties.getRefreshBatchSize());
+        Pageable pageable = PageRequest.of(0, batchSize);
+        List<T> loaded = new ArrayList<>();
+        long after = 0L;
+        while (true) {
+            List<T> batch = loader.apply(after, pageable);
+            loaded.addAll(offload.apply(batch));
+            if (batch.size() < batchSize) {
+                return loaded;
+            }
+            after = idGetter.apply(batch.get(batch.size() - 1));
+        }
+    }
+
+    private void doApply(ContentSnapshot base, Collection<ContentChange> changes) {
+        long started = System.nanoTime();
+
+        List<Campaign> campaigns = merge(base.getScheduledCampaigns(), changes, ContentTombstone.ContentType.CAMPAIGN,
+            campaignRepository::findAllById, Campaign::getId, campaign -> Boolean.TRUE.equals(campaign.getIsActive()));
+        List<News> news = merge(base.getScheduledNews(), changes, ContentTombstone.ContentType.NEWS,
+            newsRepository::findAllById, News::getId, item -> Boolean.TRUE.equals(item.getIsPublished()));
+        List<Faq> faqs = merge(base.getFaqs(), changes, ContentTombstone.ContentType.FAQ,
+            faqRepository::findAllById, Faq::getId, faq -> Boolean.TRUE.equals(faq.getIsActive()));
+
+        log.debug("コンテンツ変更通知を反映: changes={}", changes.size());
+        publish(snapshot(campaigns, news, faqs), started);
+    }
+
+    /**
+     * 本文をヒープ外へ移してからスナップショットを作る。
+     * 読み直した行の本文だけを新しいストアへ書き込み、残りの行は前回のストアを参照し続ける。
+     * 参照先のストアは次の全件読み直しで1つにまとまる。
+     */
+    private ContentSnapshot snapshot(List<Campaign> campaigns, List<News> news, List<Faq> faqs) {
+        if (properties.isOffHeapBodies()) {
+            SnapshotBodies bodies = new SnapshotBodies(properties.getOffHeapMinLength());
+            campaigns = bodies.campaigns(campaigns);
+            news = bodies.news(news);
+            faqs = bodies.faqs(faqs);
+            log.debug("本文をヒープ外へ移動: bytes={}", bodies.size());
+        }
+        return new ContentSnapshot(campaigns, news, faqs, LocalDateTime.now());
+    }
+
+    /**
+     * 内容が変わった場合は、差し替える前にサービス層のキャッシュ（L2を含む）を破棄する。
+     * 差し替え後の破棄だけでは、その間に古いスナップショットから作られた値が新しい版のキャッシュとして残るため。
+     * 破棄の前に読み込みを始めた値は {@link com.ahamo.dummy.demo2.content.cache.TwoTierCache} が世代の確認で捨てる。
+     * refreshLock を保持して呼び出す。
+     */
+    private ContentSnapshot publish(ContentSnapshot snapshot, long started) {
+        ContentSnapshot previous = current.get();
+        boolean changed = previous == null || previous.getVersion() != snapshot.getVersion();
+        if (changed) {
+            contentCacheInvalidator.ifAvailable(ContentCacheInvalidator::invalidateAll);
+        }
+        current.set(snapshot);
+
+        log.info("コンテンツスナップショット更新: version={}, campaigns={}, news={}, faqs={}, elapsedMs={}",
+            Long.toHexString(snapshot.getVersion()),
+            snapshot.getCampaignCount(),
+            snapshot.getNewsCount(),
+            snapshot.getFaqCount(),
+            (System.nanoTime() - started) / 1_000_000);
+
+        if (changed) {
+            eventPublisher.publishEvent(new ContentChangedEvent(snapshot.getVersion()));
+        }
+
+        scheduleTransition(snapshot.getNextTransition());
+        return snapshot;
+    }
+
+    private void scheduleTransition(LocalDateTime at) {
+        if (pendingTransition != null) {
+            pendingTransition.cancel(false);
+            pendingTransition = null;
+        }
+        if (at == null) {
+            return;
+        }
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), at).toMillis());
+        pendingTransition = transitionScheduler.schedule(() -> transition(at), delayMillis, TimeUnit.MILLISECONDS);
+        log.debug("公開状態の切り替えを予約: at={}", at);
+    }
+
+    /**
+     * 変更された id の行を除き、削除以外の変更があった id を読み直して公開中のものだけを加える。
+     */
+    private static <T> List<T> merge(List<T> current, Collection<ContentChange> changes,
+                                     ContentTombstone.ContentType type, Function<Set<Long>, List<T>> loader,
+                                     Function<T, Long> idGetter, Predicate<T> visible) {
+        Set<Long> changed = new HashSet<>();
+        Set<Long> reload = new HashSet<>();
+        for (ContentChange change : changes) {
+            if (change.type() == type) {
+                changed.add(change.id());
+                if (!change.deleted()) {
+                    reload.add(change.id());
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            return current;
+        }
+
+        List<T> merged = new ArrayList<>(current.size() + reload.size());
+        for (T item : current) {
+            if (!changed.contains(idGetter.apply(item))) {
+                merged.add(item);
+            }
+        }
+        if (!reload.isEmpty()) {
+            for (T item : loader.apply(reload)) {
+                if (visible.test(item)) {
+                    merged.add(item);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("コンテンツスナップショットの更新に失敗しました。前回のスナップショットを継続利用します", e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * FAQの質問・回答に対する不変の転置インデックス。
+ * 日本語（ひらがな・カタカナ・漢字）は文字バイグラム、英数字は単語単位で分割し、BM25でスコアリングする。
+ */
+public final class FaqSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int QUESTION_WEIGHT = 2;
+
+    private final Document[] documents;
+    private final Map<String, Postings> postings;
+    private final double averageLength;
+
+    private FaqSearchIndex(Document[] documents) {
+        this.documents = documents;
+        Map<String, List<int[]>> collected = new HashMap<>();
+        long totalLength = 0;
+        for (int doc = 0; doc < documents.length; doc++) {
+            totalLength += documents[doc].length;
+            for (Map.Entry<String, Integer> term : documents[doc].termFrequencies.entrySet()) {
+                collected.computeIfAbsent(term.getKey(), key -> new ArrayList<>())
+                    .add(new int[] {doc, term.getValue()});
+            }
+        }
+        Map<String, Postings> built = new HashMap<>(collected.size() * 2);
+        collected.forEach((term, entries) -> built.put(term, Postings.of(entries)));
+        this.postings = built;
+        this.averageLength = documents.length > 0 ? (double) totalLength / documents.length : 0;
+    }
+
+    public static FaqSearchIndex empty() {
+        return new FaqSearchIndex(new Document[0]);
+    }
+
+    /**
+     * 前回のインデックスに id と updatedAt が一致する文書があれば、その分割結果を再利用する。
+     */
+    public static FaqSearchIndex build(List<Faq> faqs, FaqSearchIndex previous) {
+        Map<Long, Document> reusable = new HashMap<>();
+        if (previous != null) {
+            for (Document document : previous.documents) {
+                reusable.put(document.faq.getId(), document);
+            }
+        }
+        Document[] documents = new Document[faqs.size()];
+        for (int i = 0; i < documents.length; i++) {
+            Faq faq = faqs.get(i);
+            Document cached = reusable.get(faq.getId());
+            documents[i] = cached != null && cached.isSameRevision(faq)
+                ? new Document(faq, cached.termFrequencies, cached.length)
+                : Document.of(faq);
+        }
+        return new FaqSearchIndex(documents);
+    }
+
+    public int size() {
+        return documents.length;
+    }
+
+    /**
+     * @param category {@code null} の場合は全カテゴリが対象
+     */
+    public List<Faq> search(String query, Faq.FaqCategory category, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || documents.length == 0 || limit < 1) {
+            return List.of();
+        }
+
+        double[] scores = new double[documents.length];
+        boolean matched = false;
+        for (String term : terms) {
+            Postings entry = postings.get(term);
+            if (entry == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documents.length - entry.docs.length + 0.5) / (entry.docs.length + 0.5));
+            for (int i = 0; i < entry.docs.length; i++) {
+                Document document = documents[entry.docs[i]];
+                if (category != null && document.faq.getCategory() != category) {
+                    continue;
+                }
+                int tf = entry.frequencies[i];
+                double norm = K1 * (1 - B + B * document.length / averageLength);
+                scores[entry.docs[i]] += idf * tf * (K1 + 1) / (tf + norm);
+                matched = true;
+            }
+        }
+        if (!matched) {
+            return List.of();
+        }
+
+        // スコアが同じ場合はスナップショットの並び順（新しい順）を優先する
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, documents.length) + 1, (left, right) -> {
+            int compared = Double.compare(scores[left], scores[right]);
+            return compared != 0 ? compared : Integer.compare(right, left);
+        });
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] <= 0) {
+                continue;
+            }
+            top.add(doc);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        Faq[] result = new Faq[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = documents[top.poll()].faq;
+        }
+        return Arrays.asList(result);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder word = new StringBuilder();
+        int cjkStart = -1;
+        int i = 0;
+        while (i <= normalized.length()) {
+            int codePoint = i < normalized.length() ? normalized.codePointAt(i) : -1;
+            boolean cjk = codePoint >= 0 && isCjk(codePoint);
+            boolean latin = codePoint >= 0 && !cjk && Character.isLetterOrDigit(codePoint);
+
+            if (!latin && word.length() > 0) {
+                tokens.add(word.toString());
+                word.setLength(0);
+            }
+            if (!cjk && cjkStart >= 0) {
+                addBigrams(normalized.substring(cjkStart, i), tokens);
+                cjkStart = -1;
+            }
+            if (latin) {
+                word.appendCodePoint(codePoint);
+            } else if (cjk && cjkStart < 0) {
+                cjkStart = i;
+            }
+            i += codePoint >= 0 ? Character.charCount(codePoint) : 1;
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || codePoint == 'ー'
+            || codePoint == '々';
+    }
+
+    private static final class Document {
+
+        private final Faq faq;
+        private final Map<String, Integer> termFrequencies;
+        private final int length;
+
+        private Document(Faq faq, Map<String, Integer> termFrequencies, int length) {
+            this.faq = faq;
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+        }
+
+        static Document of(Faq faq) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            for (String token : tokenize(faq.getQuestion())) {
+                frequencies.merge(token, QUESTION_WEIGHT, Integer::sum);
+                length += QUESTION_WEIGHT;
+            }
+            for (String token : tokenize(faq.getAnswer())) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+            return new Document(faq, frequencies, length);
+        }
+
+        boolean isSameRevision(Faq other) {
+            LocalDateTime updatedAt = faq.getUpdatedAt();
+            return updatedAt != null && Objects.equals(updatedAt, other.getUpdatedAt());
+        }
+    }
+
+    private static final class Postings {
+
+        private final int[] docs;
+        private final int[] frequencies;
+
+        private Postings(int[] docs, int[] frequencies) {
+            this.docs = docs;
+            this.frequencies = frequencies;
+        }
+
+        static Postings of(List<int[]> entries) {
+            int[] docs = new int[entries.size()];
+            int[] frequencies = new int[entries.size()];
+            for (int i = 0; i < docs.length; i++) {
+                docs[i] = entries.get(i)[0];
+                frequencies[i] = entries.get(i)[1];
+            }
+            return new Postings(docs, frequencies);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FAQ検索用インデックスの保持と更新。
+ * スナップショットの内容が変わった時点で、変更のあったFAQのみ再分割してインデックスを差し替える。
+ * スナップショットが無効な場合はリポジトリから定期的に再構築する。
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FaqSearchService {
+
+    private final ContentSnapshotService contentSnapshotService;
+    private final FaqRepository faqRepository;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile FaqSearchIndex index;
+
+    public List<Faq> search(String query, Faq.FaqCategory category, int limit) {
+        FaqSearchIndex current = index;
+        if (current == null) {
+            current = initialize();
+        }
+        return current.search(query, category, limit);
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        if (snapshot != null) {
+            rebuild(snapshot.getFaqs());
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${content.snapshot.refresh-interval:PT5M}",
+        initialDelayString = "${content.snapshot.refresh-interval:PT5M}"
+    )
+    public void scheduledRebuild() {
+        if (contentSnapshotService.getSnapshot() == null && index != null) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("FAQ検索インデックスの更新に失敗しました。前回のインデックスを継続利用します", e);
+            }
+        }
+    }
+
+    private FaqSearchIndex initialize() {
+        rebuildLock.lock();
+        try {
+            return index != null ? index : rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private FaqSearchIndex rebuild() {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        List<Faq> faqs = snapshot != null
+            ? snapshot.getFaqs()
+            : faqRepository.findActiveFaqs(Pageable.unpaged()).getContent();
+        return rebuild(faqs);
+    }
+
+    private FaqSearchIndex rebuild(List<Faq> faqs) {
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            FaqSearchIndex rebuilt = FaqSearchIndex.build(faqs, index);
+            index = rebuilt;
+            log.info("FAQ検索インデックス更新: faqs={}, elapsedMs={}", rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -2,60 +2,136 @@ package com.ahamo.dummy.demo2.content.service;
 
 import com.ahamo.dummy.demo2.content.entity.Faq;
 import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.FaqSummary;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = "faqs", keyGenerator = "contentCacheKeyGenerator")
 public class FaqService {
     
     private final FaqRepository faqRepository;
+    private final ContentSnapshotService contentSnapshotService;
+    private final ContentCountCache contentCountCache;
+    private final FaqSearchService faqSearchService;
+    private final ContentMetrics contentMetrics;
     
+    @Cacheable(sync = true)
     public Page<FaqResponse> getFaqs(int page, int limit) {
-        log.info("FAQ一覧取得: page={}, limit={}", page, limit);
-        
-        Pageable pageable = PageRequest.of(page - 1, limit);
-        Page<Faq> faqs = faqRepository.findActiveFaqs(pageable);
+        log.debug("FAQ一覧取得: page={}, limit={}", page, limit);
         
-        return faqs.map(this::convertToResponse);
+        return page(null, PageRequest.of(page - 1, limit), responses());
     }
     
+    @Cacheable(sync = true)
     public Page<FaqResponse> getFaqsByCategory(String category, int page, int limit) {
-        log.info("カテゴリ別FAQ一覧取得: category={}, page={}, limit={}", category, page, limit);
+        log.debug("カテゴリ別FAQ一覧取得: category={}, page={}, limit={}", category, page, limit);
         
         try {
             Faq.FaqCategory faqCategory = Faq.FaqCategory.valueOf(category.toUpperCase());
-            Pageable pageable = PageRequest.of(page - 1, limit);
-            Page<Faq> faqs = faqRepository.findActiveFaqsByCategory(faqCategory, pageable);
-            
-            return faqs.map(this::convertToResponse);
+            return page(faqCategory, PageRequest.of(page - 1, limit), responses());
         } catch (IllegalArgumentException e) {
             log.warn("無効なカテゴリ: {}", category);
             return Page.empty();
         }
     }
     
+    @Cacheable(sync = true)
+    public Page<FaqSummary> getFaqSummaries(String category, int page, int limit) {
+        log.debug("FAQ一覧取得(概要): category={}, page={}, limit={}", category, page, limit);
+        
+        Faq.FaqCategory faqCategory;
+        try {
+            faqCategory = parseCategory(category);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なカテゴリ: {}", category);
+            return Page.empty();
+        }
+        
+        return page(faqCategory, PageRequest.of(page - 1, limit), summaries());
+    }
+    
+    @Cacheable(sync = true)
+    public Slice<FaqResponse> getFaqSlice(String category, int page, int limit) {
+        log.debug("FAQ一覧取得(件数なし): category={}, page={}, limit={}", category, page, limit);
+        
+        return slice(category, page, limit, responses());
+    }
+    
+    @Cacheable(sync = true)
+    public Slice<FaqSummary> getFaqSummarySlice(String category, int page, int limit) {
+        log.debug("FAQ一覧取得(概要・件数なし): category={}, page={}, limit={}", category, page, limit);
+        
+        return slice(category, page, limit, summaries());
+    }
+    
+    @Cacheable(sync = true)
+    public CursorPage<FaqResponse> getFaqsByCursor(String category, String cursor, int limit) {
+        log.debug("FAQ一覧取得(カーソル): category={}, cursor={}, limit={}", category, cursor, limit);
+        
+        return cursorPage(category, cursor, limit, responses());
+    }
+    
+    @Cacheable(sync = true)
+    public CursorPage<FaqSummary> getFaqSummariesByCursor(String category, String cursor, int limit) {
+        log.debug("FAQ一覧取得(概要・カーソル): category={}, cursor={}, limit={}", category, cursor, limit);
+        
+        return cursorPage(category, cursor, limit, summaries());
+    }
+    
+    @Cacheable(sync = true)
+    public List<FaqResponse> searchFaqs(String query, String category, int limit) {
+        log.debug("FAQ検索: query={}, category={}, limit={}", query, category, limit);
+        
+        Faq.FaqCategory faqCategory = null;
+        if (category != null && !category.trim().isEmpty()) {
+            try {
+                faqCategory = Faq.FaqCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("無効なカテゴリ: {}", category);
+                return List.of();
+            }
+        }
+        
+        return contentMetrics.convertList(ContentMetrics.Conversion.FAQ,
+            faqSearchService.search(query, faqCategory, limit), this::convertToResponse);
+    }
+    
+    @Cacheable(sync = true)
     public FaqResponse getFaqById(Long id) {
-        log.info("FAQ詳細取得: id={}", id);
+        log.debug("FAQ詳細取得: id={}", id);
         
-        Faq faq = faqRepository.findActiveFaqById(id);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        Faq faq = snapshot != null
+            ? snapshot.findFaq(id)
+            : faqRepository.findActiveFaqById(id);
         if (faq == null) {
             log.warn("FAQが見つかりません: id={}", id);
             return null;
         }
         
-        return convertToResponse(faq);
+        return contentMetrics.convert(ContentMetrics.Conversion.FAQ, faq, this::convertToResponse);
     }
     
-    private FaqResponse convertToResponse(Faq faq) {
+    public FaqResponse convertToResponse(Faq faq) {
         return FaqResponse.builder()
             .id(faq.getId().toString())
             .question(faq.getQuestion())
@@ -66,4 +142,148 @@ public class FaqService {
             .isActive(faq.getIsActive())
             .build();
     }
+    
+    public FaqSummary convertToSummary(Faq faq) {
+        return new FaqSummary(
+            faq.getId(),
+            faq.getQuestion(),
+            faq.getCategory(),
+            faq.getCreatedAt(),
+            faq.getUpdatedAt(),
+            faq.getIsActive()
+        );
+    }
+    
+    private <T> Page<T> page(Faq.FaqCategory category, Pageable pageable, FaqProjection<T> projection) {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        if (snapshot != null) {
+            Page<Faq> faqs = category != null
+                ? snapshot.faqPage(category, pageable)
+                : snapshot.faqPage(pageable);
+            return contentMetrics.convertPage(projection.conversion(), faqs, projection.mapper());
+        }
+        if (category != null) {
+            return contentCountCache.page("faqs:" + category.name(), pageable,
+                p -> projection.sliceByCategory().find(category, p),
+                p -> projection.pageByCategory().find(category, p));
+        }
+        return contentCountCache.page("faqs", pageable, projection.slice(), projection.page());
+    }
+    
+    private <T> Slice<T> slice(String category, int page, int limit, FaqProjection<T> projection) {
+        Faq.FaqCategory faqCategory;
+        try {
+            faqCategory = parseCategory(category);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なカテゴリ: {}", category);
+            return Page.empty();
+        }
+        
+        Pageable pageable = PageRequest.of(page - 1, limit);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        if (snapshot != null) {
+            Page<Faq> faqs = faqCategory != null
+                ? snapshot.faqPage(faqCategory, pageable)
+                : snapshot.faqPage(pageable);
+            return contentMetrics.convertPage(projection.conversion(), faqs, projection.mapper());
+        }
+        return faqCategory != null
+            ? projection.sliceByCategory().find(faqCategory, pageable)
+            : projection.slice().apply(pageable);
+    }
+    
+    private <T> CursorPage<T> cursorPage(String category, String cursor, int limit, FaqProjection<T> projection) {
+        PageCursor.requireValidLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        Faq.FaqCategory faqCategory;
+        try {
+            faqCategory = parseCategory(category);
+        } catch (IllegalArgumentException e) {
+            log.warn("無効なカテゴリ: {}", category);
+            return new CursorPage<>(List.of(), null);
+        }
+        
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        List<T> faqs;
+        if (snapshot != null) {
+            List<Faq> rows = faqCategory != null
+                ? snapshot.faqsAfter(faqCategory, after, limit + 1)
+                : snapshot.faqsAfter(after, limit + 1);
+            faqs = contentMetrics.convertList(projection.conversion(), rows, projection.mapper());
+        } else if (faqCategory != null) {
+            faqs = after == null
+                ? projection.sliceByCategory().find(faqCategory, pageable).getContent()
+                : projection.afterByCategory().find(faqCategory, after.getSortKey(), after.getId(), pageable);
+        } else {
+            faqs = after == null
+                ? projection.slice().apply(pageable).getContent()
+                : projection.after().find(after.getSortKey(), after.getId(), pageable);
+        }
+        
+        return PageCursor.toPage(faqs, limit, projection.cursorOf(), Function.identity());
+    }
+    
+    /**
+     * @return 未指定の場合は {@code null}
+     * @throws IllegalArgumentException 存在しないカテゴリの場合
+     */
+    private Faq.FaqCategory parseCategory(String category) {
+        if (category == null || category.trim().isEmpty()) {
+            return null;
+        }
+        return Faq.FaqCategory.valueOf(category.toUpperCase());
+    }
+    
+    private FaqProjection<FaqResponse> responses() {
+        return new FaqProjection<>(
+            ContentMetrics.Conversion.FAQ,
+            this::convertToResponse,
+            faqRepository::findActiveFaqResponses,
+            faqRepository::findActiveFaqResponsesByCategory,
+            faqRepository::findActiveFaqResponseSlice,
+            faqRepository::findActiveFaqResponseSliceByCategory,
+            faqRepository::findActiveFaqResponsesAfter,
+            faqRepository::findActiveFaqResponsesByCategoryAfter,
+            faq -> new PageCursor(faq.getCreatedAt(), Long.parseLong(faq.getId())));
+    }
+    
+    private FaqProjection<FaqSummary> summaries() {
+        return new FaqProjection<>(
+            ContentMetrics.Conversion.FAQ_SUMMARY,
+            this::convertToSummary,
+            faqRepository::findActiveFaqSummaries,
+            faqRepository::findActiveFaqSummariesByCategory,
+            faqRepository::findActiveFaqSummarySlice,
+            faqRepository::findActiveFaqSummarySliceByCategory,
+            faqRepository::findActiveFaqSummariesAfter,
+            faqRepository::findActiveFaqSummariesByCategoryAfter,
+            faq -> new PageCursor(faq.getCreatedAt(), Long.parseLong(faq.getId())));
+    }
+    
+    /**
+     * 一覧の射影先（全項目 / 概要）ごとのリポジトリクエリとエンティティからの変換。
+     */
+    private record FaqProjection<T>(
+        ContentMetrics.Conversion conversion,
+        Function<Faq, T> mapper,
+        Function<Pageable, Page<T>> page,
+        CategoryQuery<Page<T>> pageByCategory,
+        Function<Pageable, Slice<T>> slice,
+        CategoryQuery<Slice<T>> sliceByCategory,
+        KeysetQuery<T> after,
+        CategoryKeysetQuery<T> afterByCategory,
+        Function<T, PageCursor> cursorOf
+    ) {
+    }
+    
+    @FunctionalInterface
+    private interface CategoryQuery<R> {
+        R find(Faq.FaqCategory category, Pageable pageable);
+    }
+    
+    @FunctionalInterface
+    private interface CategoryKeysetQuery<T> {
+        List<T> find(Faq.FaqCategory category, LocalDateTime sortKey, Long id, Pageable pageable);
+    }
 }
@@ -0,0 +1,7 @@
+package com.ahamo.dummy.demo2.content.service;
+
+/**
+ * ジャーナル上のレコード位置（セグメント番号とセグメント内オフセット）。
+ */
+public record JournalPosition(long segment, int offset) {
+}
@@ -0,0 +1,171 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 固定長のメモリマップドセグメントファイル。
+ * レコードは [長さ(int)][CRC32(int)][ペイロード] の順に追記し、長さ0の位置を終端とみなす。
+ * DBへの保存が確定したレコードは長さを負数に反転して確定済みとし、再投入の対象から外す。
+ */
+final class JournalSegment {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private static final String FILE_PREFIX = "contacts-";
+    private static final String FILE_SUFFIX = ".journal";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private int pending;
+    private boolean sealed;
+
+    private JournalSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long id, int size) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new JournalSegment(id, path, channel, buffer);
+    }
+
+    /**
+     * 前回起動時に残ったセグメントを再投入のために開く。追記には使わない。
+     */
+    static JournalSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        return new JournalSegment(idOf(path), path, channel, buffer);
+    }
+
+    static String fileName(long id) {
+        return String.format("%s%016d%s", FILE_PREFIX, id, FILE_SUFFIX);
+    }
+
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    static long idOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    /**
+     * CRCが一致する先頭からの未確定レコードを返す。途中で書き込みが途切れたレコード以降は読み捨てる。
+     */
+    List<Record> pendingRecords() {
+        List<Record> records = new ArrayList<>();
+        ByteBuffer view = buffer.duplicate();
+        view.position(0);
+        while (view.remaining() >= HEADER_BYTES) {
+            int offset = view.position();
+            int stored = view.getInt();
+            int length = Math.abs(stored);
+            if (stored == 0 || length > view.remaining() - Integer.BYTES) {
+                break;
+            }
+            if (stored < 0) {
+                view.position(view.position() + Integer.BYTES + length);
+                continue;
+            }
+            int checksum = view.getInt();
+            byte[] payload = new byte[length];
+            view.get(payload);
+            if (checksum != crc(payload)) {
+                break;
+            }
+            records.add(new Record(offset, payload));
+        }
+        return records;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    int remaining() {
+        return buffer.remaining();
+    }
+
+    JournalPosition append(byte[] payload) {
+        int offset = buffer.position();
+        buffer.putInt(offset + Integer.BYTES, crc(payload));
+        buffer.position(offset + HEADER_BYTES);
+        buffer.put(payload);
+        // 長さは最後に書き込み、途中までしか永続化されなかったレコードを終端として扱えるようにする
+        buffer.putInt(offset, payload.length);
+        pending++;
+        return new JournalPosition(id, offset);
+    }
+
+    /**
+     * レコードを確定済みにする。永続化は呼び出し側の {@link #force()} に任せる。
+     */
+    void commit(int offset) {
+        int length = buffer.getInt(offset);
+        if (length > 0) {
+            buffer.putInt(offset, -length);
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * @return 未確定レコードが無くなった場合 {@code true}
+     */
+    boolean release() {
+        pending--;
+        return pending <= 0;
+    }
+
+    boolean isDrained() {
+        return pending <= 0;
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    record Record(int offset, byte[] payload) {
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
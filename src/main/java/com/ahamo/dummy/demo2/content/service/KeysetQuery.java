@@ -0,0 +1,15 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 降順（sortKey DESC, id DESC）でカーソル位置より後ろの行を取得するリポジトリクエリ。
+ */
+@FunctionalInterface
+interface KeysetQuery<T> {
+
+    List<T> find(LocalDateTime sortKey, Long id, Pageable pageable);
+}
@@ -2,58 +2,164 @@ package com.ahamo.dummy.demo2.content.service;
 
 import com.ahamo.dummy.demo2.content.entity.News;
 import com.ahamo.dummy.demo2.content.repository.NewsRepository;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsSummary;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
 
+/**
+ * スナップショットが無い場合の一覧はエンティティを読み込まず、レスポンスDTOへ直接射影するクエリで取得する。
+ * 概要（Summary）系は本文を SELECT しない。
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = "news", keyGenerator = "contentCacheKeyGenerator")
 public class NewsService {
     
     private final NewsRepository newsRepository;
-    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private final ContentSnapshotService contentSnapshotService;
+    private final ContentCountCache contentCountCache;
+    private final ContentMetrics contentMetrics;
     
+    @Cacheable(sync = true)
     public Page<NewsResponse> getNews(int page, int limit) {
-        log.info("ニュース一覧取得: page={}, limit={}", page, limit);
+        log.debug("ニュース一覧取得: page={}, limit={}", page, limit);
         
-        Pageable pageable = PageRequest.of(page - 1, limit);
-        Page<News> news = newsRepository.findPublishedNews(pageable);
+        return page(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.NEWS, this::convertToResponse,
+            newsRepository::findPublishedNewsResponseSlice, newsRepository::findPublishedNewsResponses);
+    }
+    
+    @Cacheable(sync = true)
+    public Page<NewsSummary> getNewsSummaries(int page, int limit) {
+        log.debug("ニュース一覧取得(概要): page={}, limit={}", page, limit);
+        
+        return page(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.NEWS_SUMMARY, this::convertToSummary,
+            newsRepository::findPublishedNewsSummarySlice, newsRepository::findPublishedNewsSummaries);
+    }
+    
+    @Cacheable(sync = true)
+    public Slice<NewsResponse> getNewsSlice(int page, int limit) {
+        log.debug("ニュース一覧取得(件数なし): page={}, limit={}", page, limit);
+        
+        return slice(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.NEWS, this::convertToResponse,
+            newsRepository::findPublishedNewsResponseSlice);
+    }
+    
+    @Cacheable(sync = true)
+    public Slice<NewsSummary> getNewsSummarySlice(int page, int limit) {
+        log.debug("ニュース一覧取得(概要・件数なし): page={}, limit={}", page, limit);
         
-        return news.map(this::convertToResponse);
+        return slice(PageRequest.of(page - 1, limit), ContentMetrics.Conversion.NEWS_SUMMARY, this::convertToSummary,
+            newsRepository::findPublishedNewsSummarySlice);
     }
     
+    @Cacheable(sync = true)
+    public CursorPage<NewsResponse> getNewsByCursor(String cursor, int limit) {
+        log.debug("ニュース一覧取得(カーソル): cursor={}, limit={}", cursor, limit);
+        
+        return cursorPage(cursor, limit, ContentMetrics.Conversion.NEWS, this::convertToResponse,
+            newsRepository::findPublishedNewsResponseSlice, newsRepository::findPublishedNewsResponsesAfter,
+            item -> new PageCursor(item.getPublishedDate(), Long.parseLong(item.getId())));
+    }
+    
+    @Cacheable(sync = true)
+    public CursorPage<NewsSummary> getNewsSummariesByCursor(String cursor, int limit) {
+        log.debug("ニュース一覧取得(概要・カーソル): cursor={}, limit={}", cursor, limit);
+        
+        return cursorPage(cursor, limit, ContentMetrics.Conversion.NEWS_SUMMARY, this::convertToSummary,
+            newsRepository::findPublishedNewsSummarySlice, newsRepository::findPublishedNewsSummariesAfter,
+            item -> new PageCursor(item.getPublishedDate(), Long.parseLong(item.getId())));
+    }
+    
+    @Cacheable(sync = true)
     public NewsResponse getNewsById(Long id) {
-        log.info("ニュース詳細取得: id={}", id);
+        log.debug("ニュース詳細取得: id={}", id);
         
-        News news = newsRepository.findPublishedNewsById(id);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        News news = snapshot != null
+            ? snapshot.findNews(id)
+            : newsRepository.findPublishedNewsById(id);
         if (news == null) {
             log.warn("ニュースが見つかりません: id={}", id);
             return null;
         }
         
-        return convertToResponse(news);
+        return contentMetrics.convert(ContentMetrics.Conversion.NEWS, news, this::convertToResponse);
     }
     
-    private NewsResponse convertToResponse(News news) {
+    public NewsResponse convertToResponse(News news) {
         return new NewsResponse(
-            news.getId().toString(),
+            news.getId(),
             news.getTitle(),
             news.getContent(),
             news.getLink(),
-            news.getPublishedDate().format(dateFormatter),
             news.getPublishedDate(),
             news.getCreatedAt(),
             news.getUpdatedAt(),
             news.getIsPublished()
         );
     }
+    
+    public NewsSummary convertToSummary(News news) {
+        return new NewsSummary(
+            news.getId(),
+            news.getTitle(),
+            news.getLink(),
+            news.getPublishedDate(),
+            news.getCreatedAt(),
+            news.getUpdatedAt(),
+            news.getIsPublished()
+        );
+    }
+    
+    private <T> Page<T> page(Pageable pageable, ContentMetrics.Conversion conversion, Function<News, T> mapper,
+                             Function<Pageable, Slice<T>> sliceQuery, Function<Pageable, Page<T>> pageQuery) {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        return snapshot != null
+            ? contentMetrics.convertPage(conversion, snapshot.newsPage(pageable), mapper)
+            : contentCountCache.page("news", pageable, sliceQuery, pageQuery);
+    }
+    
+    private <T> Slice<T> slice(Pageable pageable, ContentMetrics.Conversion conversion, Function<News, T> mapper,
+                               Function<Pageable, Slice<T>> sliceQuery) {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        return snapshot != null
+            ? contentMetrics.convertPage(conversion, snapshot.newsPage(pageable), mapper)
+            : sliceQuery.apply(pageable);
+    }
+    
+    private <T> CursorPage<T> cursorPage(String cursor, int limit,
+                                         ContentMetrics.Conversion conversion, Function<News, T> mapper,
+                                         Function<Pageable, Slice<T>> firstQuery, KeysetQuery<T> afterQuery,
+                                         Function<T, PageCursor> cursorOf) {
+        PageCursor.requireValidLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        List<T> news;
+        if (snapshot != null) {
+            news = contentMetrics.convertList(conversion, snapshot.newsAfter(after, limit + 1), mapper);
+        } else if (after == null) {
+            news = firstQuery.apply(pageable).getContent();
+        } else {
+            news = afterQuery.find(after.getSortKey(), after.getId(), pageable);
+        }
+        
+        return PageCursor.toPage(news, limit, cursorOf, Function.identity());
+    }
 }
@@ -0,0 +1,104 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * キーセットページネーション用のカーソル。
+ * 並び替えキー（createdAt / publishedDate）と id を不透明なトークンとしてエンコードする。
+ */
+public final class PageCursor {
+
+    private static final int TOKEN_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final LocalDateTime sortKey;
+    private final long id;
+
+    /**
+     * @param sortKey NOT NULL の列（V8）。NULL を最小値に置き換えると PostgreSQL で -infinity として比較され、
+     *                以降のページが返らなくなるため受け付けない
+     */
+    public PageCursor(LocalDateTime sortKey, long id) {
+        this.sortKey = Objects.requireNonNull(sortKey, "sortKey");
+        this.id = id;
+    }
+
+    public LocalDateTime getSortKey() {
+        return sortKey;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+        buffer.putLong(sortKey.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(sortKey.getNano());
+        buffer.putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @return 空文字の場合は先頭ページを表す {@code null}
+     * @throws IllegalArgumentException トークンが不正な場合
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes = Base64.getUrlDecoder().decode(token.trim());
+        if (bytes.length != TOKEN_BYTES) {
+            throw new IllegalArgumentException("無効なカーソルです");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long id = buffer.getLong();
+        try {
+            return new PageCursor(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), id);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("無効なカーソルです", e);
+        }
+    }
+
+    /**
+     * {@code limit + 1} 件取得した行から1ページ分を切り出し、続きがある場合のみ次のカーソルを付与する。
+     */
+    public static <T, R> CursorPage<R> toPage(List<T> rows, int limit,
+                                              Function<T, PageCursor> cursorOf, Function<T, R> mapper) {
+        int size = Math.min(rows.size(), limit);
+        List<R> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(mapper.apply(rows.get(i)));
+        }
+        String nextCursor = rows.size() > limit ? cursorOf.apply(rows.get(limit - 1)).encode() : null;
+        return new CursorPage<>(content, nextCursor);
+    }
+
+    public static void requireValidLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limitは1以上を指定してください");
+        }
+    }
+
+    /**
+     * 降順（sortKey DESC, id DESC）で {@code sortKey, id} の行がこのカーソルより後ろにあるかを判定する。
+     */
+    public boolean precedes(LocalDateTime otherSortKey, long otherId) {
+        int compared = sortKey.compareTo(otherSortKey);
+        if (compared != 0) {
+            return compared > 0;
+        }
+        return id > otherId;
+    }
+}
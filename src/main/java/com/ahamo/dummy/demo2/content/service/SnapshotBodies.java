@@ -0,0 +1,202 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.offheap.OffHeapTextStore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * スナップショットに保持する本文（キャンペーンの説明・ニュース本文・FAQの回答）を {@link OffHeapTextStore} へ移す。
+ * 移した行は本文を getter で都度デコードするサブクラスに置き換えるため、ヒープには本文以外の項目とハンドルだけが残る。
+ * 変換処理や検索インデックスからは通常のエンティティと同じように扱える。
+ * 置き換えた行は永続化対象ではないため、リポジトリへ保存してはならない。
+ */
+final class SnapshotBodies {
+
+    private final OffHeapTextStore store = new OffHeapTextStore();
+    private final int minLength;
+    private final Map<Long, OffHeapRow> previousCampaigns;
+    private final Map<Long, OffHeapRow> previousNews;
+    private final Map<Long, OffHeapRow> previousFaqs;
+
+    /**
+     * @param minLength この文字数未満の本文はヒープに残す
+     */
+    SnapshotBodies(int minLength) {
+        this(minLength, null);
+    }
+
+    /**
+     * 全件の読み直し用。前回のスナップショットと更新日時が同じ行の本文は、文字列を経由せず前回のストアから複写する。
+     * 新しいストアへ詰め直すため、差分反映で前回のストアを参照し続けていた行もここで1つのストアにまとまる。
+     *
+     * @param minLength この文字数未満の本文はヒープに残す
+     * @param previous  前回のスナップショット。無い場合は {@code null}
+     */
+    SnapshotBodies(int minLength, ContentSnapshot previous) {
+        this.minLength = minLength;
+        this.previousCampaigns = previous != null ? byId(previous.getScheduledCampaigns()) : Map.of();
+        this.previousNews = previous != null ? byId(previous.getScheduledNews()) : Map.of();
+        this.previousFaqs = previous != null ? byId(previous.getFaqs()) : Map.of();
+    }
+
+    List<Campaign> campaigns(List<Campaign> campaigns) {
+        return offload(campaigns, OffHeapCampaign.class, Campaign::getDescription, Campaign::getId,
+            Campaign::getUpdatedAt, previousCampaigns, (campaign, handle) -> new OffHeapCampaign(campaign, store, handle));
+    }
+
+    List<News> news(List<News> news) {
+        return offload(news, OffHeapNews.class, News::getContent, News::getId,
+            News::getUpdatedAt, previousNews, (item, handle) -> new OffHeapNews(item, store, handle));
+    }
+
+    List<Faq> faqs(List<Faq> faqs) {
+        return offload(faqs, OffHeapFaq.class, Faq::getAnswer, Faq::getId,
+            Faq::getUpdatedAt, previousFaqs, (faq, handle) -> new OffHeapFaq(faq, store, handle));
+    }
+
+    long size() {
+        return store.size();
+    }
+
+    /**
+     * 前回のスナップショットから引き継いだ移動済みの行はそのまま使う。
+     */
+    private <T> List<T> offload(List<T> items, Class<? extends T> offHeapType, Function<T, String> body,
+                                Function<T, Long> id, Function<T, LocalDateTime> updatedAt,
+                                Map<Long, OffHeapRow> previous, BiFunction<T, Long, T> copy) {
+        List<T> result = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (offHeapType.isInstance(item)) {
+                result.add(item);
+                continue;
+            }
+            OffHeapRow unchanged = previous.get(id.apply(item));
+            if (unchanged != null && Objects.equals(unchanged.getUpdatedAt(), updatedAt.apply(item))) {
+                result.add(copy.apply(item, store.copy(unchanged.store(), unchanged.body())));
+                continue;
+            }
+            String text = body.apply(item);
+            result.add(text != null && text.length() >= minLength ? copy.apply(item, store.put(text)) : item);
+        }
+        return result;
+    }
+
+    private static Map<Long, OffHeapRow> byId(List<?> rows) {
+        Map<Long, OffHeapRow> byId = new HashMap<>();
+        for (Object row : rows) {
+            if (row instanceof OffHeapRow offHeap) {
+                byId.put(offHeap.getId(), offHeap);
+            }
+        }
+        return byId;
+    }
+
+    /**
+     * 本文をヒープ外に置いた行。
+     */
+    interface OffHeapRow {
+
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+
+        OffHeapTextStore store();
+
+        long body();
+    }
+
+    static final class OffHeapCampaign extends Campaign implements OffHeapRow {
+
+        private final OffHeapTextStore store;
+        private final long description;
+
+        OffHeapCampaign(Campaign source, OffHeapTextStore store, long description) {
+            super(source.getId(), source.getTitle(), null, source.getImageUrl(), source.getLink(),
+                source.getCreatedAt(), source.getUpdatedAt(), source.getIsActive(),
+                source.getStartAt(), source.getEndAt());
+            this.store = store;
+            this.description = description;
+        }
+
+        @Override
+        public String getDescription() {
+            return store.get(description);
+        }
+
+        @Override
+        public OffHeapTextStore store() {
+            return store;
+        }
+
+        @Override
+        public long body() {
+            return description;
+        }
+    }
+
+    static final class OffHeapNews extends News implements OffHeapRow {
+
+        private final OffHeapTextStore store;
+        private final long content;
+
+        OffHeapNews(News source, OffHeapTextStore store, long content) {
+            super(source.getId(), source.getTitle(), null, source.getLink(), source.getPublishedDate(),
+                source.getCreatedAt(), source.getUpdatedAt(), source.getIsPublished());
+            this.store = store;
+            this.content = content;
+        }
+
+        @Override
+        public String getContent() {
+            return store.get(content);
+        }
+
+        @Override
+        public OffHeapTextStore store() {
+            return store;
+        }
+
+        @Override
+        public long body() {
+            return content;
+        }
+    }
+
+    static final class OffHeapFaq extends Faq implements OffHeapRow {
+
+        private final OffHeapTextStore store;
+        private final long answer;
+
+        OffHeapFaq(Faq source, OffHeapTextStore store, long answer) {
+            super(source.getId(), source.getQuestion(), null, source.getCategory(),
+                source.getCreatedAt(), source.getUpdatedAt(), source.getIsActive());
+            this.store = store;
+            this.answer = answer;
+        }
+
+        @Override
+        public String getAnswer() {
+            return store.get(answer);
+        }
+
+        @Override
+        public OffHeapTextStore store() {
+            return store;
+        }
+
+        @Override
+        public long body() {
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ahamo.dummy.demo2.content.service;
+
+/**
+ * 現在のスレッドで {@link ContentSnapshotService#getSnapshot()} から読んだスナップショットのうち、最も古いものを記録する範囲。
+ * レスポンスキャッシュが、リクエストの開始時ではなく実際にレスポンスの作成に使われたバージョンでボディを保存するために使う。
+ * 範囲は入れ子にでき、閉じると外側の範囲に戻る。
+ */
+public final class SnapshotReadScope implements AutoCloseable {
+
+    private static final ThreadLocal<SnapshotReadScope> CURRENT = new ThreadLocal<>();
+
+    private final SnapshotReadScope parent;
+    private ContentSnapshot oldest;
+
+    private SnapshotReadScope(SnapshotReadScope parent) {
+        this.parent = parent;
+    }
+
+    public static SnapshotReadScope open() {
+        SnapshotReadScope scope = new SnapshotReadScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 範囲の外で呼び出された場合は何もしない。
+     */
+    public static void record(ContentSnapshot snapshot) {
+        SnapshotReadScope scope = CURRENT.get();
+        if (scope != null && snapshot != null
+            && (scope.oldest == null || snapshot.getGeneration() < scope.oldest.getGeneration())) {
+            scope.oldest = snapshot;
+        }
+    }
+
+    /**
+     * @return 範囲内でスナップショットを読んでいない場合（サービス層のキャッシュから返した場合など）は {@code null}
+     */
+    public ContentSnapshot getOldest() {
+        return oldest;
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ahamo.dummy.demo2.content.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * リクエスト単位のアクセスログをサンプリングして出力する。
+ * 5xx・例外・低速リクエストはサンプリングに関係なく出力し、例外はスタックトレースごと記録する。
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(double sampleRate, Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - started;
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            Level level = levelOf(status, elapsedNanos, failure);
+            if (level != null && ACCESS_LOG.isEnabledForLevel(level)) {
+                ACCESS_LOG.atLevel(level)
+                    .setCause(failure)
+                    .log("{} {} {} {}", kv("method", request.getMethod()), kv("uri", request.getRequestURI()),
+                        kv("status", status), kv("durationMs", elapsedNanos / 1_000_000));
+            }
+        }
+    }
+
+    /**
+     * @return 出力しない場合は {@code null}
+     */
+    Level levelOf(int status, long elapsedNanos, Throwable failure) {
+        if (failure != null) {
+            return Level.ERROR;
+        }
+        if (status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR || elapsedNanos >= slowThresholdNanos) {
+            return Level.WARN;
+        }
+        return isSampled() ? Level.INFO : null;
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ahamo.dummy.demo2.content.web;
+
+import com.ahamo.dummy.demo2.content.dto.VersionedResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * コンテンツの id と updatedAt から強いETagとLast-Modifiedを組み立てる。
+ * 条件付きリクエストの判定と304応答は HttpEntityMethodProcessor に任せる。
+ */
+public final class ContentValidators {
+
+    private ContentValidators() {
+    }
+
+    public static ResponseEntity.BodyBuilder ok(List<? extends VersionedResponse> items, long total) {
+        long hash = mix(0xcbf29ce484222325L, total);
+        LocalDateTime lastModified = null;
+        for (VersionedResponse item : items) {
+            hash = mix(hash, item);
+            lastModified = latest(lastModified, item.getUpdatedAt());
+        }
+        return builder(hash, lastModified);
+    }
+
+    public static ResponseEntity.BodyBuilder ok(List<? extends VersionedResponse> items, String nextCursor) {
+        return ok(items, nextCursor != null ? nextCursor.hashCode() : 0L);
+    }
+
+    public static ResponseEntity.BodyBuilder ok(List<? extends VersionedResponse> items, boolean hasNext) {
+        return ok(items, hasNext ? 1L : 0L);
+    }
+
+    public static ResponseEntity.BodyBuilder ok(VersionedResponse item) {
+        return builder(mix(0xcbf29ce484222325L, item), item.getUpdatedAt());
+    }
+
+    private static ResponseEntity.BodyBuilder builder(long hash, LocalDateTime lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .eTag("\"" + Long.toHexString(hash) + "\"")
+            .cacheControl(CacheControl.noCache());
+        if (lastModified != null) {
+            builder.lastModified(lastModified.atZone(ZoneId.systemDefault()));
+        }
+        return builder;
+    }
+
+    private static long mix(long hash, VersionedResponse item) {
+        String id = item.getId();
+        for (int i = 0; i < id.length(); i++) {
+            hash = mix(hash, id.charAt(i));
+        }
+        LocalDateTime updatedAt = item.getUpdatedAt();
+        if (updatedAt != null) {
+            hash = mix(hash, updatedAt.toEpochSecond(ZoneOffset.UTC));
+            hash = mix(hash, updatedAt.getNano());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        hash ^= value;
+        hash *= 0x100000001b3L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
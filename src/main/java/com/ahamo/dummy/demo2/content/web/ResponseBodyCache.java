@@ -0,0 +1,193 @@
+package com.ahamo.dummy.demo2.content.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * シリアライズ済みレスポンスボディのキャッシュ。
+ * エントリはコンテンツのバージョンに紐づき、バージョンが変わった時点で全件破棄する。
+ * 切り替えはスナップショットの世代が進む方向にだけ行い、古いスナップショットで処理中のリクエストが戻さないようにする。
+ * エントリ数は maxEntries を上限に、使われていないものから追い出す。
+ * offHeapMinSize 以上のボディはダイレクトバッファに保持し、ヒープ上の配列を経由せずに書き出せるようにする。
+ */
+public class ResponseBodyCache {
+
+    private final int minCompressSize;
+    private final int offHeapMinSize;
+    private final Cache<String, CachedBody> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final AtomicReference<Current> current = new AtomicReference<>(new Current(0L, 0L));
+
+    public ResponseBodyCache(int maxEntries, int minCompressSize, int offHeapMinSize) {
+        this.minCompressSize = minCompressSize;
+        this.offHeapMinSize = offHeapMinSize;
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    /**
+     * @param generation {@code version} のスナップショットの世代。現在より新しい場合だけバージョンを切り替える
+     */
+    public CachedBody get(String key, long version, long generation) {
+        if (!advance(version, generation)) {
+            misses.increment();
+            return null;
+        }
+        CachedBody body = entries.getIfPresent(key);
+        if (body == null || body.getVersion() != version) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return body;
+    }
+
+    /**
+     * @param version レスポンスの作成に使われたスナップショットのバージョン。現在のバージョンと異なる場合は保存しない
+     */
+    public CachedBody put(String key, long version, String contentType, byte[] body,
+                          String etag, String lastModified, String cacheControl) {
+        CachedBody cached = new CachedBody(
+            version, contentType, store(body), body.length >= minCompressSize, etag, lastModified, cacheControl);
+        if (version != current.get().version()) {
+            return cached;
+        }
+        entries.put(key, cached);
+        return cached;
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return {@code version} が現在のバージョンの場合 true
+     */
+    private boolean advance(long version, long generation) {
+        while (true) {
+            Current observed = current.get();
+            if (observed.version() == version) {
+                if (generation > observed.generation()) {
+                    // 内容が同じまま世代だけ進んだ場合も記録し、間の世代のリクエストで戻らないようにする
+                    current.compareAndSet(observed, new Current(version, generation));
+                }
+                return true;
+            }
+            if (generation <= observed.generation()) {
+                return false;
+            }
+            if (current.compareAndSet(observed, new Current(version, generation))) {
+                entries.invalidateAll();
+                return true;
+            }
+        }
+    }
+
+    private ByteBuffer store(byte[] body) {
+        return store(body, body.length >= offHeapMinSize);
+    }
+
+    private static ByteBuffer store(byte[] body, boolean offHeap) {
+        if (!offHeap) {
+            return ByteBuffer.wrap(body).asReadOnlyBuffer();
+        }
+        return ByteBuffer.allocateDirect(body.length).put(body).flip().asReadOnlyBuffer();
+    }
+
+    private record Current(long version, long generation) {
+    }
+
+    public static final class CachedBody {
+
+        private final long version;
+        private final String contentType;
+        private final ByteBuffer identity;
+        private final boolean compressible;
+        private final String etag;
+        private final String lastModified;
+        private final String cacheControl;
+
+        private volatile ByteBuffer gzip;
+
+        CachedBody(long version, String contentType, ByteBuffer identity, boolean compressible,
+                   String etag, String lastModified, String cacheControl) {
+            this.version = version;
+            this.contentType = contentType;
+            this.identity = identity;
+            this.compressible = compressible;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.cacheControl = cacheControl;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * @return 呼び出しごとに位置を持つ読み取り専用のビュー
+         */
+        public ByteBuffer getIdentity() {
+            return identity.duplicate();
+        }
+
+        public boolean isCompressible() {
+            return compressible;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public String getCacheControl() {
+            return cacheControl;
+        }
+
+        public ByteBuffer getGzip() {
+            ByteBuffer compressed = gzip;
+            if (compressed == null) {
+                compressed = store(compress(identity.duplicate()), identity.isDirect());
+                gzip = compressed;
+            }
+            return compressed.duplicate();
+        }
+
+        private static byte[] compress(ByteBuffer body) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.remaining() / 3));
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                Channels.newChannel(out).write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ahamo.dummy.demo2.content.web;
+
+import com.ahamo.dummy.demo2.content.service.ContentSnapshot;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import com.ahamo.dummy.demo2.content.service.SnapshotReadScope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * コンテンツ系GET APIのレスポンスをシリアライズ済みのバイト列で返却するフィルタ。
+ * スナップショット未読み込み時はキャッシュを経由しない。
+ * ボディは、サービスがレスポンスの作成時に読んだスナップショットのバージョンで保存する。
+ * キャッシュ済みのボディは {@link Channels#newChannel} の小さな転送バッファ経由で書き出し、全体をヒープへ複製しない。
+ */
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    /** 一覧・詳細・検索APIが受け取るクエリパラメーター（キーの並び順を固定するため名前順） */
+    private static final List<String> KEY_PARAMETERS =
+        List.of("category", "cursor", "includeTotal", "limit", "page", "q", "summary");
+
+    private final ResponseBodyCache responseBodyCache;
+    private final ContentSnapshotService contentSnapshotService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        if (snapshot == null || !"GET".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long version = snapshot.getVersion();
+        String key = cacheKey(request);
+        ResponseBodyCache.CachedBody cached = responseBodyCache.get(key, version, snapshot.getGeneration());
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        ContentSnapshot renderedFrom;
+        try (SnapshotReadScope scope = SnapshotReadScope.open()) {
+            filterChain.doFilter(request, wrapper);
+            renderedFrom = scope.getOldest();
+        }
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || response.isCommitted()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        // サービスがスナップショットを読まずに返した場合だけ、リクエスト開始時のバージョンを使う
+        long renderedVersion = renderedFrom != null ? renderedFrom.getVersion() : version;
+        cached = responseBodyCache.put(key, renderedVersion, wrapper.getContentType(), wrapper.getContentAsByteArray(),
+            wrapper.getHeader(HttpHeaders.ETAG),
+            wrapper.getHeader(HttpHeaders.LAST_MODIFIED),
+            wrapper.getHeader(HttpHeaders.CACHE_CONTROL));
+        write(cached, request, response);
+    }
+
+    /**
+     * パスと、コントローラーが受け取るクエリパラメーターだけでキーを作る。
+     * それ以外のパラメーターはレスポンスに影響しないため、付け替えてもエントリが増えないよう無視する。
+     */
+    static String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        StringBuilder key = new StringBuilder(path);
+        char separator = '?';
+        for (String name : KEY_PARAMETERS) {
+            String[] values = request.getParameterValues(name);
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                key.append(separator).append(name).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!"gzip".equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * gzip 版はバイト列が異なるため、識別用の ETag とは別の値にする（{@code "abc"} → {@code "abc-gzip"}）。
+     */
+    static String gzipEtag(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        if (etag.endsWith("\"")) {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+        return etag + "-gzip";
+    }
+
+    static boolean isNotModified(String etag, String lastModified, HttpServletRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            if (etag == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            if (ifModifiedSince < 0) {
+                return false;
+            }
+            long lastModifiedMillis = ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME)
+                .toInstant()
+                .toEpochMilli();
+            return lastModifiedMillis <= ifModifiedSince;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private void write(ResponseBodyCache.CachedBody cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = cached.isCompressible() && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? gzipEtag(cached.getEtag()) : cached.getEtag();
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        if (cached.getLastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, cached.getLastModified());
+        }
+        if (cached.getCacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cached.getCacheControl());
+        }
+        if (cached.isCompressible()) {
+            // 304 でも共有キャッシュが表現ごとに保持した応答を選べるよう Vary を付ける
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (isNotModified(etag, cached.getLastModified(), request)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        ByteBuffer body = cached.getIdentity();
+        if (gzip) {
+            body = cached.getGzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        if (cached.getContentType() != null) {
+            response.setContentType(cached.getContentType());
+        }
+        response.setContentLength(body.remaining());
+        Channels.newChannel(response.getOutputStream()).write(body);
+        response.flushBuffer();
+    }
+}
@@ -0,0 +1,48 @@
+-- ベースラインスキーマ。エンティティ定義（ddl-auto: validate）と一致させる。
+-- 既存の手作業で作成したDBでは baseline-on-migrate により V1 は適用済みとして扱われ、V2 以降のみ実行される。
+-- ID はプール型シーケンス（V2）から採番するため、ここでは SERIAL を使わない。
+
+CREATE TABLE IF NOT EXISTS campaigns (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    image_url VARCHAR(255),
+    link VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    is_active BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS news (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    content TEXT,
+    link VARCHAR(255) NOT NULL,
+    published_date TIMESTAMP,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    is_published BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS faqs (
+    id BIGINT PRIMARY KEY,
+    question TEXT NOT NULL,
+    answer TEXT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    is_active BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS contacts (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    category VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    estimated_response_time VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
@@ -0,0 +1,12 @@
+-- Hibernate の pooled オプティマイザ用シーケンス（allocationSize = 50 と一致させる）。
+-- pooled は nextval の値を採番範囲の上限として扱うため、既存の最大IDより50大きい値から開始する。
+
+CREATE SEQUENCE IF NOT EXISTS campaigns_seq INCREMENT BY 50 START WITH 50;
+CREATE SEQUENCE IF NOT EXISTS news_seq INCREMENT BY 50 START WITH 50;
+CREATE SEQUENCE IF NOT EXISTS faqs_seq INCREMENT BY 50 START WITH 50;
+CREATE SEQUENCE IF NOT EXISTS contacts_seq INCREMENT BY 50 START WITH 50;
+
+SELECT setval('campaigns_seq', COALESCE((SELECT MAX(id) FROM campaigns), 0) + 50, false);
+SELECT setval('news_seq', COALESCE((SELECT MAX(id) FROM news), 0) + 50, false);
+SELECT setval('faqs_seq', COALESCE((SELECT MAX(id) FROM faqs), 0) + 50, false);
+SELECT setval('contacts_seq', COALESCE((SELECT MAX(id) FROM contacts), 0) + 50, false);
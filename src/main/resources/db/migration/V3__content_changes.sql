@@ -0,0 +1,35 @@
+-- 差分同期（GET /content/changes）用。
+-- updated_at で変更行を範囲検索し、物理削除された行は墓標（tombstone）として記録する。
+
+CREATE INDEX IF NOT EXISTS idx_campaigns_updated_at ON campaigns (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_news_updated_at ON news (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_faqs_updated_at ON faqs (updated_at, id);
+
+CREATE TABLE IF NOT EXISTS content_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    content_type VARCHAR(16) NOT NULL,
+    content_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_content_tombstones_deleted_at ON content_tombstones (deleted_at);
+
+CREATE OR REPLACE FUNCTION record_content_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO content_tombstones (content_type, content_id, deleted_at)
+    VALUES (TG_ARGV[0], OLD.id, LOCALTIMESTAMP);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS campaigns_tombstone ON campaigns;
+CREATE TRIGGER campaigns_tombstone AFTER DELETE ON campaigns
+    FOR EACH ROW EXECUTE FUNCTION record_content_tombstone('CAMPAIGN');
+
+DROP TRIGGER IF EXISTS news_tombstone ON news;
+CREATE TRIGGER news_tombstone AFTER DELETE ON news
+    FOR EACH ROW EXECUTE FUNCTION record_content_tombstone('NEWS');
+
+DROP TRIGGER IF EXISTS faqs_tombstone ON faqs;
+CREATE TRIGGER faqs_tombstone AFTER DELETE ON faqs
+    FOR EACH ROW EXECUTE FUNCTION record_content_tombstone('FAQ');
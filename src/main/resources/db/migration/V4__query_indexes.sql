@@ -0,0 +1,21 @@
+-- リポジトリの @Query に合わせた部分インデックス。
+-- WHERE 句の公開条件をインデックスの述語にし、キーを ORDER BY（日時 DESC, id DESC）と同じ順にすることで、
+-- 一覧・キーセットページングはソートなしのインデックススキャンで先頭から必要な件数だけ読む。
+
+-- CampaignRepository.findActiveCampaigns / findActiveCampaignsSlice / findActiveCampaignsAfter
+CREATE INDEX IF NOT EXISTS idx_campaigns_active_created
+    ON campaigns (created_at DESC, id DESC) WHERE is_active = true;
+
+-- NewsRepository.findPublishedNews / findPublishedNewsSlice / findPublishedNewsAfter
+CREATE INDEX IF NOT EXISTS idx_news_published_date
+    ON news (published_date DESC, id DESC) WHERE is_published = true;
+
+-- FaqRepository.findActiveFaqs / findActiveFaqsSlice / findActiveFaqsAfter
+CREATE INDEX IF NOT EXISTS idx_faqs_active_created
+    ON faqs (created_at DESC, id DESC) WHERE is_active = true;
+
+-- FaqRepository.findActiveFaqsByCategory / findActiveFaqsByCategorySlice / findActiveFaqsByCategoryAfter
+CREATE INDEX IF NOT EXISTS idx_faqs_active_category_created
+    ON faqs (category, created_at DESC, id DESC) WHERE is_active = true;
+
+-- find*ById は主キー、findUpdatedBetween は V3 の updated_at インデックスを使う
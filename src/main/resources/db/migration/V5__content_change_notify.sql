@@ -0,0 +1,29 @@
+-- クラスタ全体のキャッシュ無効化用。
+-- campaigns / news / faqs の変更を "テーブル名:操作:id" 形式で content_changes チャネルへ NOTIFY する。
+-- 通知はコミット時に配信され、同一トランザクション内の同じペイロードは PostgreSQL が1件にまとめる。
+
+CREATE OR REPLACE FUNCTION notify_content_change() RETURNS trigger AS $$
+DECLARE
+    changed_id BIGINT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed_id := OLD.id;
+    ELSE
+        changed_id := NEW.id;
+    END IF;
+    PERFORM pg_notify('content_changes', TG_TABLE_NAME || ':' || TG_OP || ':' || changed_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS campaigns_notify ON campaigns;
+CREATE TRIGGER campaigns_notify AFTER INSERT OR UPDATE OR DELETE ON campaigns
+    FOR EACH ROW EXECUTE FUNCTION notify_content_change();
+
+DROP TRIGGER IF EXISTS news_notify ON news;
+CREATE TRIGGER news_notify AFTER INSERT OR UPDATE OR DELETE ON news
+    FOR EACH ROW EXECUTE FUNCTION notify_content_change();
+
+DROP TRIGGER IF EXISTS faqs_notify ON faqs;
+CREATE TRIGGER faqs_notify AFTER INSERT OR UPDATE OR DELETE ON faqs
+    FOR EACH ROW EXECUTE FUNCTION notify_content_change();
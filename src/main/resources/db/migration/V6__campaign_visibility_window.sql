@@ -0,0 +1,11 @@
+-- キャンペーンの公開期間（start_at 以上 end_at 未満）。NULL は期限なし。
+-- ニュースは既存の published_date が未来の場合にその日時まで非公開とする。
+
+ALTER TABLE campaigns ADD COLUMN IF NOT EXISTS start_at TIMESTAMP;
+ALTER TABLE campaigns ADD COLUMN IF NOT EXISTS end_at TIMESTAMP;
+
+-- 差分同期（findUpdatedBetween）で公開状態が切り替わった行を範囲検索する
+CREATE INDEX IF NOT EXISTS idx_campaigns_start_at ON campaigns (start_at) WHERE start_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_campaigns_end_at ON campaigns (end_at) WHERE end_at IS NOT NULL;
+-- V4 の idx_news_published_date は公開済みのみの部分インデックスのため、非公開の行も含めて別名で作る
+CREATE INDEX IF NOT EXISTS idx_news_published_date_all ON news (published_date);
@@ -0,0 +1,11 @@
+-- 墓標の deleted_at をトランザクション開始時刻（LOCALTIMESTAMP）ではなく削除した時点の時刻にする。
+-- 長いトランザクションで削除した行が、コミット前に進んだ差分同期のトークンより古い日時で記録されて取りこぼされるのを防ぐ。
+-- コミットまでの残りの遅れは content.changes.safety-lag で吸収する。
+
+CREATE OR REPLACE FUNCTION record_content_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO content_tombstones (content_type, content_id, deleted_at)
+    VALUES (TG_ARGV[0], OLD.id, clock_timestamp()::timestamp);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
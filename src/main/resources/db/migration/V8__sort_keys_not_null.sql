@@ -0,0 +1,30 @@
+-- 一覧の並び替えキー（ニュースは published_date、キャンペーン・FAQ は created_at）を NOT NULL にする。
+-- PostgreSQL の DESC は NULL を先頭に並べる一方、スナップショットとカーソルは NULL を最古として扱うため、
+-- NULL の行があると DB とスナップショットで順序が食い違い、カーソルのページングが途中で終わる。
+-- CMS などから直接登録された NULL の行は登録日時（なければ現在時刻）で補完し、
+-- 差分同期のクライアントにも補完後の値を配信するため updated_at も進める。
+
+UPDATE news
+SET published_date = COALESCE(created_at, LOCALTIMESTAMP),
+    created_at = COALESCE(created_at, LOCALTIMESTAMP),
+    updated_at = LOCALTIMESTAMP
+WHERE published_date IS NULL OR created_at IS NULL;
+
+UPDATE campaigns
+SET created_at = LOCALTIMESTAMP,
+    updated_at = LOCALTIMESTAMP
+WHERE created_at IS NULL;
+
+UPDATE faqs
+SET created_at = LOCALTIMESTAMP,
+    updated_at = LOCALTIMESTAMP
+WHERE created_at IS NULL;
+
+ALTER TABLE news ALTER COLUMN published_date SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE news ALTER COLUMN published_date SET NOT NULL;
+ALTER TABLE news ALTER COLUMN created_at SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE news ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE campaigns ALTER COLUMN created_at SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE campaigns ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE faqs ALTER COLUMN created_at SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE faqs ALTER COLUMN created_at SET NOT NULL;
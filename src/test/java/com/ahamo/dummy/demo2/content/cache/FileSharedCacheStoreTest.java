@@ -0,0 +1,69 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSharedCacheStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void put_ThenGet_ShouldRoundTrip() {
+        FileSharedCacheStore store = new FileSharedCacheStore(directory);
+
+        store.put("news", "getNews:1:20", new byte[] {1, 2, 3}, Duration.ofMinutes(1));
+
+        assertThat(store.get("news", "getNews:1:20")).containsExactly(1, 2, 3);
+        assertThat(new FileSharedCacheStore(directory).get("news", "getNews:1:20")).containsExactly(1, 2, 3);
+        assertThat(store.get("news", "getNews:2:20")).isNull();
+    }
+
+    @Test
+    void get_WhenExpired_ShouldReturnNull() {
+        FileSharedCacheStore store = new FileSharedCacheStore(directory);
+
+        store.put("news", "getNews:1:20", new byte[] {1}, Duration.ZERO);
+
+        assertThat(store.get("news", "getNews:1:20")).isNull();
+    }
+
+    @Test
+    void clear_ShouldRemoveOnlyThatCache() {
+        FileSharedCacheStore store = new FileSharedCacheStore(directory);
+        store.put("news", "getNews:1:20", new byte[] {1}, Duration.ofMinutes(1));
+        store.put("faqs", "getFaqs:1:20", new byte[] {2}, Duration.ofMinutes(1));
+
+        store.clear("news");
+        store.evict("faqs", "missing");
+
+        assertThat(store.get("news", "getNews:1:20")).isNull();
+        assertThat(store.get("faqs", "getFaqs:1:20")).containsExactly(2);
+    }
+
+    @Test
+    void sweepExpired_ShouldRemoveExpiredAndLeftoverTempFilesOnly() throws IOException {
+        FileSharedCacheStore store = new FileSharedCacheStore(directory);
+        store.put("faqs", "searchFaqs:料金:null:10", new byte[] {1}, Duration.ZERO);
+        store.put("faqs", "getFaqById:1", new byte[] {2}, Duration.ofMinutes(1));
+        Path leftover = Files.createFile(directory.resolve("faqs").resolve("abc.tmp"));
+        Files.setLastModifiedTime(leftover, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        assertThat(store.sweepExpired()).isEqualTo(2);
+
+        try (Stream<Path> files = Files.list(directory.resolve("faqs"))) {
+            assertThat(files).hasSize(1);
+        }
+        assertThat(store.get("faqs", "getFaqById:1")).containsExactly(2);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ahamo.dummy.demo2.content.cache;
+
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheTest {
+
+    private static final Duration FRESH = Duration.ofMinutes(1);
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    @Test
+    void get_OnMiss_ShouldLoadOnceAndCache() {
+        TwoTierCache cache = cache(FRESH, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = cache.get("getFaqs:1:20", () -> "v" + loads.incrementAndGet());
+        String second = cache.get("getFaqs:1:20", () -> "v" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenStale_ShouldReturnOldValueAndRefreshOnceInBackground() {
+        TwoTierCache cache = cache(Duration.ZERO, null);
+        cache.put("getFaqs:1:20", "old");
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = cache.get("getFaqs:1:20", () -> "new" + loads.incrementAndGet());
+        String second = cache.get("getFaqs:1:20", () -> "new" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("old");
+        assertThat(second).isEqualTo("old");
+        assertThat(refreshes).hasSize(1);
+        assertThat(loads).hasValue(0);
+
+        refreshes.remove(0).run();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("getFaqs:1:20", () -> "unused")).isEqualTo("new1");
+        assertThat(cache.getStaleHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void get_WhenClearedDuringRefresh_ShouldDiscardRefreshedValue() {
+        TwoTierCache cache = cache(Duration.ZERO, null);
+        cache.put("getFaqById:1", "old");
+        cache.get("getFaqById:1", () -> "refreshed");
+
+        cache.clear();
+        refreshes.remove(0).run();
+
+        assertThat(cache.get("getFaqById:1", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void get_WhenClearedDuringLoad_ShouldReturnValueWithoutCachingIt() {
+        SharedCacheStore shared = new InMemorySharedCacheStore();
+        TwoTierCache cache = cache(FRESH, shared);
+
+        String loaded = cache.get("getFaqById:1", () -> {
+            Thread clearing = new Thread(cache::clear);
+            clearing.start();
+            clearing.join(5_000);
+            return "loaded";
+        });
+
+        assertThat(loaded).isEqualTo("loaded");
+        assertThat(shared.get("faqs", "getFaqById:1")).isNull();
+        assertThat(cache.get("getFaqById:1", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void get_WhenRefreshFails_ShouldKeepStaleValue() {
+        TwoTierCache cache = cache(Duration.ZERO, null);
+        cache.put("getFaqById:1", "old");
+        cache.get("getFaqById:1", () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        refreshes.remove(0).run();
+
+        assertThat(cache.getRefreshFailureCount()).isEqualTo(1);
+        assertThat(cache.get("getFaqById:1", () -> "unused")).isEqualTo("old");
+    }
+
+    @Test
+    void get_WhenLoaderFails_ShouldWrapInValueRetrievalException() {
+        TwoTierCache cache = cache(FRESH, null);
+
+        assertThatThrownBy(() -> cache.get("getFaqsByCursor:null:bad:20", () -> {
+            throw new IllegalArgumentException("bad cursor");
+        })).isInstanceOf(ValueRetrievalException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(cache.get("getFaqsByCursor:null:bad:20", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void get_WithNullResult_ShouldCacheNull() {
+        TwoTierCache cache = cache(FRESH, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("getFaqById:404", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        Object second = cache.get("getFaqById:404", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_OnLocalMiss_ShouldReadValueWrittenByAnotherNode() {
+        SharedCacheStore shared = new InMemorySharedCacheStore();
+        TwoTierCache node1 = cache(FRESH, shared);
+        TwoTierCache node2 = cache(FRESH, shared);
+        CursorPage<FaqResponse> page = new CursorPage<>(List.of(faq("1")), "next");
+
+        node1.get("getFaqsByCursor:null:null:20", () -> page);
+        CursorPage<FaqResponse> fromShared = node2.get("getFaqsByCursor:null:null:20", () -> {
+            throw new AssertionError("should not load");
+        });
+
+        assertThat(fromShared).isEqualTo(page);
+        assertThat(node2.getSharedHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_NullResult_ShouldNotBeWrittenToSharedStore() {
+        SharedCacheStore shared = new InMemorySharedCacheStore();
+        TwoTierCache cache = cache(FRESH, shared);
+
+        cache.get("getFaqById:404", () -> null);
+
+        assertThat(shared.get("faqs", "getFaqById:404")).isNull();
+    }
+
+    @Test
+    void clear_ShouldAlsoClearSharedStore() {
+        SharedCacheStore shared = new InMemorySharedCacheStore();
+        TwoTierCache node1 = cache(FRESH, shared);
+        TwoTierCache node2 = cache(FRESH, shared);
+        node1.put("getFaqById:1", faq("1"));
+
+        node1.clear();
+
+        assertThat(node2.get("getFaqById:1")).isNull();
+    }
+
+    @Test
+    void put_ShouldEvictByWeightWhenOverMaxSize() {
+        TwoTierCache cache = new TwoTierCache("faqs", FRESH, FRESH, DataSize.ofKilobytes(4), null, refreshes::add);
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("getFaqById:" + i, "x".repeat(1024));
+        }
+        ((Cache<?, ?>) cache.getNativeCache()).cleanUp();
+
+        assertThat(cache.size()).isLessThan(4);
+        assertThat(cache.getEvictionCount()).isPositive();
+    }
+
+    private TwoTierCache cache(Duration ttl, SharedCacheStore shared) {
+        return new TwoTierCache("faqs", ttl, Duration.ofMinutes(5), DataSize.ofMegabytes(1), shared, refreshes::add);
+    }
+
+    private static FaqResponse faq(String id) {
+        return FaqResponse.builder()
+            .id(id)
+            .question("q" + id)
+            .answer("a".repeat(100))
+            .category("料金")
+            .isActive(true)
+            .build();
+    }
+}
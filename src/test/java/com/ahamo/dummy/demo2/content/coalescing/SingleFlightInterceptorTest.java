@@ -0,0 +1,156 @@
+package com.ahamo.dummy.demo2.content.coalescing;
+
+import com.ahamo.dummy.demo2.content.config.QueryCoalescingConfig;
+import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
+import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
+import com.ahamo.dummy.demo2.content.service.CampaignService;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightInterceptorTest {
+
+    private static final String WORKER = "single-flight-interceptor-test";
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private ContentSnapshotService contentSnapshotService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, task -> new Thread(task, WORKER));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getCampaignById_WithConcurrentCalls_ShouldQueryRepositoryOnce() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        CampaignService campaignService = transactionalAndCoalesced(singleFlight);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        when(campaignRepository.findActiveCampaignById(1L)).thenAnswer(invocation -> {
+            inTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            started.countDown();
+            release.await();
+            return campaign(1L);
+        });
+
+        Future<CampaignResponse> leader = executor.submit(() -> campaignService.getCampaignById(1L));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<CampaignResponse> follower = executor.submit(() -> campaignService.getCampaignById(1L));
+        waitForFollower();
+        release.countDown();
+
+        CampaignResponse response = leader.get(5, TimeUnit.SECONDS);
+        assertThat(response.getId()).isEqualTo("1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        verify(campaignRepository, times(1)).findActiveCampaignById(1L);
+        assertThat(inTransaction).isTrue();
+        assertThat(singleFlight.getSharedCount()).isEqualTo(1);
+    }
+
+    /**
+     * アプリケーションと同じく、トランザクションのアドバイスを持つプロキシに集約のアドバイスを追加する。
+     */
+    private CampaignService transactionalAndCoalesced(SingleFlight singleFlight) {
+        CampaignService target = new CampaignService(campaignRepository, contentSnapshotService, null,
+            new ContentMetrics(new SimpleMeterRegistry()));
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+            (TransactionManager) new NoOpTransactionManager(), new AnnotationTransactionAttributeSource()));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("repositorySingleFlight", singleFlight);
+        BeanPostProcessor postProcessor =
+            QueryCoalescingConfig.queryCoalescingPostProcessor(beanFactory.getBeanProvider(SingleFlight.class));
+        return (CampaignService) postProcessor.postProcessAfterInitialization(proxyFactory.getProxy(), "campaignService");
+    }
+
+    private static Campaign campaign(Long id) {
+        Campaign campaign = new Campaign();
+        campaign.setId(id);
+        campaign.setTitle("キャンペーン" + id);
+        campaign.setLink("https://example.com/campaign/" + id);
+        campaign.setIsActive(true);
+        return campaign;
+    }
+
+    private void waitForFollower() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && !followerWaiting()) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static boolean followerWaiting() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals(WORKER))
+            .filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+            .anyMatch(thread -> {
+                for (StackTraceElement frame : thread.getStackTrace()) {
+                    if (frame.getClassName().equals(SingleFlight.class.getName())) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+    }
+
+    /**
+     * 実際のトランザクションマネージャーと同じくトランザクションの開始を同期マネージャーに記録する。
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ahamo.dummy.demo2.content.coalescing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final String WORKER = "single-flight-test";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, task -> new Thread(task, WORKER));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_WithConcurrentSameKey_ShouldShareSingleCall() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> execute(singleFlight, "campaigns:1", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return List.of("a");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Object> follower = executor.submit(() -> execute(singleFlight, "campaigns:1", () -> {
+            calls.incrementAndGet();
+            return List.of("b");
+        }));
+        waitForFollower(singleFlight);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(List.of("a"));
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(List.of("a"));
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.getSharedCount()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_WithDifferentKeys_ShouldRunEach() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+
+        assertThat(singleFlight.execute("news:1", () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.execute("news:2", () -> "two")).isEqualTo("two");
+        assertThat(singleFlight.getSharedCount()).isZero();
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldPropagateAndReleaseKey() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> singleFlight.execute("faqs", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        assertThat(singleFlight.execute("faqs", () -> "retry")).isEqualTo("retry");
+    }
+
+    @Test
+    void execute_WhenLeaderExceedsTimeout_ShouldRunOwnCall() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> execute(singleFlight, "campaigns", () -> {
+            started.countDown();
+            release.await();
+            return "slow";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThat(singleFlight.execute("campaigns", () -> "own")).isEqualTo("own");
+            assertThat(singleFlight.getTimeoutCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private static Object execute(SingleFlight singleFlight, String key, SingleFlight.Call call) throws Exception {
+        try {
+            return singleFlight.execute(key, call);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 待機側が先行する呼び出しの future を取得したことは外から観測できないため、スレッドの待機状態で判断する。
+     */
+    private void waitForFollower(SingleFlight singleFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && singleFlight.getInFlightCount() == 1 && !followerWaiting()) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static boolean followerWaiting() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals(WORKER))
+            .filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+            .anyMatch(thread -> {
+                for (StackTraceElement frame : thread.getStackTrace()) {
+                    if (frame.getClassName().equals(SingleFlight.class.getName())) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+    }
+}
@@ -156,4 +156,29 @@ class CampaignControllerTest {
                 .andExpect(jsonPath("$.page").value(2))
                 .andExpect(jsonPath("$.limit").value(5));
     }
+
+    @Test
+    void getCampaigns_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        CampaignResponse campaign = new CampaignResponse(
+            "1",
+            "条件付きキャンペーン",
+            "ETag検証用のキャンペーン",
+            "https://example.com/etag.jpg",
+            "https://example.com/etag",
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 2, 0, 0),
+            true
+        );
+
+        when(campaignService.getCampaigns(1, 10)).thenReturn(new PageImpl<>(List.of(campaign)));
+
+        String etag = mockMvc.perform(get("/campaigns"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/campaigns").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
 }
@@ -5,6 +5,7 @@ import com.ahamo.dummy.demo2.content.dto.ContactRequest;
 import com.ahamo.dummy.demo2.content.dto.ContactResponse;
 import com.ahamo.dummy.demo2.content.dto.ContactCategoryResponse;
 import com.ahamo.dummy.demo2.content.entity.Contact;
+import com.ahamo.dummy.demo2.content.service.ContactQueueFullException;
 import com.ahamo.dummy.demo2.content.service.ContactService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -65,6 +67,26 @@ class ContactControllerTest {
                 .andExpect(jsonPath("$.estimatedResponseTime").value("1-2営業日以内"));
     }
 
+    @Test
+    void submitContact_QueueFull_ShouldReturnServiceUnavailable() throws Exception {
+        ContactRequest request = new ContactRequest(
+            "田中太郎",
+            "tanaka@example.com",
+            "090-1234-5678",
+            Contact.ContactCategory.PLAN,
+            "お問い合わせ内容です"
+        );
+
+        when(contactService.submitContact(any(ContactRequest.class)))
+            .thenThrow(new ContactQueueFullException(Duration.ofSeconds(2)));
+
+        mockMvc.perform(post("/contact")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
     @Test
     void submitContact_MissingName_ShouldReturnBadRequest() throws Exception {
         ContactRequest request = new ContactRequest(
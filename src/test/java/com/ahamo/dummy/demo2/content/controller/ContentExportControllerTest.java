@@ -0,0 +1,105 @@
+package com.ahamo.dummy.demo2.content.controller;
+
+import com.ahamo.dummy.demo2.content.config.SecurityConfig;
+import com.ahamo.dummy.demo2.content.service.ContentExport;
+import com.ahamo.dummy.demo2.content.service.ContentExportBusyException;
+import com.ahamo.dummy.demo2.content.service.ContentExportService;
+import com.ahamo.dummy.demo2.content.service.ContentImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ContentExportController.class)
+@Import(SecurityConfig.class)
+@ActiveProfiles("test")
+class ContentExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ContentExportService contentExportService;
+
+    @Test
+    void exportContent_WithoutCredentials_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/admin/export/faqs"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContent_ShouldStreamNdjson() throws Exception {
+        CompletableFuture<Void> dispatched = new CompletableFuture<>();
+        ContentExport export = (out, onStarted) -> {
+            dispatched.join();
+            onStarted.accept(LocalDateTime.of(2024, 4, 1, 9, 30));
+            out.write("{\"id\":\"1\"}\n{\"id\":\"2\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 2;
+        };
+        when(contentExportService.open(eq(ContentImportService.Target.FAQS), isNull())).thenReturn(export);
+
+        MvcResult result = mockMvc.perform(get("/admin/export/faqs"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // ストリーミングは別スレッドで書き出すため、最初のディスパッチが終わってから書き出させ、完了を待つ
+        dispatched.complete(null);
+        result.getAsyncResult(5_000);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string(ContentExportController.EXPORT_STARTED_AT_HEADER, "2024-04-01T09:30"))
+                .andExpect(content().string("{\"id\":\"1\"}\n{\"id\":\"2\"}\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContent_WithSince_ShouldPassTimestamp() throws Exception {
+        CompletableFuture<Void> dispatched = new CompletableFuture<>();
+        when(contentExportService.open(ContentImportService.Target.NEWS, LocalDateTime.of(2024, 4, 1, 9, 30)))
+            .thenReturn((out, onStarted) -> {
+                dispatched.join();
+                return 0;
+            });
+
+        MvcResult result = mockMvc.perform(get("/admin/export/news").param("since", "2024-04-01T09:30:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        dispatched.complete(null);
+        result.getAsyncResult(5_000);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContent_UnknownTarget_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/admin/export/contacts"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContent_WhenBusy_ShouldReturnTooManyRequests() throws Exception {
+        when(contentExportService.open(any(), any())).thenThrow(new ContentExportBusyException());
+
+        mockMvc.perform(get("/admin/export/campaigns"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,93 @@
+package com.ahamo.dummy.demo2.content.controller;
+
+import com.ahamo.dummy.demo2.content.config.SecurityConfig;
+import com.ahamo.dummy.demo2.content.dto.ImportReport;
+import com.ahamo.dummy.demo2.content.service.ContentImportBusyException;
+import com.ahamo.dummy.demo2.content.service.ContentImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ContentImportController.class)
+@Import(SecurityConfig.class)
+@ActiveProfiles("test")
+class ContentImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ContentImportService contentImportService;
+
+    @Test
+    void importContent_WithoutCredentials_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/admin/import/faqs")
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void importContent_WithoutAdminRole_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(post("/admin/import/faqs")
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importContent_Csv_ShouldReturnReport() throws Exception {
+        ImportReport report = new ImportReport();
+        report.setTarget("campaigns");
+        report.setProcessed(2);
+        report.setImported(2);
+
+        when(contentImportService.importContent(
+                eq(ContentImportService.Target.CAMPAIGNS), eq(ContentImportService.Format.CSV), any(InputStream.class)))
+            .thenReturn(report);
+
+        mockMvc.perform(post("/admin/import/campaigns")
+                        .contentType("text/csv")
+                        .content("title,link\nA,https://example.com/a\nB,https://example.com/b\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.target").value("campaigns"))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors").isArray());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importContent_UnknownTarget_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/admin/import/contacts")
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importContent_WhenBusy_ShouldReturnTooManyRequests() throws Exception {
+        when(contentImportService.importContent(any(), any(), any(InputStream.class)))
+            .thenThrow(new ContentImportBusyException());
+
+        mockMvc.perform(post("/admin/import/news")
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -20,6 +22,9 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -178,4 +183,127 @@ class FaqControllerTest {
                 .andExpect(jsonPath("$.page").value(2))
                 .andExpect(jsonPath("$.limit").value(5));
     }
+
+    @Test
+    void getFaqById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        FaqResponse faq = FaqResponse.builder()
+            .id("1")
+            .question("条件付きリクエストFAQ")
+            .answer("条件付きリクエストの回答")
+            .category("サポート")
+            .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .updatedAt(LocalDateTime.of(2024, 2, 1, 12, 30))
+            .isActive(true)
+            .build();
+
+        when(faqService.getFaqById(1L)).thenReturn(faq);
+
+        String etag = mockMvc.perform(get("/faq/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/faq/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getFaqs_WhenPageContentChanges_ShouldChangeETag() throws Exception {
+        FaqResponse faq = FaqResponse.builder()
+            .id("1")
+            .question("更新前FAQ")
+            .answer("更新前の回答")
+            .category("サポート")
+            .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .isActive(true)
+            .build();
+        FaqResponse updated = FaqResponse.builder()
+            .id("1")
+            .question("更新後FAQ")
+            .answer("更新後の回答")
+            .category("サポート")
+            .updatedAt(LocalDateTime.of(2024, 1, 2, 0, 0))
+            .isActive(true)
+            .build();
+
+        when(faqService.getFaqs(1, 10))
+            .thenReturn(new PageImpl<>(List.of(faq)))
+            .thenReturn(new PageImpl<>(List.of(updated)));
+
+        String etag = mockMvc.perform(get("/faq"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/faq").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.faqs[0].question").value("更新後FAQ"));
+    }
+
+    @Test
+    void getFaqs_WithoutTotal_ShouldReturnHasNextInsteadOfTotal() throws Exception {
+        FaqResponse faq = FaqResponse.builder()
+            .id("3")
+            .question("件数なしFAQ")
+            .answer("件数なしFAQ回答")
+            .category("料金プラン")
+            .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .isActive(true)
+            .build();
+
+        when(faqService.getFaqSlice(isNull(), anyInt(), anyInt()))
+            .thenReturn(new SliceImpl<>(List.of(faq), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/faq")
+                        .param("limit", "1")
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.faqs[0].id").value("3"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.total").doesNotExist())
+                .andExpect(header().exists("ETag"));
+
+        verify(faqService, never()).getFaqs(anyInt(), anyInt());
+    }
+
+    @Test
+    void searchFaqs_ShouldReturnRankedFaqs() throws Exception {
+        FaqResponse faq = FaqResponse.builder()
+            .id("4")
+            .question("海外で使えますか")
+            .answer("追加料金なしで利用できます")
+            .category("通信・エリア")
+            .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .isActive(true)
+            .build();
+
+        when(faqService.searchFaqs("海外", "network", 10)).thenReturn(List.of(faq));
+
+        mockMvc.perform(get("/faq/search")
+                        .param("q", "海外")
+                        .param("category", "network"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.faqs[0].id").value("4"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.query").value("海外"))
+                .andExpect(jsonPath("$.category").value("network"));
+    }
+
+    @Test
+    void searchFaqs_LimitAboveMaximum_ShouldBeCapped() throws Exception {
+        when(faqService.searchFaqs("海外", null, 100)).thenReturn(List.of());
+
+        mockMvc.perform(get("/faq/search")
+                        .param("q", "海外")
+                        .param("limit", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").value(100));
+    }
+
+    @Test
+    void searchFaqs_BlankQuery_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/faq/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
 }
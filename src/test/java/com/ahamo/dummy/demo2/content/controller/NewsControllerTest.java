@@ -1,7 +1,9 @@
 package com.ahamo.dummy.demo2.content.controller;
 
 import com.ahamo.dummy.demo2.content.config.SecurityConfig;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsSummary;
 import com.ahamo.dummy.demo2.content.service.NewsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,9 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -160,4 +165,88 @@ class NewsControllerTest {
                 .andExpect(jsonPath("$.page").value(2))
                 .andExpect(jsonPath("$.limit").value(5));
     }
+
+    @Test
+    void getNewsById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        NewsResponse news = new NewsResponse(
+            "1",
+            "条件付きニュース",
+            "ETag検証用のニュース",
+            "https://example.com/etag-news",
+            "2024-01-01",
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 3, 0, 0),
+            true
+        );
+
+        when(newsService.getNewsById(1L)).thenReturn(news);
+
+        String etag = mockMvc.perform(get("/news/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/news/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getNews_WithCursor_ShouldReturnNextCursorWithoutTotal() throws Exception {
+        NewsResponse news = new NewsResponse(
+            "7",
+            "カーソルニュース",
+            "カーソルページングのニュース",
+            "https://example.com/cursor-news",
+            "2024-01-01",
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 1, 0, 0),
+            true
+        );
+
+        when(newsService.getNewsByCursor("", 1)).thenReturn(new CursorPage<>(List.of(news), "next-token"));
+
+        mockMvc.perform(get("/news")
+                        .param("cursor", "")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.news[0].id").value("7"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.limit").value(1))
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void getNews_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        when(newsService.getNewsByCursor(anyString(), anyInt())).thenThrow(new IllegalArgumentException("無効なカーソルです"));
+
+        mockMvc.perform(get("/news").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getNews_WithSummary_ShouldOmitContent() throws Exception {
+        NewsSummary summary = new NewsSummary(
+            3L,
+            "概要ニュース",
+            "https://example.com/summary-news",
+            LocalDateTime.of(2024, 6, 1, 0, 0),
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            true
+        );
+
+        when(newsService.getNewsSummaries(anyInt(), anyInt())).thenReturn(new PageImpl<>(List.of(summary)));
+
+        mockMvc.perform(get("/news")
+                        .param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.news[0].id").value("3"))
+                .andExpect(jsonPath("$.news[0].date").value("2024-06-01"))
+                .andExpect(jsonPath("$.news[0].content").doesNotExist())
+                .andExpect(jsonPath("$.total").value(1));
+
+        verify(newsService, never()).getNews(anyInt(), anyInt());
+    }
 }
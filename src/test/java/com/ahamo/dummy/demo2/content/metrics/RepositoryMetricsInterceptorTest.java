@@ -0,0 +1,87 @@
+package com.ahamo.dummy.demo2.content.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryMetricsInterceptorTest {
+
+    interface BaseRepository {
+        List<String> findAll();
+    }
+
+    interface SampleRepository extends BaseRepository {
+        List<String> findPublished(int limit);
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+
+        @Override
+        public List<String> findAll() {
+            return List.of("a", "b");
+        }
+
+        @Override
+        public List<String> findPublished(int limit) {
+            return List.of("a", "b").subList(0, limit);
+        }
+    }
+
+    private SimpleMeterRegistry registry;
+
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ProxyFactory proxyFactory = new ProxyFactory(new SampleRepositoryImpl());
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(new ContentMetrics(registry), SampleRepository.class));
+        repository = (SampleRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    void constructor_ShouldPreRegisterTimerForDeclaredMethods() {
+        Timer timer = registry.find(ContentMetrics.REPOSITORY_QUERY)
+            .tag("repository", "SampleRepository")
+            .tag("method", "findPublished")
+            .timer();
+
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isZero();
+    }
+
+    @Test
+    void invoke_ShouldRecordDeclaredMethodAndReturnResult() {
+        List<String> result = repository.findPublished(1);
+
+        Timer timer = registry.get(ContentMetrics.REPOSITORY_QUERY)
+            .tag("method", "findPublished")
+            .timer();
+        assertThat(result).containsExactly("a");
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void invoke_WithInheritedMethod_ShouldPassThroughWithoutTimer() {
+        List<String> result = repository.findAll();
+
+        assertThat(result).containsExactly("a", "b");
+        assertThat(registry.find(ContentMetrics.REPOSITORY_QUERY).tag("method", "findAll").timer()).isNull();
+    }
+
+    @Test
+    void invoke_WhenQueryFails_ShouldStillRecord() {
+        assertThatThrownBy(() -> repository.findPublished(5)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(registry.get(ContentMetrics.REPOSITORY_QUERY).tag("method", "findPublished").timer().count())
+            .isEqualTo(1);
+    }
+}
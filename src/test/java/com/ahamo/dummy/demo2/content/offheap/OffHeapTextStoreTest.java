@@ -0,0 +1,66 @@
+package com.ahamo.dummy.demo2.content.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapTextStoreTest {
+
+    @Test
+    void put_ThenGet_ShouldRoundTripUtf8() {
+        OffHeapTextStore store = new OffHeapTextStore();
+
+        long first = store.put("料金プランの変更は月に1回までです。");
+        long second = store.put("");
+        long third = store.put("eSIM 🚀");
+
+        assertThat(store.get(first)).isEqualTo("料金プランの変更は月に1回までです。");
+        assertThat(store.get(second)).isEmpty();
+        assertThat(store.get(third)).isEqualTo("eSIM 🚀");
+    }
+
+    @Test
+    void put_WithNull_ShouldReturnNoneHandle() {
+        OffHeapTextStore store = new OffHeapTextStore();
+
+        long handle = store.put(null);
+
+        assertThat(handle).isEqualTo(OffHeapTextStore.NONE);
+        assertThat(store.get(handle)).isNull();
+        assertThat(new OffHeapTextStore().copy(store, handle)).isEqualTo(OffHeapTextStore.NONE);
+    }
+
+    @Test
+    void put_BeyondChunkSize_ShouldAllocateNewChunks() {
+        OffHeapTextStore store = new OffHeapTextStore();
+        String small = "a".repeat(40 * 1024);
+        String large = "b".repeat(200 * 1024);
+
+        long first = store.put(small);
+        long second = store.put(small);
+        long third = store.put(large);
+
+        assertThat(store.get(first)).isEqualTo(small);
+        assertThat(store.get(second)).isEqualTo(small);
+        assertThat(store.get(third)).isEqualTo(large);
+        assertThat(second >>> 32).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(3L * Integer.BYTES + 2L * small.length() + large.length());
+        assertThat(store.capacity()).isGreaterThanOrEqualTo(store.size());
+    }
+
+    @Test
+    void copy_ShouldTransferEncodedBodyFromAnotherStore() {
+        OffHeapTextStore source = new OffHeapTextStore();
+        source.put("a".repeat(100));
+        long handle = source.put("回答");
+        OffHeapTextStore target = new OffHeapTextStore();
+
+        long copied = target.copy(source, handle);
+
+        assertThat(target.get(copied)).isEqualTo("回答");
+        assertThat(copied).isZero();
+        assertThat(target.size()).isEqualTo(Integer.BYTES + "回答".getBytes(StandardCharsets.UTF_8).length);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ahamo.dummy.demo2.content.reactive;
+
+import com.ahamo.dummy.demo2.content.config.ReactiveReadConfig;
+import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.service.CampaignService;
+import com.ahamo.dummy.demo2.content.service.FaqService;
+import com.ahamo.dummy.demo2.content.service.NewsService;
+import com.ahamo.dummy.demo2.content.service.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentReadHandlerTest {
+
+    @Mock
+    private ReactiveCampaignRepository campaignRepository;
+
+    @Mock
+    private ReactiveNewsRepository newsRepository;
+
+    @Mock
+    private ReactiveFaqRepository faqRepository;
+
+    @Mock
+    private CampaignService campaignService;
+
+    @Mock
+    private NewsService newsService;
+
+    @Mock
+    private FaqService faqService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        ContentReadHandler handler = new ContentReadHandler(
+            campaignRepository, newsRepository, faqRepository, campaignService, newsService, faqService);
+        webTestClient = WebTestClient.bindToRouterFunction(new ReactiveReadConfig().contentReadRoutes(handler)).build();
+    }
+
+    @Test
+    void campaigns_WithPage_ShouldStreamJsonArrayFromOffset() {
+        Campaign campaign = new Campaign();
+        campaign.setId(1L);
+        when(campaignRepository.findActiveCampaigns(10L, 5)).thenReturn(Flux.just(campaign));
+        when(campaignService.convertToResponse(any(Campaign.class)))
+            .thenReturn(new CampaignResponse("1", "キャンペーン", null, null, "https://example.com", null, null, true));
+
+        webTestClient.get().uri("/campaigns?page=3&limit=5")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(1)
+            .jsonPath("$[0].title").isEqualTo("キャンペーン");
+    }
+
+    @Test
+    void faqs_WithCategoryAndCursor_ShouldSeekWithinCategory() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = new PageCursor(createdAt, 7L).encode();
+        Faq faq = new Faq();
+        faq.setId(6L);
+        when(faqRepository.findActiveFaqsByCategoryAfter(Faq.FaqCategory.PLAN, createdAt, 7L, 10))
+            .thenReturn(Flux.just(faq));
+        when(faqService.convertToResponse(any(Faq.class)))
+            .thenReturn(FaqResponse.builder().id("6").question("質問").build());
+
+        webTestClient.get().uri("/faq?category=plan&cursor=" + cursor)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].id").isEqualTo("6");
+
+        verify(faqRepository).findActiveFaqsByCategoryAfter(Faq.FaqCategory.PLAN, createdAt, 7L, 10);
+    }
+
+    @Test
+    void faqs_WithNdjsonAccept_ShouldStreamNdjson() {
+        when(faqRepository.findActiveFaqs(0L, 10)).thenReturn(Flux.empty());
+
+        webTestClient.get().uri("/faq")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON);
+    }
+
+    @Test
+    void faqs_WithUnknownCategory_ShouldReturnBadRequest() {
+        webTestClient.get().uri("/faq?category=unknown")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        verifyNoInteractions(faqRepository);
+    }
+
+    @Test
+    void news_WithInvalidLimit_ShouldReturnBadRequest() {
+        webTestClient.get().uri("/news?limit=0")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        verifyNoInteractions(newsRepository);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ahamo.dummy.demo2.content.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate が発行した SQL を記録する。{@link RepositoryQueryPlanTest} で実際のクエリの実行計画を確認するために使う。
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
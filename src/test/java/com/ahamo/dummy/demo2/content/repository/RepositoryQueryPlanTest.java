@@ -0,0 +1,249 @@
+package com.ahamo.dummy.demo2.content.repository;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway のマイグレーションを適用した PostgreSQL 上で、各リポジトリの {@code @Query} が
+ * 発行する SQL をそのまま {@code EXPLAIN} し、シーケンシャルスキャンやソートにならないことを確認する。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime CURSOR_TIME = LocalDateTime.of(2024, 1, 20, 0, 0);
+    private static final long CURSOR_ID = 25_000L;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+            CapturingStatementInspector.class::getName);
+    }
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private FaqRepository faqRepository;
+
+    @Autowired
+    private ContentTombstoneRepository contentTombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static boolean seeded;
+
+    @Test
+    void campaignQueries_ShouldUseIndexScans() {
+        seed();
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaigns(page())), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignResponses(page())), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignResponseSlice(page())), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignResponsesAfter(CURSOR_TIME, CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignSummaries(page())), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignSummarySlice(page())), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignSummariesAfter(CURSOR_TIME, CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> campaignRepository.findActiveCampaignById(CURSOR_ID), CURSOR_ID), false);
+        assertIndexOnly(capture(() -> campaignRepository.findUpdatedBetween(CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID), false);
+    }
+
+    @Test
+    void newsQueries_ShouldUseIndexScans() {
+        seed();
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNews(page())), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsResponses(page())), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsResponseSlice(page())), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsResponsesAfter(CURSOR_TIME, CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsSummaries(page())), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsSummarySlice(page())), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsSummariesAfter(CURSOR_TIME, CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> newsRepository.findPublishedNewsById(CURSOR_ID), CURSOR_ID), false);
+        assertIndexOnly(capture(() -> newsRepository.findUpdatedBetween(CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID), false);
+    }
+
+    @Test
+    void newsPublishedDateIndex_ShouldCoverUnpublishedRows() {
+        seed();
+        String definition = jdbcTemplate.queryForObject(
+            "SELECT indexdef FROM pg_indexes WHERE indexname = 'idx_news_published_date_all'", String.class);
+        assertThat(definition).contains("(published_date)").doesNotContain("WHERE");
+
+        String plan = explain(new CapturedQuery(
+            "SELECT id FROM news WHERE is_published = false AND published_date > ? AND published_date <= ?",
+            List.of(CURSOR_TIME, CURSOR_TIME.plusHours(1))));
+        assertThat(plan).contains("idx_news_published_date_all").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void faqQueries_ShouldUseIndexScans() {
+        seed();
+        String category = Faq.FaqCategory.BILLING.name();
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqs(page())), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqResponses(page())), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqResponsesByCategory(Faq.FaqCategory.BILLING, page()),
+            category), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqResponseSlice(page())), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqResponseSliceByCategory(Faq.FaqCategory.BILLING, page()),
+            category), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqResponsesAfter(CURSOR_TIME, CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqResponsesByCategoryAfter(
+                Faq.FaqCategory.BILLING, CURSOR_TIME, CURSOR_ID, page()),
+            category, CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqSummaries(page())), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqSummariesByCategory(Faq.FaqCategory.BILLING, page()),
+            category), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqSummarySlice(page())), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqSummarySliceByCategory(Faq.FaqCategory.BILLING, page()),
+            category), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqSummariesAfter(CURSOR_TIME, CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqSummariesByCategoryAfter(
+                Faq.FaqCategory.BILLING, CURSOR_TIME, CURSOR_ID, page()),
+            category, CURSOR_TIME, CURSOR_TIME, CURSOR_ID), true);
+        assertIndexOnly(capture(() -> faqRepository.findActiveFaqById(CURSOR_ID), CURSOR_ID), false);
+        assertIndexOnly(capture(() -> faqRepository.findUpdatedBetween(CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID), false);
+    }
+
+    @Test
+    void tombstoneQueries_ShouldUseIndexScans() {
+        seed();
+        assertIndexOnly(capture(() -> contentTombstoneRepository.findDeletedBetween(CURSOR_TIME, CURSOR_TIME.plusHours(1),
+                CURSOR_ID, page()),
+            CURSOR_TIME, CURSOR_TIME.plusHours(1), CURSOR_ID), false);
+    }
+
+    private void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.execute("INSERT INTO campaigns (id, title, description, link, created_at, updated_at, is_active) "
+            + "SELECT g, 'campaign ' || g, repeat('x', 200), 'https://example.com/c/' || g, "
+            + "TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', "
+            + "g % 10 <> 0 FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("INSERT INTO news (id, title, content, link, published_date, created_at, updated_at, is_published) "
+            + "SELECT g, 'news ' || g, repeat('x', 500), 'https://example.com/n/' || g, "
+            + "TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', "
+            + "TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', g % 10 <> 0 FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("INSERT INTO faqs (id, question, answer, category, created_at, updated_at, is_active) "
+            + "SELECT g, 'question ' || g, repeat('x', 300), "
+            + "(ARRAY['PLAN','DEVICE','APPLICATION','SUPPORT','BILLING','NETWORK','OTHER'])[1 + g % 7], "
+            + "TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute', "
+            + "g % 10 <> 0 FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("INSERT INTO content_tombstones (content_type, content_id, deleted_at) "
+            + "SELECT 'FAQ', g, TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute' FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+        seeded = true;
+    }
+
+    private static Pageable page() {
+        return PageRequest.of(0, PAGE_SIZE);
+    }
+
+    /**
+     * リポジトリ呼び出しで最初に発行された SELECT と、そのバインド値（ページサイズを除く）を返す。
+     */
+    private static CapturedQuery capture(Runnable call, Object... parameters) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        call.run();
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+            .filter(statement -> statement.trim().toLowerCase().startsWith("select"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("SELECT が発行されていません"));
+        return new CapturedQuery(sql, List.of(parameters));
+    }
+
+    private void assertIndexOnly(CapturedQuery query, boolean ordered) {
+        String plan = explain(query);
+        assertThat(plan).as(query.sql()).doesNotContain("Seq Scan").containsPattern("Index (Only )?Scan");
+        if (ordered) {
+            assertThat(plan).as(query.sql()).doesNotContain("Sort");
+        }
+    }
+
+    /**
+     * {@code ?} を {@code $n} に置き換えて PREPARE し、実際の値で {@code EXPLAIN EXECUTE} する。
+     * 末尾にページサイズのプレースホルダーがある場合はその値も補う。
+     */
+    private String explain(CapturedQuery query) {
+        StringBuilder prepared = new StringBuilder();
+        int placeholders = 0;
+        for (char c : query.sql().toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++placeholders);
+            } else {
+                prepared.append(c);
+            }
+        }
+        List<String> values = new ArrayList<>();
+        for (Object parameter : query.parameters()) {
+            values.add(parameter instanceof Number ? parameter.toString() : "'" + parameter + "'");
+        }
+        if (placeholders == values.size() + 1) {
+            values.add(Integer.toString(PAGE_SIZE));
+        }
+        assertThat(placeholders).as("プレースホルダー数: " + query.sql()).isEqualTo(values.size());
+
+        String arguments = String.join(", ", values);
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DEALLOCATE ALL");
+                statement.execute("PREPARE plan_check AS " + prepared);
+                StringBuilder plan = new StringBuilder();
+                String explain = "EXPLAIN EXECUTE plan_check" + (values.isEmpty() ? "" : "(" + arguments + ")");
+                try (ResultSet rs = statement.executeQuery(explain)) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private record CapturedQuery(String sql, List<Object> parameters) {
+    }
+}
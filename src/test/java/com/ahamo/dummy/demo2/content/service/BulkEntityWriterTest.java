@@ -0,0 +1,48 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BulkEntityWriterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    private BulkEntityWriter bulkEntityWriter;
+
+    @BeforeEach
+    void setUp() {
+        bulkEntityWriter = new BulkEntityWriter(2);
+        ReflectionTestUtils.setField(bulkEntityWriter, "entityManager", entityManager);
+    }
+
+    @Test
+    void persistAll_ShouldFlushAndClearEveryBatch() {
+        List<Faq> faqs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            faqs.add(new Faq());
+        }
+
+        int count = bulkEntityWriter.persistAll(faqs);
+
+        assertThat(count).isEqualTo(5);
+        verify(entityManager, times(5)).persist(any(Faq.class));
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+}
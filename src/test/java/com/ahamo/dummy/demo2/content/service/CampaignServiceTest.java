@@ -1,23 +1,32 @@
 package com.ahamo.dummy.demo2.content.service;
 
+import com.ahamo.dummy.demo2.content.config.CountCacheProperties;
 import com.ahamo.dummy.demo2.content.entity.Campaign;
 import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
 import com.ahamo.dummy.demo2.content.dto.CampaignResponse;
+import com.ahamo.dummy.demo2.content.dto.CampaignSummary;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +35,15 @@ class CampaignServiceTest {
     @Mock
     private CampaignRepository campaignRepository;
 
+    @Mock
+    private ContentSnapshotService contentSnapshotService;
+
+    @Spy
+    private ContentCountCache contentCountCache = new ContentCountCache(new CountCacheProperties());
+
+    @Spy
+    private ContentMetrics contentMetrics = new ContentMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private CampaignService campaignService;
 
@@ -41,8 +59,8 @@ class CampaignServiceTest {
         campaign.setUpdatedAt(LocalDateTime.now());
         campaign.setIsActive(true);
 
-        Page<Campaign> campaignPage = new PageImpl<>(List.of(campaign));
-        when(campaignRepository.findActiveCampaigns(any(Pageable.class))).thenReturn(campaignPage);
+        Page<CampaignResponse> campaignPage = new PageImpl<>(List.of(campaignService.convertToResponse(campaign)));
+        when(campaignRepository.findActiveCampaignResponses(any(Pageable.class))).thenReturn(campaignPage);
 
         Page<CampaignResponse> result = campaignService.getCampaigns(1, 10);
 
@@ -98,8 +116,8 @@ class CampaignServiceTest {
         campaign.setUpdatedAt(LocalDateTime.now());
         campaign.setIsActive(true);
 
-        Page<Campaign> campaignPage = new PageImpl<>(List.of(campaign));
-        when(campaignRepository.findActiveCampaigns(PageRequest.of(1, 5))).thenReturn(campaignPage);
+        Page<CampaignResponse> campaignPage = new PageImpl<>(List.of(campaignService.convertToResponse(campaign)));
+        when(campaignRepository.findActiveCampaignResponses(PageRequest.of(1, 5))).thenReturn(campaignPage);
 
         Page<CampaignResponse> result = campaignService.getCampaigns(2, 5);
 
@@ -107,4 +125,78 @@ class CampaignServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("ページネーションテスト");
     }
+
+    @Test
+    void getCampaigns_WithSnapshot_ShouldServeFromMemory() {
+        Campaign campaign = new Campaign();
+        campaign.setId(3L);
+        campaign.setTitle("スナップショットキャンペーン");
+        campaign.setDescription("メモリから返却されるキャンペーン");
+        campaign.setLink("https://example.com/snapshot");
+        campaign.setCreatedAt(LocalDateTime.now());
+        campaign.setUpdatedAt(LocalDateTime.now());
+        campaign.setIsActive(true);
+
+        ContentSnapshot snapshot = new ContentSnapshot(List.of(campaign), List.of(), List.of(), LocalDateTime.now());
+        when(contentSnapshotService.getSnapshot()).thenReturn(snapshot);
+
+        Page<CampaignResponse> page = campaignService.getCampaigns(1, 10);
+        CampaignResponse byId = campaignService.getCampaignById(3L);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0).getTitle()).isEqualTo("スナップショットキャンペーン");
+        assertThat(byId.getId()).isEqualTo("3");
+        verifyNoInteractions(campaignRepository);
+    }
+
+    @Test
+    void getCampaignsByCursor_WithSnapshot_ShouldPageThroughAllCampaigns() {
+        Campaign newer = new Campaign();
+        newer.setId(2L);
+        newer.setTitle("新しいキャンペーン");
+        newer.setLink("https://example.com/newer");
+        newer.setCreatedAt(LocalDateTime.of(2024, 2, 1, 0, 0));
+        newer.setUpdatedAt(LocalDateTime.of(2024, 2, 1, 0, 0));
+        newer.setIsActive(true);
+
+        Campaign older = new Campaign();
+        older.setId(1L);
+        older.setTitle("古いキャンペーン");
+        older.setLink("https://example.com/older");
+        older.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        older.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        older.setIsActive(true);
+
+        ContentSnapshot snapshot = new ContentSnapshot(List.of(older, newer), List.of(), List.of(), LocalDateTime.now());
+        when(contentSnapshotService.getSnapshot()).thenReturn(snapshot);
+
+        CursorPage<CampaignResponse> first = campaignService.getCampaignsByCursor(null, 1);
+        CursorPage<CampaignResponse> second = campaignService.getCampaignsByCursor(first.getNextCursor(), 1);
+
+        assertThat(first.getContent()).extracting(CampaignResponse::getId).containsExactly("2");
+        assertThat(second.getContent()).extracting(CampaignResponse::getId).containsExactly("1");
+        assertThat(second.getNextCursor()).isNull();
+        verifyNoInteractions(campaignRepository);
+    }
+
+    @Test
+    void getCampaignSummarySlice_ShouldUseSummaryProjection() {
+        Campaign campaign = new Campaign();
+        campaign.setId(7L);
+        campaign.setTitle("概要キャンペーン");
+        campaign.setDescription("一覧では返さない本文");
+        campaign.setLink("https://example.com/summary");
+        campaign.setCreatedAt(LocalDateTime.of(2024, 3, 1, 0, 0));
+        campaign.setUpdatedAt(LocalDateTime.of(2024, 3, 1, 0, 0));
+        campaign.setIsActive(true);
+
+        when(campaignRepository.findActiveCampaignSummarySlice(PageRequest.of(0, 10)))
+            .thenReturn(new SliceImpl<>(List.of(campaignService.convertToSummary(campaign))));
+
+        Slice<CampaignSummary> result = campaignService.getCampaignSummarySlice(1, 10);
+
+        assertThat(result.getContent()).extracting(CampaignSummary::getId).containsExactly("7");
+        assertThat(result.getContent().get(0).getTitle()).isEqualTo("概要キャンペーン");
+    }
 }
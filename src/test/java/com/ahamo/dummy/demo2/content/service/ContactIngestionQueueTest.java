@@ -0,0 +1,137 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContactIngestionProperties;
+import com.ahamo.dummy.demo2.content.entity.Contact;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContactIngestionQueueTest {
+
+    @Mock
+    private ContactBatchWriter contactBatchWriter;
+
+    @Mock
+    private ContactJournal contactJournal;
+
+    private ContactIngestionProperties properties;
+
+    private ContactIngestionQueue contactIngestionQueue;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ContactIngestionProperties();
+        properties.setMode(ContactIngestionProperties.Mode.ASYNC);
+        properties.setQueueCapacity(2);
+        properties.setBatchSize(10);
+        properties.setLinger(Duration.ofMillis(20));
+        properties.setRetryAfter(Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactIngestionQueue.stop();
+    }
+
+    @Test
+    void enqueue_WhenFull_ShouldThrowWithRetryAfter() {
+        contactIngestionQueue = new ContactIngestionQueue(properties, contactBatchWriter, contactJournal);
+
+        contactIngestionQueue.enqueue(contact("a@example.com"));
+        contactIngestionQueue.enqueue(contact("b@example.com"));
+
+        assertThatThrownBy(() -> contactIngestionQueue.enqueue(contact("c@example.com")))
+            .isInstanceOf(ContactQueueFullException.class)
+            .extracting("retryAfter").isEqualTo(Duration.ofSeconds(3));
+        assertThat(contactIngestionQueue.getQueueDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void stop_ShouldFlushQueuedContactsInOneBatch() {
+        contactIngestionQueue = new ContactIngestionQueue(properties, contactBatchWriter, contactJournal);
+        contactIngestionQueue.enqueue(contact("a@example.com"));
+        contactIngestionQueue.enqueue(contact("b@example.com"));
+
+        contactIngestionQueue.start();
+        contactIngestionQueue.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Contact>> captor = ArgumentCaptor.forClass(List.class);
+        verify(contactBatchWriter, atLeastOnce()).writeBatch(captor.capture());
+        assertThat(captor.getAllValues().get(0)).extracting(Contact::getEmail)
+            .containsExactly("a@example.com", "b@example.com");
+        assertThat(contactIngestionQueue.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void write_WhenBatchFails_ShouldRetryEachContactWithoutAssignedId() {
+        Contact first = contact("a@example.com");
+        Contact second = contact("b@example.com");
+        JournalPosition firstPosition = new JournalPosition(0, 0);
+        JournalPosition secondPosition = new JournalPosition(0, 1);
+        when(contactJournal.append(first)).thenReturn(firstPosition);
+        when(contactJournal.append(second)).thenReturn(secondPosition);
+        doAnswer(invocation -> {
+            List<Contact> contacts = invocation.getArgument(0);
+            if (contacts.size() > 1) {
+                contacts.forEach(contact -> contact.setId(100L));
+                throw new IllegalStateException("batch failed");
+            }
+            return null;
+        }).when(contactBatchWriter).writeBatch(anyList());
+        contactIngestionQueue = new ContactIngestionQueue(properties, contactBatchWriter, contactJournal);
+        contactIngestionQueue.enqueue(first);
+        contactIngestionQueue.enqueue(second);
+
+        contactIngestionQueue.start();
+        contactIngestionQueue.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Contact>> captor = ArgumentCaptor.forClass(List.class);
+        verify(contactBatchWriter, times(3)).writeBatch(captor.capture());
+        List<Contact> retried = captor.getAllValues().subList(1, 3).stream().map(list -> list.get(0)).toList();
+        assertThat(retried).extracting(Contact::getEmail).containsExactly("a@example.com", "b@example.com");
+        assertThat(retried).extracting(Contact::getId).containsOnlyNulls();
+        assertThat(retried).doesNotContain(first, second);
+        verify(contactJournal).acknowledge(List.of(firstPosition));
+        verify(contactJournal).acknowledge(List.of(secondPosition));
+    }
+
+    @Test
+    void start_InSyncMode_ShouldNotDrain() {
+        properties.setMode(ContactIngestionProperties.Mode.SYNC);
+        contactIngestionQueue = new ContactIngestionQueue(properties, contactBatchWriter, contactJournal);
+
+        contactIngestionQueue.start();
+
+        assertThat(contactIngestionQueue.isRunning()).isFalse();
+        verifyNoInteractions(contactBatchWriter);
+    }
+
+    private Contact contact(String email) {
+        Contact contact = new Contact();
+        contact.setName("田中太郎");
+        contact.setEmail(email);
+        contact.setCategory(Contact.ContactCategory.OTHER);
+        contact.setMessage("お問い合わせ");
+        return contact;
+    }
+}
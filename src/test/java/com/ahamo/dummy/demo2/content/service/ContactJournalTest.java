@@ -0,0 +1,196 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContactJournalProperties;
+import com.ahamo.dummy.demo2.content.entity.Contact;
+import com.ahamo.dummy.demo2.content.repository.ContactRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContactJournalTest {
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @TempDir
+    Path directory;
+
+    private ContactJournalProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ContactJournalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    void append_WhenDisabled_ShouldReturnNull() {
+        properties.setEnabled(false);
+        ContactJournal journal = newJournal();
+
+        journal.start();
+
+        assertThat(journal.append(contact("a@example.com"))).isNull();
+        verifyNoInteractions(contactRepository);
+    }
+
+    @Test
+    void start_ShouldReplayRetainedSegmentsIntoRepository() {
+        ContactJournal first = newJournal();
+        first.start();
+        first.append(contact("a@example.com"));
+        first.append(contact("b@example.com"));
+        first.append(contact("c@example.com"));
+        // 停止処理を経ずにプロセスが落ちた状態を再現するため、stop() は呼ばない
+
+        ContactJournal second = newJournal();
+        second.start();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Contact>> captor = ArgumentCaptor.forClass(List.class);
+        verify(contactRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Contact::getEmail)
+            .containsExactly("a@example.com", "b@example.com", "c@example.com");
+        assertThat(captor.getValue()).allMatch(contact -> contact.getStatus() == Contact.ContactStatus.RECEIVED);
+        second.stop();
+    }
+
+    @Test
+    void start_ShouldSkipAcknowledgedRecordsAndKeepCreatedAt() {
+        LocalDateTime acceptedAt = LocalDateTime.of(2024, 4, 1, 9, 30);
+        ContactJournal first = newJournal();
+        first.start();
+        Contact pending = contact("a@example.com");
+        pending.setCreatedAt(acceptedAt);
+        first.append(pending);
+        JournalPosition saved = first.append(contact("b@example.com"));
+        first.acknowledge(List.of(saved));
+        // 停止処理を経ずにプロセスが落ちた状態を再現するため、stop() は呼ばない
+
+        ContactJournal second = newJournal();
+        second.start();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Contact>> captor = ArgumentCaptor.forClass(List.class);
+        verify(contactRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Contact::getEmail).containsExactly("a@example.com");
+        assertThat(captor.getValue().get(0).getCreatedAt()).isEqualTo(acceptedAt);
+        second.stop();
+    }
+
+    @Test
+    void start_WhenRecordCannotBeSaved_ShouldMoveItToDeadLetterAndReplayTheRest() throws IOException {
+        ContactJournal first = newJournal();
+        first.start();
+        first.append(contact("a@example.com"));
+        first.append(contact("poison@example.com"));
+        first.append(contact("c@example.com"));
+        when(contactRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("value too long"));
+        when(contactRepository.save(any(Contact.class))).thenAnswer(invocation -> {
+            Contact contact = invocation.getArgument(0);
+            if (contact.getEmail().startsWith("poison")) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return contact;
+        });
+
+        ContactJournal second = newJournal();
+        second.start();
+
+        ArgumentCaptor<Contact> captor = ArgumentCaptor.forClass(Contact.class);
+        verify(contactRepository, times(3)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(Contact::getEmail)
+            .containsExactly("a@example.com", "poison@example.com", "c@example.com");
+        List<String> deadLetters = Files.readAllLines(directory.resolve(ContactJournal.DEAD_LETTER_FILE));
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0)).contains("poison@example.com");
+        assertThat(segmentFiles()).containsExactlyInAnyOrder(
+            directory.resolve(ContactJournal.DEAD_LETTER_FILE), directory.resolve(JournalSegment.fileName(1)));
+        second.stop();
+    }
+
+    @Test
+    void start_WhenDatabaseIsUnavailable_ShouldFailAndKeepRecords() {
+        ContactJournal first = newJournal();
+        first.start();
+        first.append(contact("a@example.com"));
+        when(contactRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+        when(contactRepository.save(any(Contact.class))).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThatThrownBy(newJournal()::start).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(Files.exists(directory.resolve(JournalSegment.fileName(0)))).isTrue();
+        assertThat(Files.exists(directory.resolve(ContactJournal.DEAD_LETTER_FILE))).isFalse();
+    }
+
+    @Test
+    void acknowledge_ShouldDeleteSealedSegmentsOnceDrained() throws IOException {
+        ContactJournal journal = newJournal();
+        journal.start();
+
+        JournalPosition first = journal.append(contact("a@example.com"));
+        JournalPosition rotated = null;
+        for (int i = 0; i < 20 && rotated == null; i++) {
+            JournalPosition position = journal.append(contact("user" + i + "@example.com"));
+            if (position.segment() != first.segment()) {
+                rotated = position;
+            } else {
+                journal.acknowledge(List.of(position));
+            }
+        }
+        assertThat(rotated).isNotNull();
+        assertThat(segmentFiles()).hasSize(2);
+
+        journal.acknowledge(List.of(first));
+
+        assertThat(segmentFiles()).hasSize(1);
+        journal.stop();
+    }
+
+    private ContactJournal newJournal() {
+        return new ContactJournal(properties, new ObjectMapper().registerModule(new JavaTimeModule()), contactRepository);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private Contact contact(String email) {
+        Contact contact = new Contact();
+        contact.setName("田中太郎");
+        contact.setEmail(email);
+        contact.setCategory(Contact.ContactCategory.SUPPORT);
+        contact.setMessage("ジャーナルに記録されるお問い合わせです");
+        return contact;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ahamo.dummy.demo2.content.service;
 
+import com.ahamo.dummy.demo2.content.config.ContactIngestionProperties;
 import com.ahamo.dummy.demo2.content.entity.Contact;
 import com.ahamo.dummy.demo2.content.repository.ContactRepository;
 import com.ahamo.dummy.demo2.content.dto.ContactRequest;
@@ -9,12 +10,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +27,12 @@ class ContactServiceTest {
     @Mock
     private ContactRepository contactRepository;
 
+    @Mock
+    private ContactIngestionQueue contactIngestionQueue;
+
+    @Spy
+    private ContactIngestionProperties contactIngestionProperties = new ContactIngestionProperties();
+
     @InjectMocks
     private ContactService contactService;
 
@@ -85,6 +95,26 @@ class ContactServiceTest {
         assertThat(result.getStatus()).isEqualTo(Contact.ContactStatus.RECEIVED);
     }
 
+    @Test
+    void submitContact_AsyncMode_ShouldEnqueueAndReturnReceiptId() {
+        contactIngestionProperties.setMode(ContactIngestionProperties.Mode.ASYNC);
+        ContactRequest request = new ContactRequest(
+            "田中太郎",
+            "tanaka@example.com",
+            null,
+            Contact.ContactCategory.SUPPORT,
+            "非同期受付のお問い合わせです"
+        );
+
+        when(contactIngestionQueue.enqueue(any(Contact.class))).thenReturn("receipt-1");
+
+        ContactResponse result = contactService.submitContact(request);
+
+        assertThat(result.getId()).isEqualTo("receipt-1");
+        assertThat(result.getStatus()).isEqualTo(Contact.ContactStatus.RECEIVED);
+        verify(contactRepository, never()).save(any(Contact.class));
+    }
+
     @Test
     void getContactCategories_ShouldReturnAllCategories() {
         List<ContactCategoryResponse> result = contactService.getContactCategories();
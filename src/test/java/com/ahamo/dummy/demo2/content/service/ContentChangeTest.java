@@ -0,0 +1,30 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentChangeTest {
+
+    @Test
+    void parse_ShouldMapTableOperationAndId() {
+        assertThat(ContentChange.parse("campaigns:INSERT:7"))
+            .isEqualTo(new ContentChange(ContentTombstone.ContentType.CAMPAIGN, 7L, false));
+        assertThat(ContentChange.parse("news:UPDATE:42"))
+            .isEqualTo(new ContentChange(ContentTombstone.ContentType.NEWS, 42L, false));
+        assertThat(ContentChange.parse("faqs:DELETE:3"))
+            .isEqualTo(new ContentChange(ContentTombstone.ContentType.FAQ, 3L, true));
+    }
+
+    @Test
+    void parse_InvalidPayload_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> ContentChange.parse("contacts:INSERT:1"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentChange.parse("news:UPDATE"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentChange.parse("news:UPDATE:abc"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,220 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContentChangesProperties;
+import com.ahamo.dummy.demo2.content.dto.ContentChangesResponse;
+import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
+import com.ahamo.dummy.demo2.content.repository.ContentTombstoneRepository;
+import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import com.ahamo.dummy.demo2.content.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentChangesServiceTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private FaqRepository faqRepository;
+
+    @Mock
+    private ContentTombstoneRepository contentTombstoneRepository;
+
+    private ContentChangesService contentChangesService;
+
+    @BeforeEach
+    void setUp() {
+        contentChangesService = new ContentChangesService(
+            campaignRepository, newsRepository, faqRepository, contentTombstoneRepository,
+            new CampaignService(null, null, null, null),
+            new NewsService(null, null, null, null),
+            new FaqService(null, null, null, null, null),
+            new ContentChangesProperties());
+    }
+
+    @Test
+    void getChanges_WithoutToken_ShouldResetWithAllActiveContent() {
+        Campaign upcoming = campaign(3L, true);
+        upcoming.setStartAt(LocalDateTime.now().plusDays(1));
+        when(campaignRepository.findScheduledCampaignsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(campaign(1L, true), upcoming));
+        when(newsRepository.findScheduledNewsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        when(faqRepository.findActiveFaqsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(faq(2L, true)));
+
+        ContentChangesResponse response = contentChangesService.getChanges(null);
+
+        assertThat(response.isReset()).isTrue();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getCampaigns().getUpserts()).hasSize(1);
+        assertThat(response.getFaqs().getUpserts()).extracting(FaqResponse::getId).containsExactly("2");
+        assertThat(ChangeToken.decode(response.getToken()).watermark()).isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    void getChanges_WithToken_ShouldReturnUpsertsAndDeletesSinceToken() {
+        ChangeToken since = new ChangeToken(LocalDateTime.now().minusHours(1));
+        when(campaignRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(campaign(1L, true)));
+        when(newsRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(faqRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(faq(2L, false)));
+        when(contentTombstoneRepository.findDeletedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(new ContentTombstone(1L, ContentTombstone.ContentType.NEWS, 30L, LocalDateTime.now())));
+
+        ContentChangesResponse response = contentChangesService.getChanges(since);
+
+        assertThat(response.isReset()).isFalse();
+        assertThat(response.getCampaigns().getUpserts()).hasSize(1);
+        assertThat(response.getFaqs().getUpserts()).isEmpty();
+        assertThat(response.getFaqs().getDeletes()).containsExactly("2");
+        assertThat(response.getNews().getDeletes()).containsExactly("30");
+        assertThat(ChangeToken.decode(response.getToken()).watermark()).isAfter(since.watermark());
+    }
+
+    @Test
+    void getChanges_WithScheduledCampaign_ShouldDeleteUntilStartAt() {
+        ChangeToken since = new ChangeToken(LocalDateTime.now().minusHours(1));
+        Campaign upcoming = campaign(1L, true);
+        upcoming.setStartAt(LocalDateTime.now().plusDays(1));
+        Campaign ended = campaign(2L, true);
+        ended.setEndAt(LocalDateTime.now().minusMinutes(30));
+        when(campaignRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(upcoming, ended));
+        when(newsRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(faqRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(contentTombstoneRepository.findDeletedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+
+        ContentChangesResponse response = contentChangesService.getChanges(since);
+
+        assertThat(response.getCampaigns().getUpserts()).isEmpty();
+        assertThat(response.getCampaigns().getDeletes()).containsExactly("1", "2");
+    }
+
+    @Test
+    void getChanges_WithTokenOlderThanTombstoneRetention_ShouldReset() {
+        when(campaignRepository.findScheduledCampaignsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        when(newsRepository.findScheduledNewsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        when(faqRepository.findActiveFaqsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        ContentChangesResponse response = contentChangesService.getChanges(new ChangeToken(LocalDateTime.now().minusDays(90)));
+
+        assertThat(response.isReset()).isTrue();
+        verifyNoInteractions(contentTombstoneRepository);
+    }
+
+    @Test
+    void getChanges_WithTokenWithinSafetyLag_ShouldReturnSameToken() {
+        ChangeToken since = new ChangeToken(LocalDateTime.now());
+
+        ContentChangesResponse response = contentChangesService.getChanges(since);
+
+        assertThat(response.getToken()).isEqualTo(since.encode());
+        verifyNoInteractions(campaignRepository, newsRepository, faqRepository, contentTombstoneRepository);
+    }
+
+    @Test
+    void getChanges_MoreRowsThanPageSize_ShouldContinueFromLastId() {
+        ContentChangesProperties properties = new ContentChangesProperties();
+        properties.setPageSize(2);
+        contentChangesService = new ContentChangesService(
+            campaignRepository, newsRepository, faqRepository, contentTombstoneRepository,
+            new CampaignService(null, null, null, null),
+            new NewsService(null, null, null, null),
+            new FaqService(null, null, null, null, null),
+            properties);
+        ChangeToken since = new ChangeToken(LocalDateTime.now().minusHours(1));
+        when(campaignRepository.findUpdatedBetween(eq(since.watermark()), any(LocalDateTime.class), eq(0L), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(campaign(1L, true), campaign(2L, true), campaign(3L, true)));
+
+        ContentChangesResponse first = contentChangesService.getChanges(since);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getCampaigns().getUpserts()).hasSize(2);
+        ChangeToken continuation = ChangeToken.decode(first.getToken());
+        assertThat(continuation.isContinuation()).isTrue();
+        assertThat(continuation.watermark()).isEqualTo(since.watermark());
+        assertThat(continuation.afterId()).isEqualTo(2L);
+
+        when(campaignRepository.findUpdatedBetween(since.watermark(), continuation.until(), 2L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(campaign(3L, true)));
+        when(newsRepository.findUpdatedBetween(since.watermark(), continuation.until(), 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of());
+        when(faqRepository.findUpdatedBetween(since.watermark(), continuation.until(), 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(faq(5L, true)));
+        when(contentTombstoneRepository.findDeletedBetween(since.watermark(), continuation.until(), 0L, PageRequest.of(0, 1)))
+            .thenReturn(List.of());
+
+        ContentChangesResponse second = contentChangesService.getChanges(continuation);
+
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.isReset()).isFalse();
+        assertThat(second.getCampaigns().getUpserts()).hasSize(1);
+        assertThat(second.getFaqs().getUpserts()).hasSize(1);
+        ChangeToken next = ChangeToken.decode(second.getToken());
+        assertThat(next.isContinuation()).isFalse();
+        assertThat(next.watermark()).isEqualTo(continuation.until());
+    }
+
+    @Test
+    void decode_ContinuationToken_ShouldRoundTrip() {
+        LocalDateTime until = LocalDateTime.of(2024, 4, 1, 12, 0, 0, 123_000_000);
+        ChangeToken delta = new ChangeToken(until.minusHours(1), until, 2, 42L);
+        ChangeToken reset = new ChangeToken(null, until, 1, 7L);
+
+        assertThat(ChangeToken.decode(delta.encode())).isEqualTo(delta);
+        assertThat(ChangeToken.decode(reset.encode())).isEqualTo(reset);
+        assertThat(ChangeToken.decode(new ChangeToken(until).encode())).isEqualTo(new ChangeToken(until));
+    }
+
+    @Test
+    void decode_InvalidToken_ShouldThrow() {
+        assertThat(ChangeToken.decode(" ")).isNull();
+        assertThatThrownBy(() -> ChangeToken.decode("AAAA")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Campaign campaign(Long id, boolean active) {
+        Campaign campaign = new Campaign();
+        campaign.setId(id);
+        campaign.setTitle("キャンペーン" + id);
+        campaign.setLink("https://example.com/campaign/" + id);
+        campaign.setIsActive(active);
+        return campaign;
+    }
+
+    private Faq faq(Long id, boolean active) {
+        Faq faq = new Faq();
+        faq.setId(id);
+        faq.setQuestion("質問" + id);
+        faq.setAnswer("回答" + id);
+        faq.setCategory(Faq.FaqCategory.PLAN);
+        faq.setIsActive(active);
+        return faq;
+    }
+}
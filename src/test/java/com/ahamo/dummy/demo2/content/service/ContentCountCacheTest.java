@@ -0,0 +1,74 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.CountCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCountCacheTest {
+
+    private CountCacheProperties properties;
+
+    private ContentCountCache contentCountCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CountCacheProperties();
+        contentCountCache = new ContentCountCache(properties);
+    }
+
+    @Test
+    void get_AfterPut_ShouldReturnCachedTotalPerKey() {
+        contentCountCache.put("faqs", 30);
+        contentCountCache.put("faqs:PLAN", 12);
+
+        assertThat(contentCountCache.get("faqs")).isEqualTo(30);
+        assertThat(contentCountCache.get("faqs:PLAN")).isEqualTo(12);
+        assertThat(contentCountCache.get("faqs:DEVICE")).isNull();
+    }
+
+    @Test
+    void get_AfterTtl_ShouldReturnNull() {
+        properties.setTtl(Duration.ZERO);
+
+        contentCountCache.put("news", 5);
+
+        assertThat(contentCountCache.get("news")).isNull();
+    }
+
+    @Test
+    void onContentChanged_ShouldDropAllTotals() {
+        contentCountCache.put("campaigns", 3);
+        contentCountCache.put("news", 5);
+
+        contentCountCache.onContentChanged(new ContentChangedEvent(1L));
+
+        assertThat(contentCountCache.get("campaigns")).isNull();
+        assertThat(contentCountCache.get("news")).isNull();
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldNeverCache() {
+        properties.setEnabled(false);
+
+        contentCountCache.put("faqs", 30);
+
+        assertThat(contentCountCache.get("faqs")).isNull();
+    }
+
+    @Test
+    void invalidate_ShouldDropOnlyMatchingKeys() {
+        contentCountCache.put("faqs", 30);
+        contentCountCache.put("faqs:PLAN", 12);
+        contentCountCache.put("news", 5);
+
+        contentCountCache.invalidate("faqs");
+
+        assertThat(contentCountCache.get("faqs")).isNull();
+        assertThat(contentCountCache.get("faqs:PLAN")).isNull();
+        assertThat(contentCountCache.get("news")).isEqualTo(5);
+    }
+}
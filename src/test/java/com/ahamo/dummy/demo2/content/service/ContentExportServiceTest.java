@@ -0,0 +1,126 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContentExportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ContentExportServiceTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ContentExportProperties properties;
+    private ContentExportService contentExportService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE faqs (id BIGINT PRIMARY KEY, question TEXT, answer TEXT, category VARCHAR(32), "
+            + "created_at TIMESTAMP, updated_at TIMESTAMP, is_active BOOLEAN)");
+        insertFaq(1L, "PLAN", LocalDateTime.of(2024, 1, 1, 0, 0), true);
+        insertFaq(2L, "DEVICE", LocalDateTime.of(2024, 3, 1, 0, 0), true);
+        insertFaq(3L, "PLAN", LocalDateTime.of(2024, 3, 1, 0, 0), false);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        FaqService faqService = new FaqService(null, null, null, null, null);
+        properties = new ContentExportProperties();
+        properties.setFetchSize(1);
+        properties.setMaxConcurrentExports(1);
+        contentExportService = new ContentExportService(jdbcTemplate, new DataSourceTransactionManager(database),
+            objectMapper, mock(CampaignService.class), mock(NewsService.class), faqService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void export_Faqs_ShouldWriteActiveRowsAsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        List<LocalDateTime> started = new ArrayList<>();
+
+        long rows = contentExportService.open(ContentImportService.Target.FAQS, null).writeTo(out, started::add);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":\"1\"").contains("\"category\":\"料金プラン\"");
+        assertThat(lines[1]).contains("\"id\":\"2\"");
+        assertThat(started).hasSize(1);
+    }
+
+    @Test
+    void export_WithSince_ShouldWriteRowsUpdatedAfterItIncludingDeactivated() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = contentExportService.open(ContentImportService.Target.FAQS, LocalDateTime.of(2024, 2, 1, 0, 0))
+            .writeTo(out, startedAt -> { });
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines[0]).contains("\"id\":\"2\"").contains("\"active\":true");
+        assertThat(lines[1]).contains("\"id\":\"3\"").contains("\"active\":false");
+    }
+
+    @Test
+    void open_WhenLimitReached_ShouldRejectUntilPreviousExportFinishes() throws Exception {
+        ContentExport first = contentExportService.open(ContentImportService.Target.FAQS, null);
+
+        assertThatThrownBy(() -> contentExportService.open(ContentImportService.Target.FAQS, null))
+            .isInstanceOf(ContentExportBusyException.class);
+
+        first.writeTo(new ByteArrayOutputStream(), startedAt -> { });
+        first.close();
+
+        ContentExport second = contentExportService.open(ContentImportService.Target.FAQS, null);
+        assertThatThrownBy(() -> contentExportService.open(ContentImportService.Target.FAQS, null))
+            .isInstanceOf(ContentExportBusyException.class);
+        second.close();
+    }
+
+    @Test
+    void close_WithoutWriting_ShouldReleasePermitOnce() {
+        ContentExport abandoned = contentExportService.open(ContentImportService.Target.FAQS, null);
+
+        abandoned.close();
+        abandoned.close();
+
+        ContentExport next = contentExportService.open(ContentImportService.Target.FAQS, null);
+        assertThatThrownBy(() -> contentExportService.open(ContentImportService.Target.FAQS, null))
+            .isInstanceOf(ContentExportBusyException.class);
+        assertThatThrownBy(() -> abandoned.writeTo(new ByteArrayOutputStream(), startedAt -> { }))
+            .isInstanceOf(IllegalStateException.class);
+        next.close();
+    }
+
+    private void insertFaq(long id, String category, LocalDateTime updatedAt, boolean active) {
+        jdbcTemplate.update("INSERT INTO faqs VALUES (?, ?, ?, ?, ?, ?, ?)",
+            id, "質問" + id, "回答" + id, category, updatedAt, updatedAt, active);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.config.ContentImportProperties;
+import com.ahamo.dummy.demo2.content.config.CountCacheProperties;
+import com.ahamo.dummy.demo2.content.dto.ImportReport;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentImportServiceTest {
+
+    @Mock
+    private BulkEntityWriter bulkEntityWriter;
+
+    private ContentImportProperties properties;
+
+    private ContentCountCache contentCountCache = new ContentCountCache(new CountCacheProperties());
+
+    private ContentImportService contentImportService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ContentImportProperties();
+        properties.setChunkSize(2);
+        contentImportService = new ContentImportService(bulkEntityWriter, contentCountCache, new ObjectMapper(), properties);
+    }
+
+    @Test
+    void importContent_Ndjson_ShouldWriteValidRowsInChunksAndReportInvalidRows() throws IOException {
+        String body = String.join("\n",
+            "{\"question\":\"質問1\",\"answer\":\"回答1\",\"category\":\"plan\"}",
+            "{\"question\":\"質問2\",\"answer\":\"回答2\",\"category\":\"UNKNOWN\"}",
+            "",
+            "{\"question\":\"質問3\",\"answer\":\"回答3\",\"category\":\"BILLING\",\"isActive\":false}",
+            "{not json}",
+            "{\"answer\":\"回答5\",\"category\":\"device\"}",
+            "{\"question\":\"質問6\",\"answer\":\"回答6\",\"category\":\"network\"}");
+
+        ImportReport report = contentImportService.importContent(
+            ContentImportService.Target.FAQS, ContentImportService.Format.NDJSON, stream(body));
+
+        assertThat(report.getTarget()).isEqualTo("faqs");
+        assertThat(report.getProcessed()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting("line").containsExactly(2L, 5L, 6L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkEntityWriter, times(2)).persistAll(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(2);
+        Faq inactive = (Faq) captor.getAllValues().get(0).get(1);
+        assertThat(inactive.getCategory()).isEqualTo(Faq.FaqCategory.BILLING);
+        assertThat(inactive.getIsActive()).isFalse();
+    }
+
+    @Test
+    void importContent_Csv_ShouldHandleQuotedFields() throws IOException {
+        String body = "title,description,link\n"
+            + "\"春の\"\"特典\"\"キャンペーン\",\"1行目,\n2行目\",https://example.com/a\n"
+            + ",説明,https://example.com/b\n";
+
+        ImportReport report = contentImportService.importContent(
+            ContentImportService.Target.CAMPAIGNS, ContentImportService.Format.CSV, stream(body));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement()
+            .satisfies(error -> {
+                assertThat(error.getLine()).isEqualTo(4);
+                assertThat(error.getMessage()).contains("title");
+            });
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkEntityWriter).persistAll(captor.capture());
+        Campaign campaign = (Campaign) captor.getValue().get(0);
+        assertThat(campaign.getTitle()).isEqualTo("春の\"特典\"キャンペーン");
+        assertThat(campaign.getDescription()).isEqualTo("1行目,\n2行目");
+    }
+
+    @Test
+    void importContent_WhenChunkFails_ShouldRetryRowsIndividually() throws IOException {
+        properties.setChunkSize(10);
+        String body = "{\"title\":\"ニュース1\",\"link\":\"https://example.com/1\"}\n"
+            + "{\"title\":\"ニュース2\",\"link\":\"https://example.com/2\",\"publishedDate\":\"2024-04-01\"}\n";
+
+        when(bulkEntityWriter.persistAll(anyList()))
+            .thenThrow(new DataIntegrityViolationException("batch"))
+            .thenReturn(1)
+            .thenThrow(new DataIntegrityViolationException("row"));
+
+        ImportReport report = contentImportService.importContent(
+            ContentImportService.Target.NEWS, ContentImportService.Format.NDJSON, stream(body));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting("line").containsExactly(2L);
+        verify(bulkEntityWriter, times(3)).persistAll(anyList());
+    }
+
+    @Test
+    void importContent_ShouldInvalidateCountsOfImportedTarget() throws IOException {
+        contentCountCache.put("faqs", 30);
+        contentCountCache.put("faqs:PLAN", 12);
+        contentCountCache.put("news", 5);
+        String body = "{\"question\":\"質問1\",\"answer\":\"回答1\",\"category\":\"plan\"}\n";
+
+        contentImportService.importContent(
+            ContentImportService.Target.FAQS, ContentImportService.Format.NDJSON, stream(body));
+
+        assertThat(contentCountCache.get("faqs")).isNull();
+        assertThat(contentCountCache.get("faqs:PLAN")).isNull();
+        assertThat(contentCountCache.get("news")).isEqualTo(5);
+    }
+
+    @Test
+    void importContent_ShouldCapErrorDetails() throws IOException {
+        properties.setMaxErrors(1);
+        String body = "{}\n{}\n{}\n";
+
+        ImportReport report = contentImportService.importContent(
+            ContentImportService.Target.CAMPAIGNS, ContentImportService.Format.NDJSON, stream(body));
+
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.isErrorsTruncated()).isTrue();
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,373 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.cache.ContentCacheInvalidator;
+import com.ahamo.dummy.demo2.content.config.ContentSnapshotProperties;
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.ContentTombstone;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+import com.ahamo.dummy.demo2.content.repository.CampaignRepository;
+import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import com.ahamo.dummy.demo2.content.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentSnapshotServiceTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private FaqRepository faqRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ContentCacheInvalidator contentCacheInvalidator;
+
+    private ContentSnapshotProperties properties;
+
+    private ContentSnapshotService contentSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ContentSnapshotProperties();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("contentCacheInvalidator", contentCacheInvalidator);
+        contentSnapshotService = new ContentSnapshotService(campaignRepository, newsRepository, faqRepository,
+            properties, eventPublisher, beanFactory.getBeanProvider(ContentCacheInvalidator.class));
+    }
+
+    @Test
+    void getSnapshot_BeforeRefresh_ShouldReturnNull() {
+        assertThat(contentSnapshotService.getSnapshot()).isNull();
+    }
+
+    @Test
+    void refresh_ShouldLoadAllPublishedContentIntoSnapshot() {
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN), faq(2L, Faq.FaqCategory.DEVICE), faq(3L, Faq.FaqCategory.PLAN)));
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        assertThat(contentSnapshotService.getSnapshot()).isSameAs(snapshot);
+        assertThat(snapshot.getCampaignCount()).isEqualTo(1);
+        assertThat(snapshot.getNewsCount()).isEqualTo(1);
+        assertThat(snapshot.getFaqCount()).isEqualTo(3);
+        assertThat(snapshot.findCampaign(10L)).isNotNull();
+        assertThat(snapshot.findNews(20L)).isNotNull();
+        assertThat(snapshot.findFaq(4L)).isNull();
+    }
+
+    @Test
+    void snapshotPages_ShouldKeepRepositoryOrderAndTotals() {
+        stubRepositories(List.of(faq(3L, Faq.FaqCategory.PLAN), faq(2L, Faq.FaqCategory.DEVICE), faq(1L, Faq.FaqCategory.PLAN)));
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        Page<Faq> firstPage = snapshot.faqPage(PageRequest.of(0, 2));
+        Page<Faq> secondPage = snapshot.faqPage(PageRequest.of(1, 2));
+        Page<Faq> planPage = snapshot.faqPage(Faq.FaqCategory.PLAN, PageRequest.of(0, 10));
+        Page<Faq> emptyCategory = snapshot.faqPage(Faq.FaqCategory.BILLING, PageRequest.of(0, 10));
+        Page<Faq> beyondLastPage = snapshot.faqPage(PageRequest.of(5, 2));
+
+        assertThat(firstPage.getContent()).extracting(Faq::getId).containsExactly(3L, 2L);
+        assertThat(secondPage.getContent()).extracting(Faq::getId).containsExactly(1L);
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(planPage.getContent()).extracting(Faq::getId).containsExactly(3L, 1L);
+        assertThat(emptyCategory.getContent()).isEmpty();
+        assertThat(beyondLastPage.getContent()).isEmpty();
+    }
+
+    @Test
+    void refresh_WithSameContent_ShouldKeepVersion() {
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN)));
+
+        long firstVersion = contentSnapshotService.refresh().getVersion();
+        long secondVersion = contentSnapshotService.refresh().getVersion();
+
+        assertThat(secondVersion).isEqualTo(firstVersion);
+        verify(eventPublisher, times(1)).publishEvent(any(ContentChangedEvent.class));
+        verify(contentCacheInvalidator, times(1)).invalidateAll();
+    }
+
+    @Test
+    void refresh_WithChangedContent_ShouldInvalidateCachesBeforeSwappingSnapshot() {
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN)));
+        ContentSnapshot previous = contentSnapshotService.refresh();
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN), faq(2L, Faq.FaqCategory.DEVICE)));
+        List<ContentSnapshot> visibleOnInvalidate = new ArrayList<>();
+        doAnswer(invocation -> visibleOnInvalidate.add(contentSnapshotService.getSnapshot()))
+            .when(contentCacheInvalidator).invalidateAll();
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        assertThat(snapshot.getVersion()).isNotEqualTo(previous.getVersion());
+        assertThat(visibleOnInvalidate).containsExactly(previous);
+        assertThat(contentSnapshotService.getSnapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    void getSnapshot_WhenDisabled_ShouldReturnNull() {
+        properties.setEnabled(false);
+
+        contentSnapshotService.scheduledRefresh();
+
+        assertThat(contentSnapshotService.getSnapshot()).isNull();
+        verifyNoInteractions(campaignRepository, newsRepository, faqRepository);
+    }
+
+    private void stubRepositories(List<Faq> faqs) {
+        Campaign campaign = new Campaign();
+        campaign.setId(10L);
+        campaign.setTitle("キャンペーン");
+        campaign.setLink("https://example.com/campaign");
+        campaign.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        campaign.setIsActive(true);
+
+        News news = new News();
+        news.setId(20L);
+        news.setTitle("ニュース");
+        news.setLink("https://example.com/news");
+        news.setPublishedDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        news.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        news.setIsPublished(true);
+
+        when(campaignRepository.findScheduledCampaignsAfter(any(), any())).thenReturn(List.of(campaign));
+        when(newsRepository.findScheduledNewsAfter(any(), any())).thenReturn(List.of(news));
+        when(faqRepository.findActiveFaqsAfter(any(), any())).thenReturn(faqs);
+    }
+
+    private Faq faq(Long id, Faq.FaqCategory category) {
+        Faq faq = new Faq();
+        faq.setId(id);
+        faq.setQuestion("質問" + id);
+        faq.setAnswer("回答" + id);
+        faq.setCategory(category);
+        faq.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id));
+        faq.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id));
+        faq.setIsActive(true);
+        return faq;
+    }
+
+    @Test
+    void faqsAfter_ShouldSeekPastCursorInSortedOrder() {
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN), faq(3L, Faq.FaqCategory.PLAN), faq(2L, Faq.FaqCategory.DEVICE)));
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+        Faq third = snapshot.findFaq(3L);
+
+        List<Faq> firstPage = snapshot.faqsAfter(null, 2);
+        List<Faq> afterThird = snapshot.faqsAfter(new PageCursor(third.getCreatedAt(), third.getId()), 10);
+        List<Faq> planAfterThird = snapshot.faqsAfter(
+            Faq.FaqCategory.PLAN, new PageCursor(third.getCreatedAt(), third.getId()), 10);
+
+        assertThat(firstPage).extracting(Faq::getId).containsExactly(3L, 2L);
+        assertThat(afterThird).extracting(Faq::getId).containsExactly(2L, 1L);
+        assertThat(planAfterThird).extracting(Faq::getId).containsExactly(1L);
+    }
+
+    @Test
+    void apply_ShouldReloadChangedRowsAndDropDeletedOnes() {
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN), faq(2L, Faq.FaqCategory.DEVICE), faq(3L, Faq.FaqCategory.PLAN)));
+        long initialVersion = contentSnapshotService.refresh().getVersion();
+
+        Faq updated = faq(2L, Faq.FaqCategory.PLAN);
+        updated.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 0, 0));
+        Faq deactivated = faq(3L, Faq.FaqCategory.PLAN);
+        deactivated.setIsActive(false);
+        when(faqRepository.findAllById(Set.of(2L, 3L, 4L))).thenReturn(List.of(updated, deactivated, faq(4L, Faq.FaqCategory.BILLING)));
+
+        contentSnapshotService.apply(List.of(
+            new ContentChange(ContentTombstone.ContentType.FAQ, 1L, true),
+            new ContentChange(ContentTombstone.ContentType.FAQ, 2L, false),
+            new ContentChange(ContentTombstone.ContentType.FAQ, 3L, false),
+            new ContentChange(ContentTombstone.ContentType.FAQ, 4L, false)));
+
+        ContentSnapshot snapshot = contentSnapshotService.getSnapshot();
+        assertThat(snapshot.getVersion()).isNotEqualTo(initialVersion);
+        assertThat(snapshot.getFaqs()).extracting(Faq::getId).containsExactly(4L, 2L);
+        assertThat(snapshot.findFaq(2L).getCategory()).isEqualTo(Faq.FaqCategory.PLAN);
+        assertThat(snapshot.getCampaignCount()).isEqualTo(1);
+        verify(campaignRepository, never()).findAllById(any());
+        verify(eventPublisher, times(2)).publishEvent(any(ContentChangedEvent.class));
+    }
+
+    @Test
+    void refresh_ShouldMoveLongBodiesOffHeap() {
+        properties.setOffHeapMinLength(10);
+        Faq longAnswer = faq(1L, Faq.FaqCategory.PLAN);
+        longAnswer.setAnswer("料金プランの変更は翌月から適用されます。".repeat(20));
+        Faq shortAnswer = faq(2L, Faq.FaqCategory.PLAN);
+        stubRepositories(List.of(longAnswer, shortAnswer));
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        assertThat(snapshot.findFaq(1L)).isInstanceOf(SnapshotBodies.OffHeapFaq.class)
+            .isEqualTo(longAnswer);
+        assertThat(snapshot.findFaq(1L).getAnswer()).isEqualTo(longAnswer.getAnswer());
+        assertThat(snapshot.findFaq(2L)).isSameAs(shortAnswer);
+    }
+
+    @Test
+    void refresh_ShouldReadRowsInKeysetBatches() {
+        properties.setRefreshBatchSize(2);
+        when(campaignRepository.findScheduledCampaignsAfter(any(), any())).thenReturn(List.of());
+        when(newsRepository.findScheduledNewsAfter(any(), any())).thenReturn(List.of());
+        when(faqRepository.findActiveFaqsAfter(0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(faq(1L, Faq.FaqCategory.PLAN), faq(2L, Faq.FaqCategory.PLAN)));
+        when(faqRepository.findActiveFaqsAfter(2L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(faq(3L, Faq.FaqCategory.DEVICE)));
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        assertThat(snapshot.getFaqs()).extracting(Faq::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void refresh_ShouldCopyUnchangedBodiesFromPreviousStore() {
+        properties.setOffHeapMinLength(10);
+        String original = "料金プランの変更は翌月から適用されます。".repeat(20);
+        Faq first = faq(1L, Faq.FaqCategory.PLAN);
+        first.setAnswer(original);
+        stubRepositories(List.of(first));
+        contentSnapshotService.refresh();
+
+        Faq unchanged = faq(1L, Faq.FaqCategory.PLAN);
+        unchanged.setAnswer("前回のストアから複写されるため読まれない本文です");
+        Faq updated = faq(2L, Faq.FaqCategory.PLAN);
+        updated.setAnswer("更新された回答は新しく書き込まれます");
+        when(faqRepository.findActiveFaqsAfter(any(), any())).thenReturn(List.of(unchanged, updated));
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        assertThat(snapshot.findFaq(1L)).isInstanceOf(SnapshotBodies.OffHeapFaq.class);
+        assertThat(snapshot.findFaq(1L).getAnswer()).isEqualTo(original);
+        assertThat(snapshot.findFaq(2L).getAnswer()).isEqualTo("更新された回答は新しく書き込まれます");
+    }
+
+    @Test
+    void refresh_WithOffHeapBodiesDisabled_ShouldKeepEntities() {
+        properties.setOffHeapBodies(false);
+        properties.setOffHeapMinLength(0);
+        Faq faq = faq(1L, Faq.FaqCategory.PLAN);
+        stubRepositories(List.of(faq));
+
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+
+        assertThat(snapshot.findFaq(1L)).isSameAs(faq);
+    }
+
+    @Test
+    void apply_BeforeFirstLoad_ShouldLoadEverything() {
+        stubRepositories(List.of(faq(1L, Faq.FaqCategory.PLAN)));
+
+        contentSnapshotService.apply(List.of(new ContentChange(ContentTombstone.ContentType.FAQ, 1L, false)));
+
+        assertThat(contentSnapshotService.getSnapshot().getFaqCount()).isEqualTo(1);
+        verify(faqRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void snapshot_ShouldHideContentOutsideVisibilityWindow() {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 1, 0, 0);
+        Campaign running = campaign(1L, null, now.plusDays(7));
+        Campaign upcoming = campaign(2L, now.plusHours(1), null);
+        Campaign ended = campaign(3L, null, now);
+        News published = news(10L, now.minusDays(1));
+        News scheduled = news(11L, now.plusMinutes(30));
+
+        ContentSnapshot snapshot = new ContentSnapshot(
+            List.of(running, upcoming, ended), List.of(published, scheduled), List.of(), now);
+
+        assertThat(snapshot.campaignPage(PageRequest.of(0, 10)).getContent()).extracting(Campaign::getId).containsExactly(1L);
+        assertThat(snapshot.findCampaign(2L)).isNull();
+        assertThat(snapshot.findNews(11L)).isNull();
+        assertThat(snapshot.getScheduledCampaigns()).extracting(Campaign::getId).containsExactly(1L, 2L);
+        assertThat(snapshot.getNextTransition()).isEqualTo(now.plusMinutes(30));
+    }
+
+    @Test
+    void at_ShouldFlipVisibilityWithoutReloading() {
+        LocalDateTime now = LocalDateTime.of(2024, 4, 1, 0, 0);
+        ContentSnapshot before = new ContentSnapshot(
+            List.of(campaign(1L, null, now.plusHours(2)), campaign(2L, now.plusHours(1), null)),
+            List.of(news(10L, now.plusHours(1))), List.of(), now);
+
+        ContentSnapshot launched = before.at(now.plusHours(1));
+        ContentSnapshot afterEnd = launched.at(now.plusHours(2));
+
+        assertThat(launched.getCampaignCount()).isEqualTo(2);
+        assertThat(launched.getNewsCount()).isEqualTo(1);
+        assertThat(launched.getVersion()).isNotEqualTo(before.getVersion());
+        assertThat(launched.getNextTransition()).isEqualTo(now.plusHours(2));
+        assertThat(afterEnd.findCampaign(1L)).isNull();
+        assertThat(afterEnd.getScheduledCampaigns()).extracting(Campaign::getId).containsExactly(2L);
+        assertThat(afterEnd.getNextTransition()).isNull();
+    }
+
+    @Test
+    void transition_ShouldPublishSnapshotForScheduledTime() {
+        Campaign upcoming = campaign(1L, LocalDateTime.now().plusDays(1), null);
+        when(campaignRepository.findScheduledCampaignsAfter(any(), any())).thenReturn(List.of(upcoming));
+        when(newsRepository.findScheduledNewsAfter(any(), any())).thenReturn(List.of());
+        when(faqRepository.findActiveFaqsAfter(any(), any())).thenReturn(List.of());
+        ContentSnapshot snapshot = contentSnapshotService.refresh();
+        assertThat(snapshot.getCampaignCount()).isZero();
+
+        contentSnapshotService.transition(upcoming.getStartAt().minusSeconds(1));
+        assertThat(contentSnapshotService.getSnapshot()).isSameAs(snapshot);
+
+        contentSnapshotService.transition(upcoming.getStartAt());
+        assertThat(contentSnapshotService.getSnapshot().findCampaign(1L)).isNotNull();
+        verify(eventPublisher, times(2)).publishEvent(any(ContentChangedEvent.class));
+        verify(campaignRepository, times(1)).findScheduledCampaignsAfter(any(), any());
+        contentSnapshotService.shutdown();
+    }
+
+    private Campaign campaign(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+        Campaign campaign = new Campaign();
+        campaign.setId(id);
+        campaign.setTitle("キャンペーン" + id);
+        campaign.setLink("https://example.com/campaign/" + id);
+        campaign.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id));
+        campaign.setIsActive(true);
+        campaign.setStartAt(startAt);
+        campaign.setEndAt(endAt);
+        return campaign;
+    }
+
+    private News news(Long id, LocalDateTime publishedDate) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle("ニュース" + id);
+        news.setLink("https://example.com/news/" + id);
+        news.setPublishedDate(publishedDate);
+        news.setIsPublished(true);
+        return news;
+    }
+}
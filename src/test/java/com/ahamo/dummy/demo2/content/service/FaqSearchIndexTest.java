@@ -0,0 +1,64 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FaqSearchIndexTest {
+
+    @Test
+    void tokenize_ShouldSplitJapaneseIntoBigramsAndLatinIntoWords() {
+        List<String> tokens = FaqSearchIndex.tokenize("ahamoの料金プラン、ＳＩＭ 5G");
+
+        assertThat(tokens).containsExactly("ahamo", "の料", "料金", "金プ", "プラ", "ラン", "sim", "5g");
+    }
+
+    @Test
+    void tokenize_SingleCjkCharacter_ShouldBeUnigram() {
+        assertThat(FaqSearchIndex.tokenize("海 外")).containsExactly("海", "外");
+    }
+
+    @Test
+    void search_ShouldRankByRelevanceAndFilterByCategory() {
+        Faq roaming = faq(1L, Faq.FaqCategory.NETWORK, "海外でローミングは使えますか", "海外ローミングは追加料金なしで利用できます");
+        Faq plan = faq(2L, Faq.FaqCategory.PLAN, "料金プランを教えてください", "月額料金は2,970円です。海外でも使えます");
+        Faq device = faq(3L, Faq.FaqCategory.DEVICE, "SIMカードの差し替え方法", "端末の電源を切ってからSIMを差し替えてください");
+        FaqSearchIndex index = FaqSearchIndex.build(List.of(roaming, plan, device), null);
+
+        assertThat(index.search("海外ローミング", null, 10)).extracting(Faq::getId).containsExactly(1L, 2L);
+        assertThat(index.search("海外", Faq.FaqCategory.PLAN, 10)).extracting(Faq::getId).containsExactly(2L);
+        assertThat(index.search("sim", null, 10)).extracting(Faq::getId).containsExactly(3L);
+        assertThat(index.search("海外", null, 1)).extracting(Faq::getId).containsExactly(1L);
+        assertThat(index.search("海外", null, Integer.MAX_VALUE)).extracting(Faq::getId).containsExactly(1L, 2L);
+        assertThat(index.search("存在しない語句", null, 10)).isEmpty();
+        assertThat(index.search("   ", null, 10)).isEmpty();
+    }
+
+    @Test
+    void build_ShouldReuseUnchangedDocumentsAndRetokenizeUpdatedOnes() {
+        Faq original = faq(1L, Faq.FaqCategory.SUPPORT, "問い合わせ窓口", "チャットで受け付けます");
+        FaqSearchIndex first = FaqSearchIndex.build(List.of(original), null);
+
+        Faq updated = faq(1L, Faq.FaqCategory.SUPPORT, "問い合わせ窓口", "電話で受け付けます");
+        updated.setUpdatedAt(original.getUpdatedAt().plusMinutes(1));
+        FaqSearchIndex second = FaqSearchIndex.build(List.of(updated), first);
+
+        assertThat(second.search("電話", null, 10)).extracting(Faq::getId).containsExactly(1L);
+        assertThat(second.search("チャット", null, 10)).isEmpty();
+    }
+
+    private Faq faq(Long id, Faq.FaqCategory category, String question, String answer) {
+        Faq faq = new Faq();
+        faq.setId(id);
+        faq.setCategory(category);
+        faq.setQuestion(question);
+        faq.setAnswer(answer);
+        faq.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        faq.setIsActive(true);
+        return faq;
+    }
+}
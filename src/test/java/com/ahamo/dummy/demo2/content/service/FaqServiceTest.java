@@ -1,23 +1,35 @@
 package com.ahamo.dummy.demo2.content.service;
 
+import com.ahamo.dummy.demo2.content.config.CountCacheProperties;
 import com.ahamo.dummy.demo2.content.entity.Faq;
 import com.ahamo.dummy.demo2.content.repository.FaqRepository;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.FaqResponse;
+import com.ahamo.dummy.demo2.content.dto.FaqSummary;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +38,18 @@ class FaqServiceTest {
     @Mock
     private FaqRepository faqRepository;
 
+    @Mock
+    private ContentSnapshotService contentSnapshotService;
+
+    @Mock
+    private FaqSearchService faqSearchService;
+
+    @Spy
+    private ContentCountCache contentCountCache = new ContentCountCache(new CountCacheProperties());
+
+    @Spy
+    private ContentMetrics contentMetrics = new ContentMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private FaqService faqService;
 
@@ -40,8 +64,8 @@ class FaqServiceTest {
         faq.setUpdatedAt(LocalDateTime.now());
         faq.setIsActive(true);
 
-        Page<Faq> faqPage = new PageImpl<>(List.of(faq));
-        when(faqRepository.findActiveFaqs(any(Pageable.class))).thenReturn(faqPage);
+        Page<FaqResponse> faqPage = new PageImpl<>(List.of(faqService.convertToResponse(faq)));
+        when(faqRepository.findActiveFaqResponses(any(Pageable.class))).thenReturn(faqPage);
 
         Page<FaqResponse> result = faqService.getFaqs(1, 10);
 
@@ -65,8 +89,8 @@ class FaqServiceTest {
         faq.setUpdatedAt(LocalDateTime.now());
         faq.setIsActive(true);
 
-        Page<Faq> faqPage = new PageImpl<>(List.of(faq));
-        when(faqRepository.findActiveFaqsByCategory(Faq.FaqCategory.DEVICE, PageRequest.of(0, 10))).thenReturn(faqPage);
+        Page<FaqResponse> faqPage = new PageImpl<>(List.of(faqService.convertToResponse(faq)));
+        when(faqRepository.findActiveFaqResponsesByCategory(Faq.FaqCategory.DEVICE, PageRequest.of(0, 10))).thenReturn(faqPage);
 
         Page<FaqResponse> result = faqService.getFaqsByCategory("device", 1, 10);
 
@@ -126,8 +150,8 @@ class FaqServiceTest {
         faq.setUpdatedAt(LocalDateTime.now());
         faq.setIsActive(true);
 
-        Page<Faq> faqPage = new PageImpl<>(List.of(faq));
-        when(faqRepository.findActiveFaqs(PageRequest.of(1, 5))).thenReturn(faqPage);
+        Page<FaqResponse> faqPage = new PageImpl<>(List.of(faqService.convertToResponse(faq)));
+        when(faqRepository.findActiveFaqResponses(PageRequest.of(1, 5))).thenReturn(faqPage);
 
         Page<FaqResponse> result = faqService.getFaqs(2, 5);
 
@@ -135,4 +159,147 @@ class FaqServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getQuestion()).isEqualTo("ページネーションテスト");
     }
+
+    @Test
+    void getFaqsByCategory_WithSnapshot_ShouldServeFromMemory() {
+        Faq planFaq = new Faq();
+        planFaq.setId(1L);
+        planFaq.setQuestion("料金FAQ");
+        planFaq.setAnswer("料金FAQ回答");
+        planFaq.setCategory(Faq.FaqCategory.PLAN);
+        planFaq.setCreatedAt(LocalDateTime.now());
+        planFaq.setUpdatedAt(LocalDateTime.now());
+        planFaq.setIsActive(true);
+
+        Faq networkFaq = new Faq();
+        networkFaq.setId(2L);
+        networkFaq.setQuestion("エリアFAQ");
+        networkFaq.setAnswer("エリアFAQ回答");
+        networkFaq.setCategory(Faq.FaqCategory.NETWORK);
+        networkFaq.setCreatedAt(LocalDateTime.now());
+        networkFaq.setUpdatedAt(LocalDateTime.now());
+        networkFaq.setIsActive(true);
+
+        ContentSnapshot snapshot = new ContentSnapshot(
+            List.of(), List.of(), List.of(planFaq, networkFaq), LocalDateTime.now());
+        when(contentSnapshotService.getSnapshot()).thenReturn(snapshot);
+
+        Page<FaqResponse> result = faqService.getFaqsByCategory("network", 1, 10);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getQuestion()).isEqualTo("エリアFAQ");
+        verifyNoInteractions(faqRepository);
+    }
+
+    @Test
+    void getFaqsByCursor_WithCategory_ShouldUseCategorySeekQuery() {
+        Faq faq = new Faq();
+        faq.setId(5L);
+        faq.setQuestion("請求FAQ");
+        faq.setAnswer("請求FAQ回答");
+        faq.setCategory(Faq.FaqCategory.BILLING);
+        faq.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        faq.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        faq.setIsActive(true);
+
+        when(faqRepository.findActiveFaqResponseSliceByCategory(Faq.FaqCategory.BILLING, PageRequest.of(0, 11)))
+            .thenReturn(new SliceImpl<>(List.of(faqService.convertToResponse(faq))));
+
+        CursorPage<FaqResponse> result = faqService.getFaqsByCursor("billing", "", 10);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getCategory()).isEqualTo("請求・支払い");
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getFaqsByCursor_InvalidCategory_ShouldReturnEmptyPage() {
+        CursorPage<FaqResponse> result = faqService.getFaqsByCursor("invalid", "", 10);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getFaqsByCategory_WithCachedTotal_ShouldSkipCountQuery() {
+        Faq faq = new Faq();
+        faq.setId(6L);
+        faq.setQuestion("端末FAQ");
+        faq.setAnswer("端末FAQ回答");
+        faq.setCategory(Faq.FaqCategory.DEVICE);
+        faq.setIsActive(true);
+
+        when(faqRepository.findActiveFaqResponsesByCategory(Faq.FaqCategory.DEVICE, PageRequest.of(0, 10)))
+            .thenReturn(new PageImpl<>(List.of(faqService.convertToResponse(faq)), PageRequest.of(0, 10), 25));
+        when(faqRepository.findActiveFaqResponseSliceByCategory(Faq.FaqCategory.DEVICE, PageRequest.of(1, 10)))
+            .thenReturn(new SliceImpl<>(List.of(faqService.convertToResponse(faq)), PageRequest.of(1, 10), true));
+
+        Page<FaqResponse> first = faqService.getFaqsByCategory("device", 1, 10);
+        Page<FaqResponse> second = faqService.getFaqsByCategory("device", 2, 10);
+
+        assertThat(first.getTotalElements()).isEqualTo(25);
+        assertThat(second.getTotalElements()).isEqualTo(25);
+        assertThat(second.getContent()).hasSize(1);
+        verify(faqRepository, times(1)).findActiveFaqResponsesByCategory(any(), any(Pageable.class));
+        verify(faqRepository, never()).findActiveFaqResponses(any(Pageable.class));
+    }
+
+    @Test
+    void getFaqSlice_ShouldNotCount() {
+        Faq faq = new Faq();
+        faq.setId(7L);
+        faq.setQuestion("料金FAQ");
+        faq.setAnswer("料金FAQ回答");
+        faq.setCategory(Faq.FaqCategory.PLAN);
+        faq.setIsActive(true);
+
+        when(faqRepository.findActiveFaqResponseSlice(PageRequest.of(0, 1)))
+            .thenReturn(new SliceImpl<>(List.of(faqService.convertToResponse(faq)), PageRequest.of(0, 1), true));
+
+        Slice<FaqResponse> result = faqService.getFaqSlice(null, 1, 1);
+
+        assertThat(result.getContent()).extracting(FaqResponse::getId).containsExactly("7");
+        assertThat(result.hasNext()).isTrue();
+        verify(faqRepository, never()).findActiveFaqResponses(any(Pageable.class));
+    }
+
+    @Test
+    void getFaqSummaries_WithCategory_ShouldUseCategorySummaryProjection() {
+        Faq faq = new Faq();
+        faq.setId(8L);
+        faq.setQuestion("通信FAQ");
+        faq.setAnswer("一覧では返さない回答");
+        faq.setCategory(Faq.FaqCategory.NETWORK);
+        faq.setIsActive(true);
+
+        when(faqRepository.findActiveFaqSummariesByCategory(Faq.FaqCategory.NETWORK, PageRequest.of(0, 10)))
+            .thenReturn(new PageImpl<>(List.of(faqService.convertToSummary(faq)), PageRequest.of(0, 10), 1));
+
+        Page<FaqSummary> result = faqService.getFaqSummaries("network", 1, 10);
+        Page<FaqSummary> invalid = faqService.getFaqSummaries("invalid", 1, 10);
+
+        assertThat(result.getContent()).extracting(FaqSummary::getQuestion).containsExactly("通信FAQ");
+        assertThat(invalid.getContent()).isEmpty();
+        verify(faqRepository, never()).findActiveFaqResponsesByCategory(any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchFaqs_ShouldConvertRankedResultsAndIgnoreInvalidCategory() {
+        Faq faq = new Faq();
+        faq.setId(8L);
+        faq.setQuestion("海外で使えますか");
+        faq.setAnswer("追加料金なしで利用できます");
+        faq.setCategory(Faq.FaqCategory.NETWORK);
+        faq.setIsActive(true);
+
+        when(faqSearchService.search("海外", Faq.FaqCategory.NETWORK, 5)).thenReturn(List.of(faq));
+
+        List<FaqResponse> result = faqService.searchFaqs("海外", "network", 5);
+        List<FaqResponse> invalid = faqService.searchFaqs("海外", "invalid", 5);
+
+        assertThat(result).extracting(FaqResponse::getId).containsExactly("8");
+        assertThat(result.get(0).getCategory()).isEqualTo("通信・エリア");
+        assertThat(invalid).isEmpty();
+    }
 }
@@ -1,23 +1,32 @@
 package com.ahamo.dummy.demo2.content.service;
 
+import com.ahamo.dummy.demo2.content.config.CountCacheProperties;
 import com.ahamo.dummy.demo2.content.entity.News;
 import com.ahamo.dummy.demo2.content.repository.NewsRepository;
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
 import com.ahamo.dummy.demo2.content.dto.NewsResponse;
+import com.ahamo.dummy.demo2.content.dto.NewsSummary;
+import com.ahamo.dummy.demo2.content.metrics.ContentMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +35,15 @@ class NewsServiceTest {
     @Mock
     private NewsRepository newsRepository;
 
+    @Mock
+    private ContentSnapshotService contentSnapshotService;
+
+    @Spy
+    private ContentCountCache contentCountCache = new ContentCountCache(new CountCacheProperties());
+
+    @Spy
+    private ContentMetrics contentMetrics = new ContentMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private NewsService newsService;
 
@@ -41,8 +59,8 @@ class NewsServiceTest {
         news.setUpdatedAt(LocalDateTime.now());
         news.setIsPublished(true);
 
-        Page<News> newsPage = new PageImpl<>(List.of(news));
-        when(newsRepository.findPublishedNews(any(Pageable.class))).thenReturn(newsPage);
+        Page<NewsResponse> newsPage = new PageImpl<>(List.of(newsService.convertToResponse(news)));
+        when(newsRepository.findPublishedNewsResponses(any(Pageable.class))).thenReturn(newsPage);
 
         Page<NewsResponse> result = newsService.getNews(1, 10);
 
@@ -98,8 +116,8 @@ class NewsServiceTest {
         news.setUpdatedAt(LocalDateTime.now());
         news.setIsPublished(true);
 
-        Page<News> newsPage = new PageImpl<>(List.of(news));
-        when(newsRepository.findPublishedNews(PageRequest.of(1, 5))).thenReturn(newsPage);
+        Page<NewsResponse> newsPage = new PageImpl<>(List.of(newsService.convertToResponse(news)));
+        when(newsRepository.findPublishedNewsResponses(PageRequest.of(1, 5))).thenReturn(newsPage);
 
         Page<NewsResponse> result = newsService.getNews(2, 5);
 
@@ -107,4 +125,100 @@ class NewsServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("ページネーションニュース");
     }
+
+    @Test
+    void getNews_WithSnapshot_ShouldServeFromMemory() {
+        News news = new News();
+        news.setId(4L);
+        news.setTitle("スナップショットニュース");
+        news.setContent("メモリから返却されるニュース");
+        news.setLink("https://example.com/snapshot-news");
+        news.setPublishedDate(LocalDateTime.of(2024, 4, 1, 10, 0));
+        news.setCreatedAt(LocalDateTime.now());
+        news.setUpdatedAt(LocalDateTime.now());
+        news.setIsPublished(true);
+
+        ContentSnapshot snapshot = new ContentSnapshot(List.of(), List.of(news), List.of(), LocalDateTime.now());
+        when(contentSnapshotService.getSnapshot()).thenReturn(snapshot);
+
+        Page<NewsResponse> page = newsService.getNews(1, 10);
+        NewsResponse missing = newsService.getNewsById(999L);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getDate()).isEqualTo("2024-04-01");
+        assertThat(missing).isNull();
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    void getNewsByCursor_FirstPage_ShouldReturnNextCursorWithoutCounting() {
+        News latest = news(3L, LocalDateTime.of(2024, 3, 1, 0, 0));
+        News middle = news(2L, LocalDateTime.of(2024, 2, 1, 0, 0));
+        News oldest = news(1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        when(newsRepository.findPublishedNewsResponseSlice(PageRequest.of(0, 3)))
+            .thenReturn(new SliceImpl<>(List.of(latest, middle, oldest).stream().map(newsService::convertToResponse).toList()));
+
+        CursorPage<NewsResponse> result = newsService.getNewsByCursor("", 2);
+
+        assertThat(result.getContent()).extracting(NewsResponse::getId).containsExactly("3", "2");
+        PageCursor next = PageCursor.decode(result.getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getSortKey()).isEqualTo(LocalDateTime.of(2024, 2, 1, 0, 0));
+    }
+
+    @Test
+    void getNewsByCursor_WithCursor_ShouldSeekAfterCursor() {
+        News oldest = news(1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+        String cursor = new PageCursor(LocalDateTime.of(2024, 2, 1, 0, 0), 2L).encode();
+
+        when(newsRepository.findPublishedNewsResponsesAfter(
+            eq(LocalDateTime.of(2024, 2, 1, 0, 0)), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of(newsService.convertToResponse(oldest)));
+
+        CursorPage<NewsResponse> result = newsService.getNewsByCursor(cursor, 2);
+
+        assertThat(result.getContent()).extracting(NewsResponse::getId).containsExactly("1");
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getNewsSummaries_ShouldProjectWithoutContent() {
+        News news = news(5L, LocalDateTime.of(2024, 5, 1, 9, 0));
+        when(newsRepository.findPublishedNewsSummaries(PageRequest.of(0, 10)))
+            .thenReturn(new PageImpl<>(List.of(newsService.convertToSummary(news))));
+
+        Page<NewsSummary> result = newsService.getNewsSummaries(1, 10);
+
+        assertThat(result.getContent()).extracting(NewsSummary::getId).containsExactly("5");
+        assertThat(result.getContent().get(0).getDate()).isEqualTo("2024-05-01");
+        assertThat(result.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void getNewsSummariesByCursor_WithSnapshot_ShouldMapEntities() {
+        News latest = news(2L, LocalDateTime.of(2024, 2, 1, 0, 0));
+        News oldest = news(1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+        ContentSnapshot snapshot = new ContentSnapshot(List.of(), List.of(oldest, latest), List.of(), LocalDateTime.now());
+        when(contentSnapshotService.getSnapshot()).thenReturn(snapshot);
+
+        CursorPage<NewsSummary> result = newsService.getNewsSummariesByCursor(null, 1);
+
+        assertThat(result.getContent()).extracting(NewsSummary::getTitle).containsExactly("ニュース2");
+        assertThat(PageCursor.decode(result.getNextCursor()).getId()).isEqualTo(2L);
+        verifyNoInteractions(newsRepository);
+    }
+
+    private News news(Long id, LocalDateTime publishedDate) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle("ニュース" + id);
+        news.setContent("本文" + id);
+        news.setLink("https://example.com/news/" + id);
+        news.setPublishedDate(publishedDate);
+        news.setCreatedAt(publishedDate);
+        news.setUpdatedAt(publishedDate);
+        news.setIsPublished(true);
+        return news;
+    }
 }
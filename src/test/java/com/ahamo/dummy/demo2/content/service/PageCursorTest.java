@@ -0,0 +1,69 @@
+package com.ahamo.dummy.demo2.content.service;
+
+import com.ahamo.dummy.demo2.content.dto.CursorPage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTrip() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 3, 15, 9, 30, 12, 123456000), 42L);
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortKey()).isEqualTo(cursor.getSortKey());
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void decode_BlankToken_ShouldReturnNull() {
+        assertThat(PageCursor.decode("")).isNull();
+        assertThat(PageCursor.decode(null)).isNull();
+    }
+
+    @Test
+    void decode_InvalidToken_ShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode("%%%"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void precedes_ShouldFollowDescendingOrder() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 1, 2, 0, 0), 10L);
+
+        assertThat(cursor.precedes(LocalDateTime.of(2024, 1, 1, 0, 0), 99L)).isTrue();
+        assertThat(cursor.precedes(LocalDateTime.of(2024, 1, 2, 0, 0), 9L)).isTrue();
+        assertThat(cursor.precedes(LocalDateTime.of(2024, 1, 2, 0, 0), 10L)).isFalse();
+        assertThat(cursor.precedes(LocalDateTime.of(2024, 1, 3, 0, 0), 1L)).isFalse();
+    }
+
+    @Test
+    void toPage_WithExtraRow_ShouldReturnNextCursorOfLastReturnedRow() {
+        List<Long> rows = List.of(5L, 4L, 3L);
+
+        CursorPage<String> page = PageCursor.toPage(rows, 2,
+            id -> new PageCursor(LocalDateTime.of(2024, 1, 1, 0, 0), id),
+            String::valueOf);
+
+        assertThat(page.getContent()).containsExactly("5", "4");
+        assertThat(PageCursor.decode(page.getNextCursor()).getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void toPage_WithoutExtraRow_ShouldReturnNullNextCursor() {
+        CursorPage<String> page = PageCursor.toPage(List.of(2L, 1L), 2,
+            id -> new PageCursor(LocalDateTime.of(2024, 1, 1, 0, 0), id),
+            String::valueOf);
+
+        assertThat(page.getContent()).containsExactly("2", "1");
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
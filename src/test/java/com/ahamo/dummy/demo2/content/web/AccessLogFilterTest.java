@@ -0,0 +1,60 @@
+package com.ahamo.dummy.demo2.content.web;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessLogFilterTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    @Test
+    void levelOf_WithZeroSampleRate_ShouldSkipSuccessfulRequests() {
+        AccessLogFilter filter = new AccessLogFilter(0.0, Duration.ofSeconds(1));
+
+        assertThat(filter.levelOf(200, FAST, null)).isNull();
+        assertThat(filter.levelOf(404, FAST, null)).isNull();
+    }
+
+    @Test
+    void levelOf_WithFullSampleRate_ShouldLogEveryRequest() {
+        AccessLogFilter filter = new AccessLogFilter(1.0, Duration.ofSeconds(1));
+
+        assertThat(filter.levelOf(200, FAST, null)).isEqualTo(Level.INFO);
+    }
+
+    @Test
+    void levelOf_ServerErrorsAndSlowRequests_ShouldAlwaysLog() {
+        AccessLogFilter filter = new AccessLogFilter(0.0, Duration.ofSeconds(1));
+
+        assertThat(filter.levelOf(503, FAST, null)).isEqualTo(Level.WARN);
+        assertThat(filter.levelOf(200, SLOW, null)).isEqualTo(Level.WARN);
+        assertThat(filter.levelOf(500, FAST, new IllegalStateException("boom"))).isEqualTo(Level.ERROR);
+    }
+
+    @Test
+    void doFilter_WhenHandlerThrows_ShouldPropagateException() {
+        AccessLogFilter filter = new AccessLogFilter(0.0, Duration.ofSeconds(1));
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/faq"),
+            new MockHttpServletResponse(), chain))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,249 @@
+package com.ahamo.dummy.demo2.content.web;
+
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshot;
+import com.ahamo.dummy.demo2.content.service.ContentSnapshotService;
+import com.ahamo.dummy.demo2.content.service.SnapshotReadScope;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"faqs\":[{\"question\":\"" + "ahamoの料金プランについて".repeat(40) + "\"}]}";
+
+    @Mock
+    private ContentSnapshotService contentSnapshotService;
+
+    private ResponseCacheFilter filter;
+
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    /** サービスがレスポンスの作成時に読むスナップショット */
+    private ContentSnapshot renderedFrom;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCacheFilter(new ResponseBodyCache(100, 512, 0), contentSnapshotService);
+    }
+
+    @Test
+    void doFilter_SameRequestTwice_ShouldRenderOnlyOnce() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot());
+
+        MockHttpServletResponse first = perform(request("/faq"));
+        MockHttpServletResponse second = perform(request("/faq"));
+
+        assertThat(renderCount.get()).isEqualTo(1);
+        assertThat(first.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(second.getContentType()).startsWith("application/json");
+    }
+
+    @Test
+    void doFilter_DifferentParameters_ShouldUseSeparateEntries() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot());
+
+        MockHttpServletRequest pageOne = request("/faq");
+        pageOne.setParameter("page", "1");
+        MockHttpServletRequest pageTwo = request("/faq");
+        pageTwo.setParameter("page", "2");
+
+        perform(pageOne);
+        perform(pageTwo);
+
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_UnusedParameters_ShouldShareEntry() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot());
+
+        MockHttpServletRequest first = request("/faq");
+        first.setParameter("page", "1");
+        first.setParameter("utm_source", "a");
+        MockHttpServletRequest second = request("/faq");
+        second.setParameter("page", "1");
+        second.setParameter("utm_source", "b");
+
+        perform(first);
+        perform(second);
+
+        assertThat(renderCount.get()).isEqualTo(1);
+        assertThat(ResponseCacheFilter.cacheKey(second)).isEqualTo("/faq?page=1");
+    }
+
+    @Test
+    void doFilter_AcceptsGzip_ShouldReturnCompressedBody() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot());
+
+        MockHttpServletRequest request = request("/faq");
+        request.addHeader("Accept-Encoding", "br;q=1.0, gzip;q=0.8");
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc123-gzip\"");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+        assertThat(response.getContentAsByteArray().length).isLessThan(BODY.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void doFilter_WhenVersionChanges_ShouldRenderAgain() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot(), snapshotWithOneFaq());
+
+        perform(request("/faq"));
+        perform(request("/faq"));
+
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_RequestOnOlderSnapshot_ShouldNotRollBackVersion() throws Exception {
+        ContentSnapshot older = emptySnapshot();
+        ContentSnapshot newer = snapshotWithOneFaq();
+        when(contentSnapshotService.getSnapshot()).thenReturn(newer, older, newer);
+
+        perform(request("/faq"));
+        perform(request("/faq"));
+        perform(request("/faq"));
+
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_RenderedFromOlderSnapshot_ShouldNotCacheBody() throws Exception {
+        ContentSnapshot older = emptySnapshot();
+        ContentSnapshot newer = snapshotWithOneFaq();
+        when(contentSnapshotService.getSnapshot()).thenReturn(newer);
+        renderedFrom = older;
+
+        perform(request("/faq"));
+        renderedFrom = newer;
+        perform(request("/faq"));
+        perform(request("/faq"));
+
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_WithoutSnapshot_ShouldBypassCache() throws Exception {
+        perform(request("/faq"));
+        perform(request("/faq"));
+
+        assertThat(renderCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_MatchingIfNoneMatchOnCachedEntry_ShouldReturnNotModified() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot());
+
+        perform(request("/faq/1"));
+        MockHttpServletRequest conditional = request("/faq/1");
+        conditional.addHeader("If-None-Match", "\"abc123\"");
+
+        MockHttpServletResponse response = perform(conditional);
+
+        assertThat(renderCount.get()).isEqualTo(1);
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc123\"");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void doFilter_IfNoneMatchOnGzipVariant_ShouldMatchOnlyGzipEtag() throws Exception {
+        when(contentSnapshotService.getSnapshot()).thenReturn(emptySnapshot());
+
+        perform(request("/faq"));
+        MockHttpServletRequest identityTag = request("/faq");
+        identityTag.addHeader("Accept-Encoding", "gzip");
+        identityTag.addHeader("If-None-Match", "\"abc123\"");
+        MockHttpServletRequest gzipTag = request("/faq");
+        gzipTag.addHeader("Accept-Encoding", "gzip");
+        gzipTag.addHeader("If-None-Match", "\"abc123-gzip\"");
+
+        MockHttpServletResponse full = perform(identityTag);
+        MockHttpServletResponse notModified = perform(gzipTag);
+
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getHeader("ETag")).isEqualTo("\"abc123-gzip\"");
+        assertThat(notModified.getHeader("Vary")).isEqualTo("Accept-Encoding");
+    }
+
+    @Test
+    void gzipEtag_ShouldKeepQuotesAndWeakPrefix() {
+        assertThat(ResponseCacheFilter.gzipEtag("\"abc\"")).isEqualTo("\"abc-gzip\"");
+        assertThat(ResponseCacheFilter.gzipEtag("W/\"abc\"")).isEqualTo("W/\"abc-gzip\"");
+        assertThat(ResponseCacheFilter.gzipEtag(null)).isNull();
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourQualityValues() {
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("identity")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip(null)).isFalse();
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1" + path);
+        request.setContextPath("/api/v1");
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                renderCount.incrementAndGet();
+                SnapshotReadScope.record(renderedFrom);
+                resp.setContentType("application/json");
+                resp.setHeader("ETag", "\"abc123\"");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private ContentSnapshot emptySnapshot() {
+        return new ContentSnapshot(List.of(), List.of(), List.of(), LocalDateTime.now());
+    }
+
+    private ContentSnapshot snapshotWithOneFaq() {
+        Faq faq = new Faq();
+        faq.setId(1L);
+        faq.setCategory(Faq.FaqCategory.PLAN);
+        faq.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return new ContentSnapshot(List.of(), List.of(), List.of(faq), LocalDateTime.now());
+    }
+
+    private String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ahamo.dummy.demo2.content;
+
+import com.ahamo.dummy.demo2.content.entity.Campaign;
+import com.ahamo.dummy.demo2.content.entity.Faq;
+import com.ahamo.dummy.demo2.content.entity.News;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * ベンチマーク・負荷試験用の本番相当の長さの日本語コンテンツを生成する。乱数は固定シードで再現可能にする。
+ */
+public final class SampleContent {
+
+    private static final String CHARACTERS =
+        "あいうえおかきくけこさしすせそたちつてとなにぬねのはひふへほまみむめもやゆよらりるれろわをん"
+        + "アイウエオカキクケコサシスセソタチツテトナニヌネノハヒフヘホマミムメモラリルレロ"
+        + "料金月額通信端末契約申込支払請求海外利用可能手続確認変更解約番号画面設定開始終了";
+
+    private final Random random;
+
+    public SampleContent(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public String text(int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(i > 0 && i % 40 == 0 ? '。' : CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+        }
+        return builder.toString();
+    }
+
+    public Campaign campaign(long id) {
+        Campaign campaign = new Campaign();
+        campaign.setId(id);
+        campaign.setTitle(text(15, 40));
+        campaign.setDescription(text(100, 400));
+        campaign.setImageUrl("https://example.com/images/campaign-" + id + ".png");
+        campaign.setLink("https://example.com/campaigns/" + id);
+        campaign.setCreatedAt(timestamp());
+        campaign.setUpdatedAt(campaign.getCreatedAt());
+        campaign.setIsActive(true);
+        return campaign;
+    }
+
+    public News news(long id) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle(text(15, 50));
+        news.setContent(text(200, 1200));
+        news.setLink("https://example.com/news/" + id);
+        news.setPublishedDate(timestamp());
+        news.setCreatedAt(news.getPublishedDate());
+        news.setUpdatedAt(news.getPublishedDate());
+        news.setIsPublished(true);
+        return news;
+    }
+
+    public Faq faq(long id) {
+        Faq.FaqCategory[] categories = Faq.FaqCategory.values();
+        Faq faq = new Faq();
+        faq.setId(id);
+        faq.setQuestion(text(20, 60));
+        faq.setAnswer(text(100, 600));
+        faq.setCategory(categories[(int) (id % categories.length)]);
+        faq.setCreatedAt(timestamp());
+        faq.setUpdatedAt(faq.getCreatedAt());
+        faq.setIsActive(true);
+        return faq;
+    }
+
+    private LocalDateTime timestamp() {
+        return LocalDateTime.of(2023, 1, 1, 0, 0).plusMinutes(random.nextInt(60 * 24 * 365));
+    }
+}